@@ -10,20 +10,35 @@
 
 package org.junit.jupiter.api;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
+import org.opentest4j.AssertionFailedError;
 import org.opentest4j.MultipleFailuresError;
 
 /**
  * {@code AssertAll} is a collection of utility methods that support asserting
  * multiple conditions in tests at once.
  *
+ * <p>The concurrent variants execute the supplied executables on a shared pool
+ * of daemon threads, limiting the number of executables running at the same
+ * time to the supplied parallelism. Failures are nevertheless reported in the
+ * order in which the executables were supplied.
+ *
  * @since 5.0
  */
 class AssertAll {
@@ -65,4 +80,184 @@ class AssertAll {
 		}
 	}
 
+	static void assertAllConcurrently(int parallelism, Executable... executables) {
+		assertAllConcurrently(null, parallelism, executables);
+	}
+
+	static void assertAllConcurrently(String heading, int parallelism, Executable... executables) {
+		assertAllConcurrently(heading, parallelism, null, executables);
+	}
+
+	static void assertAllConcurrently(String heading, int parallelism, Duration timeout,
+			Executable... executables) {
+		Preconditions.notEmpty(executables, "executables array must not be null or empty");
+		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
+		assertAllConcurrently(heading, parallelism, timeout, Arrays.stream(executables));
+	}
+
+	static void assertAllConcurrently(String heading, int parallelism, Duration timeout,
+			Stream<Executable> executables) {
+		Preconditions.notNull(executables, "executables must not be null");
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than zero");
+		Preconditions.condition(timeout == null || !(timeout.isNegative() || timeout.isZero()),
+			"timeout must be positive");
+
+		ConcurrentExecution execution = new ConcurrentExecution(parallelism, timeout);
+		try {
+			execution.submit(executables.iterator());
+			MultipleFailuresError multipleFailuresError = new MultipleFailuresError(heading, execution.awaitFailures());
+
+			if (multipleFailuresError.hasFailures()) {
+				throw multipleFailuresError;
+			}
+		}
+		catch (InterruptedException ex) {
+			execution.cancel(0);
+			Thread.currentThread().interrupt();
+			ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+	/**
+	 * State of a single invocation of one of the concurrent variants, shared
+	 * by the calling thread and the worker threads.
+	 */
+	private static class ConcurrentExecution {
+
+		private final Semaphore permits;
+		private final long timeoutInNanos;
+		private final long deadline;
+		private final AtomicBoolean halted = new AtomicBoolean();
+		private final List<Future<Throwable>> futures = new ArrayList<>();
+		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		private boolean timedOutBeforeSubmission;
+
+		ConcurrentExecution(int parallelism, Duration timeout) {
+			this.permits = new Semaphore(parallelism);
+			this.timeoutInNanos = (timeout == null ? 0 : timeout.toNanos());
+			this.deadline = System.nanoTime() + this.timeoutInNanos;
+		}
+
+		/**
+		 * Submit the supplied executables in order, blocking while the maximum
+		 * number of executables is running.
+		 *
+		 * <p>Submission stops as soon as an executable threw an exception that
+		 * is not an {@link AssertionError} or the timeout expired. If obtaining
+		 * or submitting the next executable fails, all executables submitted
+		 * so far are cancelled.
+		 */
+		void submit(Iterator<Executable> executables) throws InterruptedException {
+			try {
+				while (!this.halted.get() && executables.hasNext()) {
+					Executable executable = executables.next();
+					Preconditions.notNull(executable, "individual executables must not be null");
+					if (!acquirePermit()) {
+						this.timedOutBeforeSubmission = true;
+						return;
+					}
+					this.futures.add(AssertionThreadPool.executorService.submit(() -> execute(executable)));
+				}
+			}
+			catch (Throwable throwable) {
+				cancel(0);
+				throw throwable;
+			}
+		}
+
+		private boolean acquirePermit() throws InterruptedException {
+			if (this.timeoutInNanos == 0) {
+				this.permits.acquire();
+				return true;
+			}
+			return this.permits.tryAcquire(remainingNanos(), TimeUnit.NANOSECONDS);
+		}
+
+		private Throwable execute(Executable executable) {
+			Thread thread = Thread.currentThread();
+			ClassLoader originalClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader(this.contextClassLoader);
+			try {
+				executable.execute();
+				return null;
+			}
+			catch (AssertionError assertionError) {
+				return assertionError;
+			}
+			catch (Throwable throwable) {
+				this.halted.set(true);
+				return throwable;
+			}
+			finally {
+				thread.setContextClassLoader(originalClassLoader);
+				this.permits.release();
+			}
+		}
+
+		/**
+		 * Wait for all submitted executables and collect their failures in
+		 * declaration order.
+		 *
+		 * <p>The first exception that is not an {@link AssertionError} is
+		 * rethrown immediately after cancelling the remaining executables.
+		 */
+		List<Throwable> awaitFailures() throws InterruptedException {
+			List<Throwable> failures = new ArrayList<>();
+			for (int i = 0; i < this.futures.size(); i++) {
+				Throwable failure;
+				try {
+					failure = await(this.futures.get(i));
+				}
+				catch (TimeoutException ex) {
+					this.futures.get(i).cancel(true);
+					failures.add(new AssertionFailedError(
+						"executable #" + (i + 1) + " timed out after " + timeoutInMillis() + " ms"));
+					continue;
+				}
+				if (failure instanceof AssertionError) {
+					failures.add(failure);
+				}
+				else if (failure != null) {
+					cancel(i + 1);
+					ExceptionUtils.throwAsUncheckedException(failure);
+				}
+			}
+			if (this.timedOutBeforeSubmission) {
+				failures.add(new AssertionFailedError("executables after #" + this.futures.size()
+						+ " were not executed before the timeout of " + timeoutInMillis() + " ms"));
+			}
+			return failures;
+		}
+
+		private Throwable await(Future<Throwable> future) throws InterruptedException, TimeoutException {
+			try {
+				if (this.timeoutInNanos == 0) {
+					return future.get();
+				}
+				return future.get(Math.max(0, remainingNanos()), TimeUnit.NANOSECONDS);
+			}
+			catch (ExecutionException ex) {
+				return ex.getCause();
+			}
+			catch (CancellationException ex) {
+				return null;
+			}
+		}
+
+		void cancel(int fromIndex) {
+			for (int i = fromIndex; i < this.futures.size(); i++) {
+				this.futures.get(i).cancel(true);
+			}
+		}
+
+		private long remainingNanos() {
+			return this.deadline - System.nanoTime();
+		}
+
+		private long timeoutInMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(this.timeoutInNanos);
+		}
+
+	}
+
 }
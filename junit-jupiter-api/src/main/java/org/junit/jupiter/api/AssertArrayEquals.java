@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.AssertionUtils.nullSafeGet;
 import static org.junit.platform.commons.util.ReflectionUtils.isArray;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -26,406 +27,445 @@ import java.util.function.Supplier;
  * {@code AssertArrayEquals} is a collection of utility methods that support asserting
  * array equality in tests.
  *
+ * <p>Primitive arrays of equal length are first compared in bulk via
+ * {@link Arrays#equals}; they are only traversed element by element in order
+ * to locate the first difference for the failure message.
+ *
  * @since 5.0
  */
 class AssertArrayEquals {
 
 	static void assertArrayEquals(boolean[] expected, boolean[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(boolean[] expected, boolean[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(boolean[] expected, boolean[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, null, messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(char[] expected, char[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(char[] expected, char[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(char[] expected, char[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, null, messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(byte[] expected, byte[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(byte[] expected, byte[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(byte[] expected, byte[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, null, messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(short[] expected, short[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(short[] expected, short[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(short[] expected, short[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, null, messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(int[] expected, int[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(int[] expected, int[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(int[] expected, int[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, null, messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(long[] expected, long[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(long[] expected, long[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(long[] expected, long[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, null, messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(float[] expected, float[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(float[] expected, float[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(float[] expected, float[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, null, messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(float[] expected, float[] actual, float delta) {
-		assertArrayEquals(expected, actual, delta, () -> null);
+		assertArrayEquals(expected, actual, delta, (String) null);
 	}
 
 	static void assertArrayEquals(float[] expected, float[] actual, float delta, String message) {
-		assertArrayEquals(expected, actual, delta, () -> message);
+		assertArrayEquals(expected, actual, delta, null, message, null);
 	}
 
 	static void assertArrayEquals(float[] expected, float[] actual, float delta, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, delta, null, messageSupplier);
+		assertArrayEquals(expected, actual, delta, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(double[] expected, double[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(double[] expected, double[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(double[] expected, double[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, null, messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(double[] expected, double[] actual, double delta) {
-		assertArrayEquals(expected, actual, delta, () -> null);
+		assertArrayEquals(expected, actual, delta, (String) null);
 	}
 
 	static void assertArrayEquals(double[] expected, double[] actual, double delta, String message) {
-		assertArrayEquals(expected, actual, delta, () -> message);
+		assertArrayEquals(expected, actual, delta, null, message, null);
 	}
 
 	static void assertArrayEquals(double[] expected, double[] actual, double delta, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, delta, null, messageSupplier);
+		assertArrayEquals(expected, actual, delta, null, null, messageSupplier);
 	}
 
 	static void assertArrayEquals(Object[] expected, Object[] actual) {
-		assertArrayEquals(expected, actual, () -> null);
+		assertArrayEquals(expected, actual, (String) null);
 	}
 
 	static void assertArrayEquals(Object[] expected, Object[] actual, String message) {
-		assertArrayEquals(expected, actual, () -> message);
+		assertArrayEquals(expected, actual, null, message, null);
 	}
 
 	static void assertArrayEquals(Object[] expected, Object[] actual, Supplier<String> messageSupplier) {
-		assertArrayEquals(expected, actual, new ArrayDeque<>(), messageSupplier);
+		assertArrayEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	private static void assertArrayEquals(boolean[] expected, boolean[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(char[] expected, char[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(byte[] expected, byte[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(short[] expected, short[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(int[] expected, int[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(long[] expected, long[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(float[] expected, float[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i])) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(float[] expected, float[] actual, float delta, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		AssertionUtils.assertValidDelta(delta);
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i], delta)) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(double[] expected, double[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i])) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(double[] expected, double[] actual, double delta, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		AssertionUtils.assertValidDelta(delta);
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i], delta)) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArrayEquals(Object[] expected, Object[] actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertArraysNotNull(expected, actual, indexes, messageSupplier);
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
+		assertArraysNotNull(expected, actual, indexes, message, messageSupplier);
+		assertArraysHaveSameLength(expected.length, actual.length, indexes, message, messageSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			Object expectedElement = expected[i];
 			Object actualElement = actual[i];
 
-			if (expectedElement == actualElement) {
+			if (expectedElement == actualElement
+					|| (!isArray(expectedElement) && Objects.equals(expectedElement, actualElement))) {
 				continue;
 			}
 
-			indexes.addLast(i);
-			assertArrayElementsEqual(expectedElement, actualElement, indexes, messageSupplier);
+			indexes = nullSafeIndexes(indexes, i);
+			assertArrayElementsEqual(expectedElement, actualElement, indexes, message, messageSupplier);
 			indexes.removeLast();
 		}
 	}
 
 	private static void assertArrayElementsEqual(Object expected, Object actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected instanceof Object[] && actual instanceof Object[]) {
-			assertArrayEquals((Object[]) expected, (Object[]) actual, indexes, messageSupplier);
+			assertArrayEquals((Object[]) expected, (Object[]) actual, indexes, message, messageSupplier);
 		}
 		else if (expected instanceof byte[] && actual instanceof byte[]) {
-			assertArrayEquals((byte[]) expected, (byte[]) actual, indexes, messageSupplier);
+			assertArrayEquals((byte[]) expected, (byte[]) actual, indexes, message, messageSupplier);
 		}
 		else if (expected instanceof short[] && actual instanceof short[]) {
-			assertArrayEquals((short[]) expected, (short[]) actual, indexes, messageSupplier);
+			assertArrayEquals((short[]) expected, (short[]) actual, indexes, message, messageSupplier);
 		}
 		else if (expected instanceof int[] && actual instanceof int[]) {
-			assertArrayEquals((int[]) expected, (int[]) actual, indexes, messageSupplier);
+			assertArrayEquals((int[]) expected, (int[]) actual, indexes, message, messageSupplier);
 		}
 		else if (expected instanceof long[] && actual instanceof long[]) {
-			assertArrayEquals((long[]) expected, (long[]) actual, indexes, messageSupplier);
+			assertArrayEquals((long[]) expected, (long[]) actual, indexes, message, messageSupplier);
 		}
 		else if (expected instanceof char[] && actual instanceof char[]) {
-			assertArrayEquals((char[]) expected, (char[]) actual, indexes, messageSupplier);
+			assertArrayEquals((char[]) expected, (char[]) actual, indexes, message, messageSupplier);
 		}
 		else if (expected instanceof float[] && actual instanceof float[]) {
-			assertArrayEquals((float[]) expected, (float[]) actual, indexes, messageSupplier);
+			assertArrayEquals((float[]) expected, (float[]) actual, indexes, message, messageSupplier);
 		}
 		else if (expected instanceof double[] && actual instanceof double[]) {
-			assertArrayEquals((double[]) expected, (double[]) actual, indexes, messageSupplier);
+			assertArrayEquals((double[]) expected, (double[]) actual, indexes, message, messageSupplier);
 		}
 		else if (expected instanceof boolean[] && actual instanceof boolean[]) {
-			assertArrayEquals((boolean[]) expected, (boolean[]) actual, indexes, messageSupplier);
+			assertArrayEquals((boolean[]) expected, (boolean[]) actual, indexes, message, messageSupplier);
 		}
 		else if (!Objects.equals(expected, actual)) {
 			if (expected == null && isArray(actual)) {
-				failExpectedArrayIsNull(indexes, messageSupplier);
+				failExpectedArrayIsNull(indexes, message, messageSupplier);
 			}
 			else if (isArray(expected) && actual == null) {
-				failActualArrayIsNull(indexes, messageSupplier);
+				failActualArrayIsNull(indexes, message, messageSupplier);
 			}
 			else {
-				failArraysNotEqual(expected, actual, indexes, messageSupplier);
+				failArraysNotEqual(expected, actual, indexes, message, messageSupplier);
 			}
 		}
 	}
 
 	private static void assertArraysNotNull(Object expected, Object actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == null) {
-			failExpectedArrayIsNull(indexes, messageSupplier);
+			failExpectedArrayIsNull(indexes, message, messageSupplier);
 		}
 		if (actual == null) {
-			failActualArrayIsNull(indexes, messageSupplier);
+			failActualArrayIsNull(indexes, message, messageSupplier);
 		}
 	}
 
-	private static void failExpectedArrayIsNull(Deque<Integer> indexes, Supplier<String> messageSupplier) {
-		fail(buildPrefix(nullSafeGet(messageSupplier)) + "expected array was <null>" + formatIndexes(indexes));
+	private static void failExpectedArrayIsNull(Deque<Integer> indexes, String message,
+			Supplier<String> messageSupplier) {
+
+		fail(buildPrefix(nullSafeGet(message, messageSupplier)) + "expected array was <null>" + formatIndexes(indexes));
 	}
 
-	private static void failActualArrayIsNull(Deque<Integer> indexes, Supplier<String> messageSupplier) {
-		fail(buildPrefix(nullSafeGet(messageSupplier)) + "actual array was <null>" + formatIndexes(indexes));
+	private static void failActualArrayIsNull(Deque<Integer> indexes, String message,
+			Supplier<String> messageSupplier) {
+
+		fail(buildPrefix(nullSafeGet(message, messageSupplier)) + "actual array was <null>" + formatIndexes(indexes));
 	}
 
 	private static void assertArraysHaveSameLength(int expected, int actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected != actual) {
-			String prefix = buildPrefix(nullSafeGet(messageSupplier));
-			String message = "array lengths differ" + formatIndexes(indexes) + ", expected: <" + expected
+			String prefix = buildPrefix(nullSafeGet(message, messageSupplier));
+			String difference = "array lengths differ" + formatIndexes(indexes) + ", expected: <" + expected
 					+ "> but was: <" + actual + ">";
-			fail(prefix + message);
+			fail(prefix + difference);
 		}
 	}
 
 	private static void failArraysNotEqual(Object expected, Object actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
-		String prefix = buildPrefix(nullSafeGet(messageSupplier));
-		String message = "array contents differ" + formatIndexes(indexes) + ", " + formatValues(expected, actual);
-		fail(prefix + message);
+		String prefix = buildPrefix(nullSafeGet(message, messageSupplier));
+		String difference = "array contents differ" + formatIndexes(indexes) + ", " + formatValues(expected, actual);
+		fail(prefix + difference);
 	}
 
 	private static Deque<Integer> nullSafeIndexes(Deque<Integer> indexes, int newIndex) {
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.AssertionUtils.buildPrefix;
+import static org.junit.jupiter.api.AssertionUtils.fail;
+import static org.junit.jupiter.api.AssertionUtils.formatValues;
+import static org.junit.jupiter.api.AssertionUtils.nullSafeGet;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * {@code AssertDeepEquals} is a collection of utility methods that support
+ * asserting structural equality of arbitrarily nested arrays, iterables and
+ * maps in tests.
+ *
+ * <p>The values are walked iteratively with an explicit stack of containers,
+ * so deeply nested values cannot overflow the Java stack. Pairs of containers
+ * are tracked by identity, which makes cyclic structures terminate and avoids
+ * comparing shared substructures more than once. The walk stops at the first
+ * difference, whose location is reported as a path expression such as
+ * {@code [3].items[12]}.
+ *
+ * @since 5.0
+ */
+class AssertDeepEquals {
+
+	static void assertDeepEquals(Object expected, Object actual) {
+		assertDeepEquals(expected, actual, (String) null);
+	}
+
+	static void assertDeepEquals(Object expected, Object actual, String message) {
+		if (expected != actual) {
+			new Walk(message, null).compare(expected, actual);
+		}
+	}
+
+	static void assertDeepEquals(Object expected, Object actual, Supplier<String> messageSupplier) {
+		if (expected != actual) {
+			new Walk(null, messageSupplier).compare(expected, actual);
+		}
+	}
+
+	/**
+	 * A single structural comparison, which descends into containers in
+	 * depth-first order.
+	 */
+	private static class Walk {
+
+		private final String message;
+
+		private final Supplier<String> messageSupplier;
+
+		/**
+		 * The containers currently being compared; together, their current
+		 * segments form the path of the values being compared.
+		 */
+		private final Deque<Container> containers = new ArrayDeque<>();
+
+		private final Set<IdentityPair> visited = new HashSet<>();
+
+		Walk(String message, Supplier<String> messageSupplier) {
+			this.message = message;
+			this.messageSupplier = messageSupplier;
+		}
+
+		void compare(Object expected, Object actual) {
+			compareValues(expected, actual);
+			while (!this.containers.isEmpty()) {
+				Container container = this.containers.peek();
+				if (container.advance()) {
+					compareValues(container.expected, container.actual);
+				}
+				else {
+					container.assertExhausted(this);
+					this.containers.pop();
+				}
+			}
+		}
+
+		private void compareValues(Object expected, Object actual) {
+			if (expected == actual) {
+				return;
+			}
+			if (expected == null || actual == null) {
+				failContentsDiffer(expected, actual);
+			}
+			if (expected instanceof Object[] && actual instanceof Object[]) {
+				Object[] expectedArray = (Object[]) expected;
+				Object[] actualArray = (Object[]) actual;
+				if (expectedArray.length != actualArray.length) {
+					failLengthsDiffer(String.valueOf(expectedArray.length), String.valueOf(actualArray.length));
+				}
+				descend(expected, actual, () -> new ArrayContainer(expectedArray, actualArray));
+			}
+			else if (isPrimitiveArray(expected) && expected.getClass() == actual.getClass()) {
+				comparePrimitiveArrays(expected, actual);
+			}
+			else if (expected instanceof Iterable && actual instanceof Iterable) {
+				descend(expected, actual, () -> new IterableContainer((Iterable<?>) expected, (Iterable<?>) actual));
+			}
+			else if (expected instanceof Map && actual instanceof Map) {
+				Map<?, ?> expectedMap = (Map<?, ?>) expected;
+				Map<?, ?> actualMap = (Map<?, ?>) actual;
+				assertSameKeys(expectedMap, actualMap);
+				descend(expected, actual, () -> new MapContainer(expectedMap, actualMap));
+			}
+			else if (!expected.equals(actual)) {
+				failContentsDiffer(expected, actual);
+			}
+		}
+
+		private void descend(Object expected, Object actual, Supplier<Container> containerFactory) {
+			if (this.visited.add(new IdentityPair(expected, actual))) {
+				this.containers.push(containerFactory.get());
+			}
+		}
+
+		private void comparePrimitiveArrays(Object expected, Object actual) {
+			if (primitiveArraysEqual(expected, actual)) {
+				return;
+			}
+			int expectedLength = Array.getLength(expected);
+			int actualLength = Array.getLength(actual);
+			if (expectedLength != actualLength) {
+				failLengthsDiffer(String.valueOf(expectedLength), String.valueOf(actualLength));
+			}
+			for (int i = 0; i < expectedLength; i++) {
+				Object expectedElement = Array.get(expected, i);
+				Object actualElement = Array.get(actual, i);
+				if (!expectedElement.equals(actualElement)) {
+					this.containers.push(new IndexSegment(i));
+					failContentsDiffer(expectedElement, actualElement);
+				}
+			}
+		}
+
+		private void assertSameKeys(Map<?, ?> expected, Map<?, ?> actual) {
+			for (Object key : expected.keySet()) {
+				if (!actual.containsKey(key)) {
+					failKeysDiffer("missing key <" + AssertionUtils.toString(key) + ">");
+				}
+			}
+			if (expected.size() != actual.size()) {
+				for (Object key : actual.keySet()) {
+					if (!expected.containsKey(key)) {
+						failKeysDiffer("unexpected key <" + AssertionUtils.toString(key) + ">");
+					}
+				}
+			}
+		}
+
+		private void failContentsDiffer(Object expected, Object actual) {
+			fail(prefix() + "contents differ" + formatPath() + ", " + formatValues(expected, actual));
+		}
+
+		private void failLengthsDiffer(String expectedLength, String actualLength) {
+			fail(prefix() + "lengths differ" + formatPath() + ", expected: <" + expectedLength + "> but was: <"
+					+ actualLength + ">");
+		}
+
+		private void failKeysDiffer(String difference) {
+			fail(prefix() + "keys differ" + formatPath() + ", " + difference);
+		}
+
+		private String prefix() {
+			return buildPrefix(nullSafeGet(this.message, this.messageSupplier));
+		}
+
+		private String formatPath() {
+			StringBuilder path = new StringBuilder();
+			for (Iterator<Container> iterator = this.containers.descendingIterator(); iterator.hasNext();) {
+				iterator.next().appendSegment(path);
+			}
+			return (path.length() == 0 ? "" : " at " + path);
+		}
+
+	}
+
+	private static boolean isPrimitiveArray(Object value) {
+		return value.getClass().isArray() && value.getClass().getComponentType().isPrimitive();
+	}
+
+	private static boolean primitiveArraysEqual(Object expected, Object actual) {
+		if (expected instanceof int[]) {
+			return Arrays.equals((int[]) expected, (int[]) actual);
+		}
+		if (expected instanceof long[]) {
+			return Arrays.equals((long[]) expected, (long[]) actual);
+		}
+		if (expected instanceof double[]) {
+			return Arrays.equals((double[]) expected, (double[]) actual);
+		}
+		if (expected instanceof byte[]) {
+			return Arrays.equals((byte[]) expected, (byte[]) actual);
+		}
+		if (expected instanceof char[]) {
+			return Arrays.equals((char[]) expected, (char[]) actual);
+		}
+		if (expected instanceof boolean[]) {
+			return Arrays.equals((boolean[]) expected, (boolean[]) actual);
+		}
+		if (expected instanceof float[]) {
+			return Arrays.equals((float[]) expected, (float[]) actual);
+		}
+		return Arrays.equals((short[]) expected, (short[]) actual);
+	}
+
+	/**
+	 * A pair of containers being compared, which yields pairs of their
+	 * elements one at a time.
+	 */
+	private static abstract class Container {
+
+		Object expected;
+		Object actual;
+
+		/**
+		 * Advance to the next pair of elements.
+		 *
+		 * @return {@code false} if there are no more elements to compare
+		 */
+		abstract boolean advance();
+
+		/**
+		 * Fail if one of the containers has more elements than the other.
+		 */
+		void assertExhausted(Walk walk) {
+		}
+
+		/**
+		 * Append the path segment of the current pair of elements.
+		 */
+		abstract void appendSegment(StringBuilder path);
+
+	}
+
+	/**
+	 * Path segment of a differing element of primitive arrays, which are
+	 * compared as a whole rather than element by element.
+	 */
+	private static class IndexSegment extends Container {
+
+		private final int index;
+
+		IndexSegment(int index) {
+			this.index = index;
+		}
+
+		@Override
+		boolean advance() {
+			return false;
+		}
+
+		@Override
+		void appendSegment(StringBuilder path) {
+			path.append('[').append(this.index).append(']');
+		}
+
+	}
+
+	private static class ArrayContainer extends Container {
+
+		private final Object[] expectedArray;
+		private final Object[] actualArray;
+		private int index = -1;
+
+		ArrayContainer(Object[] expectedArray, Object[] actualArray) {
+			this.expectedArray = expectedArray;
+			this.actualArray = actualArray;
+		}
+
+		@Override
+		boolean advance() {
+			if (++this.index == this.expectedArray.length) {
+				return false;
+			}
+			this.expected = this.expectedArray[this.index];
+			this.actual = this.actualArray[this.index];
+			return true;
+		}
+
+		@Override
+		void appendSegment(StringBuilder path) {
+			path.append('[').append(this.index).append(']');
+		}
+
+	}
+
+	private static class IterableContainer extends Container {
+
+		private final Iterator<?> expectedIterator;
+		private final Iterator<?> actualIterator;
+		private int index = -1;
+
+		IterableContainer(Iterable<?> expected, Iterable<?> actual) {
+			this.expectedIterator = expected.iterator();
+			this.actualIterator = actual.iterator();
+		}
+
+		@Override
+		boolean advance() {
+			if (!this.expectedIterator.hasNext() || !this.actualIterator.hasNext()) {
+				return false;
+			}
+			this.index++;
+			this.expected = this.expectedIterator.next();
+			this.actual = this.actualIterator.next();
+			return true;
+		}
+
+		@Override
+		void assertExhausted(Walk walk) {
+			if (this.expectedIterator.hasNext() || this.actualIterator.hasNext()) {
+				// Only count as many surplus elements as can be reported, since
+				// the iterables might be lazy or even infinite.
+				int processed = this.index + 1;
+				BoundedFormatter formatter = BoundedFormatter.fromSystemProperties();
+				String expectedCount = formatter.countElements(this.expectedIterator, processed);
+				String actualCount = formatter.countElements(this.actualIterator, processed);
+				// The difference is located at the iterables, not at an element.
+				this.index = -1;
+				walk.failLengthsDiffer(expectedCount, actualCount);
+			}
+		}
+
+		@Override
+		void appendSegment(StringBuilder path) {
+			if (this.index >= 0) {
+				path.append('[').append(this.index).append(']');
+			}
+		}
+
+	}
+
+	private static class MapContainer extends Container {
+
+		private final Iterator<? extends Map.Entry<?, ?>> expectedEntries;
+		private final Map<?, ?> actualMap;
+		private Object key;
+
+		MapContainer(Map<?, ?> expectedMap, Map<?, ?> actualMap) {
+			this.expectedEntries = expectedMap.entrySet().iterator();
+			this.actualMap = actualMap;
+		}
+
+		@Override
+		boolean advance() {
+			if (!this.expectedEntries.hasNext()) {
+				return false;
+			}
+			Map.Entry<?, ?> entry = this.expectedEntries.next();
+			this.key = entry.getKey();
+			this.expected = entry.getValue();
+			this.actual = this.actualMap.get(this.key);
+			return true;
+		}
+
+		@Override
+		void appendSegment(StringBuilder path) {
+			if (this.key instanceof String && isIdentifier((String) this.key)) {
+				path.append(path.length() == 0 ? "" : ".").append(this.key);
+			}
+			else if (this.key instanceof String) {
+				path.append("[\"").append(this.key).append("\"]");
+			}
+			else {
+				path.append('[').append(AssertionUtils.toString(this.key)).append(']');
+			}
+		}
+
+		private static boolean isIdentifier(String key) {
+			if (key.isEmpty() || !Character.isJavaIdentifierStart(key.charAt(0))) {
+				return false;
+			}
+			for (int i = 1; i < key.length(); i++) {
+				if (!Character.isJavaIdentifierPart(key.charAt(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * A pair of values compared by identity.
+	 */
+	private static class IdentityPair {
+
+		private final Object expected;
+		private final Object actual;
+
+		IdentityPair(Object expected, Object actual) {
+			this.expected = expected;
+			this.actual = actual;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof IdentityPair)) {
+				return false;
+			}
+			IdentityPair that = (IdentityPair) obj;
+			return this.expected == that.expected && this.actual == that.actual;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(this.expected) + System.identityHashCode(this.actual);
+		}
+
+	}
+
+}
@@ -28,11 +28,13 @@ import java.util.function.Supplier;
 class AssertEquals {
 
 	static void assertEquals(byte expected, byte actual) {
-		assertEquals(expected, actual, () -> null);
+		assertEquals(expected, actual, (String) null);
 	}
 
 	static void assertEquals(byte expected, byte actual, String message) {
-		assertEquals(expected, actual, () -> message);
+		if (expected != actual) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(byte expected, byte actual, Supplier<String> messageSupplier) {
@@ -42,11 +44,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(char expected, char actual) {
-		assertEquals(expected, actual, () -> null);
+		assertEquals(expected, actual, (String) null);
 	}
 
 	static void assertEquals(char expected, char actual, String message) {
-		assertEquals(expected, actual, () -> message);
+		if (expected != actual) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(char expected, char actual, Supplier<String> messageSupplier) {
@@ -56,11 +60,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(double expected, double actual) {
-		assertEquals(expected, actual, () -> null);
+		assertEquals(expected, actual, (String) null);
 	}
 
 	static void assertEquals(double expected, double actual, String message) {
-		assertEquals(expected, actual, () -> message);
+		if (!doublesAreEqual(expected, actual)) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(double expected, double actual, Supplier<String> messageSupplier) {
@@ -70,11 +76,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(double expected, double actual, double delta) {
-		assertEquals(expected, actual, delta, () -> null);
+		assertEquals(expected, actual, delta, (String) null);
 	}
 
 	static void assertEquals(double expected, double actual, double delta, String message) {
-		assertEquals(expected, actual, delta, () -> message);
+		if (!doublesAreEqual(expected, actual, delta)) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(double expected, double actual, double delta, Supplier<String> messageSupplier) {
@@ -84,11 +92,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(float expected, float actual) {
-		assertEquals(expected, actual, () -> null);
+		assertEquals(expected, actual, (String) null);
 	}
 
 	static void assertEquals(float expected, float actual, String message) {
-		assertEquals(expected, actual, () -> message);
+		if (!floatsAreEqual(expected, actual)) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(float expected, float actual, Supplier<String> messageSupplier) {
@@ -98,11 +108,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(float expected, float actual, float delta) {
-		assertEquals(expected, actual, delta, () -> null);
+		assertEquals(expected, actual, delta, (String) null);
 	}
 
 	static void assertEquals(float expected, float actual, float delta, String message) {
-		assertEquals(expected, actual, delta, () -> message);
+		if (!floatsAreEqual(expected, actual, delta)) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(float expected, float actual, float delta, Supplier<String> messageSupplier) {
@@ -112,11 +124,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(short expected, short actual) {
-		assertEquals(expected, actual, () -> null);
+		assertEquals(expected, actual, (String) null);
 	}
 
 	static void assertEquals(short expected, short actual, String message) {
-		assertEquals(expected, actual, () -> message);
+		if (expected != actual) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(short expected, short actual, Supplier<String> messageSupplier) {
@@ -126,11 +140,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(int expected, int actual) {
-		assertEquals(expected, actual, () -> null);
+		assertEquals(expected, actual, (String) null);
 	}
 
 	static void assertEquals(int expected, int actual, String message) {
-		assertEquals(expected, actual, () -> message);
+		if (expected != actual) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(int expected, int actual, Supplier<String> messageSupplier) {
@@ -140,11 +156,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(long expected, long actual) {
-		assertEquals(expected, actual, () -> null);
+		assertEquals(expected, actual, (String) null);
 	}
 
 	static void assertEquals(long expected, long actual, String message) {
-		assertEquals(expected, actual, () -> message);
+		if (expected != actual) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(long expected, long actual, Supplier<String> messageSupplier) {
@@ -154,11 +172,13 @@ class AssertEquals {
 	}
 
 	static void assertEquals(Object expected, Object actual) {
-		assertEquals(expected, actual, () -> null);
+		assertEquals(expected, actual, (String) null);
 	}
 
 	static void assertEquals(Object expected, Object actual, String message) {
-		assertEquals(expected, actual, () -> message);
+		if (!objectsAreEqual(expected, actual)) {
+			failNotEqual(expected, actual, message);
+		}
 	}
 
 	static void assertEquals(Object expected, Object actual, Supplier<String> messageSupplier) {
@@ -24,29 +24,31 @@ import java.util.function.Supplier;
 class AssertFalse {
 
 	static void assertFalse(boolean condition) {
-		assertFalse(() -> condition, () -> null);
+		assertFalse(condition, (String) null);
 	}
 
 	static void assertFalse(boolean condition, String message) {
-		assertFalse(() -> condition, () -> message);
+		if (condition) {
+			fail(message);
+		}
 	}
 
 	static void assertFalse(boolean condition, Supplier<String> messageSupplier) {
-		assertFalse(() -> condition, messageSupplier);
+		if (condition) {
+			fail(messageSupplier);
+		}
 	}
 
 	static void assertFalse(BooleanSupplier booleanSupplier) {
-		assertFalse(booleanSupplier, () -> null);
+		assertFalse(booleanSupplier.getAsBoolean(), (String) null);
 	}
 
 	static void assertFalse(BooleanSupplier booleanSupplier, String message) {
-		assertFalse(booleanSupplier, () -> message);
+		assertFalse(booleanSupplier.getAsBoolean(), message);
 	}
 
 	static void assertFalse(BooleanSupplier booleanSupplier, Supplier<String> messageSupplier) {
-		if (booleanSupplier.getAsBoolean()) {
-			fail(messageSupplier);
-		}
+		assertFalse(booleanSupplier.getAsBoolean(), messageSupplier);
 	}
 
 }
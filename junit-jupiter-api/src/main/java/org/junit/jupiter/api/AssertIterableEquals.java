@@ -20,7 +20,6 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
@@ -32,24 +31,24 @@ import java.util.function.Supplier;
 class AssertIterableEquals {
 
 	static void assertIterableEquals(Iterable<?> expected, Iterable<?> actual) {
-		assertIterableEquals(expected, actual, () -> null);
+		assertIterableEquals(expected, actual, (String) null);
 	}
 
 	static void assertIterableEquals(Iterable<?> expected, Iterable<?> actual, String message) {
-		assertIterableEquals(expected, actual, () -> message);
+		assertIterableEquals(expected, actual, null, message, null);
 	}
 
 	static void assertIterableEquals(Iterable<?> expected, Iterable<?> actual, Supplier<String> messageSupplier) {
-		assertIterableEquals(expected, actual, new ArrayDeque<>(), messageSupplier);
+		assertIterableEquals(expected, actual, null, null, messageSupplier);
 	}
 
 	private static void assertIterableEquals(Iterable<?> expected, Iterable<?> actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == actual) {
 			return;
 		}
-		assertIterablesNotNull(expected, actual, indexes, messageSupplier);
+		assertIterablesNotNull(expected, actual, indexes, message, messageSupplier);
 
 		Iterator<?> expectedIterator = expected.iterator();
 		Iterator<?> actualIterator = actual.iterator();
@@ -60,71 +59,79 @@ class AssertIterableEquals {
 			Object expectedElement = expectedIterator.next();
 			Object actualElement = actualIterator.next();
 
-			if (expectedElement == actualElement) {
+			if (expectedElement == actualElement || (!(expectedElement instanceof Iterable)
+					&& Objects.equals(expectedElement, actualElement))) {
 				continue;
 			}
 
+			indexes = (indexes != null ? indexes : new ArrayDeque<>());
 			indexes.addLast(processed - 1);
-			assertIterableElementsEqual(expectedElement, actualElement, indexes, messageSupplier);
+			assertIterableElementsEqual(expectedElement, actualElement, indexes, message, messageSupplier);
 			indexes.removeLast();
 		}
 
-		assertIteratorsAreEmpty(expectedIterator, actualIterator, processed, indexes, messageSupplier);
+		assertIteratorsAreEmpty(expectedIterator, actualIterator, processed, indexes, message, messageSupplier);
 	}
 
 	private static void assertIterableElementsEqual(Object expected, Object actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 		if (expected instanceof Iterable && actual instanceof Iterable) {
-			assertIterableEquals((Iterable<?>) expected, (Iterable<?>) actual, indexes, messageSupplier);
+			assertIterableEquals((Iterable<?>) expected, (Iterable<?>) actual, indexes, message, messageSupplier);
 		}
 		else if (!Objects.equals(expected, actual)) {
-			assertIterablesNotNull(expected, actual, indexes, messageSupplier);
-			failIterablesNotEqual(expected, actual, indexes, messageSupplier);
+			assertIterablesNotNull(expected, actual, indexes, message, messageSupplier);
+			failIterablesNotEqual(expected, actual, indexes, message, messageSupplier);
 		}
 	}
 
 	private static void assertIterablesNotNull(Object expected, Object actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
 		if (expected == null) {
-			failExpectedIterableIsNull(indexes, messageSupplier);
+			failExpectedIterableIsNull(indexes, message, messageSupplier);
 		}
 		if (actual == null) {
-			failActualIterableIsNull(indexes, messageSupplier);
+			failActualIterableIsNull(indexes, message, messageSupplier);
 		}
 	}
 
-	private static void failExpectedIterableIsNull(Deque<Integer> indexes, Supplier<String> messageSupplier) {
-		fail(buildPrefix(nullSafeGet(messageSupplier)) + "expected iterable was <null>" + formatIndexes(indexes));
+	private static void failExpectedIterableIsNull(Deque<Integer> indexes, String message,
+			Supplier<String> messageSupplier) {
+
+		fail(buildPrefix(nullSafeGet(message, messageSupplier)) + "expected iterable was <null>"
+				+ formatIndexes(indexes));
 	}
 
-	private static void failActualIterableIsNull(Deque<Integer> indexes, Supplier<String> messageSupplier) {
-		fail(buildPrefix(nullSafeGet(messageSupplier)) + "actual iterable was <null>" + formatIndexes(indexes));
+	private static void failActualIterableIsNull(Deque<Integer> indexes, String message,
+			Supplier<String> messageSupplier) {
+
+		fail(buildPrefix(nullSafeGet(message, messageSupplier)) + "actual iterable was <null>"
+				+ formatIndexes(indexes));
 	}
 
 	private static void assertIteratorsAreEmpty(Iterator<?> expected, Iterator<?> actual, int processed,
-			Deque<Integer> indexes, Supplier<String> messageSupplier) {
+			Deque<Integer> indexes, String message, Supplier<String> messageSupplier) {
 
 		if (expected.hasNext() || actual.hasNext()) {
-			AtomicInteger expectedCount = new AtomicInteger(processed);
-			expected.forEachRemaining(e -> expectedCount.incrementAndGet());
-
-			AtomicInteger actualCount = new AtomicInteger(processed);
-			actual.forEachRemaining(e -> actualCount.incrementAndGet());
-
-			String prefix = buildPrefix(nullSafeGet(messageSupplier));
-			String message = "iterable lengths differ" + formatIndexes(indexes) + ", expected: <" + expectedCount.get()
-					+ "> but was: <" + actualCount.get() + ">";
-			fail(prefix + message);
+			// Only count as many surplus elements as can be reported, since
+			// the iterables might be lazy or even infinite.
+			BoundedFormatter formatter = BoundedFormatter.fromSystemProperties();
+			String expectedCount = formatter.countElements(expected, processed);
+			String actualCount = formatter.countElements(actual, processed);
+
+			String prefix = buildPrefix(nullSafeGet(message, messageSupplier));
+			String difference = "iterable lengths differ" + formatIndexes(indexes) + ", expected: <" + expectedCount
+					+ "> but was: <" + actualCount + ">";
+			fail(prefix + difference);
 		}
 	}
 
 	private static void failIterablesNotEqual(Object expected, Object actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+			String message, Supplier<String> messageSupplier) {
 
-		String prefix = buildPrefix(nullSafeGet(messageSupplier));
-		String message = "iterable contents differ" + formatIndexes(indexes) + ", " + formatValues(expected, actual);
-		fail(prefix + message);
+		String prefix = buildPrefix(nullSafeGet(message, messageSupplier));
+		String difference = "iterable contents differ" + formatIndexes(indexes) + ", " + formatValues(expected, actual);
+		fail(prefix + difference);
 	}
 
 }
@@ -25,11 +25,13 @@ import java.util.function.Supplier;
 class AssertNull {
 
 	static void assertNull(Object actual) {
-		assertNull(actual, () -> null);
+		assertNull(actual, (String) null);
 	}
 
 	static void assertNull(Object actual, String message) {
-		assertNull(actual, () -> message);
+		if (actual != null) {
+			failNotNull(actual, message);
+		}
 	}
 
 	static void assertNull(Object actual, Supplier<String> messageSupplier) {
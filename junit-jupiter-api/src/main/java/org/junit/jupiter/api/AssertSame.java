@@ -25,11 +25,13 @@ import java.util.function.Supplier;
 class AssertSame {
 
 	static void assertSame(Object expected, Object actual) {
-		assertSame(expected, actual, () -> null);
+		assertSame(expected, actual, (String) null);
 	}
 
 	static void assertSame(Object expected, Object actual, String message) {
-		assertSame(expected, actual, () -> message);
+		if (expected != actual) {
+			failNotSame(expected, actual, message);
+		}
 	}
 
 	static void assertSame(Object expected, Object actual, Supplier<String> messageSupplier) {
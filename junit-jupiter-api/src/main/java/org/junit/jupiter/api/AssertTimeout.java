@@ -16,8 +16,6 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.Duration;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -32,6 +30,10 @@ import org.opentest4j.AssertionFailedError;
  * {@code AssertTimeout} is a collection of utility methods that support asserting
  * the execution of the code under test did not take longer than the timeout duration.
  *
+ * <p>Preemptive timeouts execute the code under test on a shared, lazily
+ * created pool of daemon threads. Idle threads are reused for subsequent
+ * assertions and discarded after a minute of inactivity.
+ *
  * @since 5.0
  */
 class AssertTimeout {
@@ -103,35 +105,39 @@ class AssertTimeout {
 
 	static <T> T assertTimeoutPreemptively(Duration timeout, ThrowingSupplier<T> supplier,
 			Supplier<String> messageSupplier) {
-		ExecutorService executorService = Executors.newSingleThreadExecutor();
-
-		try {
-			Future<T> future = executorService.submit(() -> {
-				try {
-					return supplier.get();
-				}
-				catch (Throwable throwable) {
-					throw ExceptionUtils.throwAsUncheckedException(throwable);
-				}
-			});
-
-			long timeoutInMillis = timeout.toMillis();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		Future<T> future = AssertionThreadPool.executorService.submit(() -> {
+			Thread thread = Thread.currentThread();
+			ClassLoader originalClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader(contextClassLoader);
 			try {
-				return future.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+				return supplier.get();
 			}
-			catch (TimeoutException ex) {
-				throw new AssertionFailedError(
-					buildPrefix(nullSafeGet(messageSupplier)) + "execution timed out after " + timeoutInMillis + " ms");
+			catch (Throwable throwable) {
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
 			}
-			catch (ExecutionException ex) {
-				throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
-			}
-			catch (Throwable ex) {
-				throw ExceptionUtils.throwAsUncheckedException(ex);
+			finally {
+				thread.setContextClassLoader(originalClassLoader);
 			}
+		});
+
+		long timeoutInMillis = timeout.toMillis();
+		try {
+			return future.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException ex) {
+			throw new AssertionFailedError(
+				buildPrefix(nullSafeGet(messageSupplier)) + "execution timed out after " + timeoutInMillis + " ms");
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (Throwable ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
 		}
 		finally {
-			executorService.shutdownNow();
+			// interrupts the executing thread unless it has already completed
+			future.cancel(true);
 		}
 	}
 
@@ -24,29 +24,31 @@ import java.util.function.Supplier;
 class AssertTrue {
 
 	static void assertTrue(boolean condition) {
-		assertTrue(() -> condition, () -> null);
+		assertTrue(condition, (String) null);
 	}
 
 	static void assertTrue(boolean condition, Supplier<String> messageSupplier) {
-		assertTrue(() -> condition, messageSupplier);
+		if (!condition) {
+			fail(messageSupplier);
+		}
 	}
 
 	static void assertTrue(BooleanSupplier booleanSupplier) {
-		assertTrue(booleanSupplier, () -> null);
+		assertTrue(booleanSupplier.getAsBoolean(), (String) null);
 	}
 
 	static void assertTrue(BooleanSupplier booleanSupplier, String message) {
-		assertTrue(booleanSupplier, () -> message);
+		assertTrue(booleanSupplier.getAsBoolean(), message);
 	}
 
 	static void assertTrue(boolean condition, String message) {
-		assertTrue(() -> condition, () -> message);
+		if (!condition) {
+			fail(message);
+		}
 	}
 
 	static void assertTrue(BooleanSupplier booleanSupplier, Supplier<String> messageSupplier) {
-		if (!booleanSupplier.getAsBoolean()) {
-			fail(messageSupplier);
-		}
+		assertTrue(booleanSupplier.getAsBoolean(), messageSupplier);
 	}
 
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holder for the pool of daemon threads shared by all assertions that execute
+ * code asynchronously, which is created on first use.
+ *
+ * <p>Idle threads are reused for subsequent assertions and discarded after a
+ * minute of inactivity. Since a reused thread was not created by the calling
+ * thread, it does not inherit the caller's {@link InheritableThreadLocal}
+ * values, and thread-local values set by one assertion remain visible to the
+ * next one executed on the same thread.
+ *
+ * @since 5.0
+ * @see AssertAll
+ * @see AssertTimeout
+ */
+class AssertionThreadPool {
+
+	static final ExecutorService executorService = Executors.newCachedThreadPool(new ThreadFactory() {
+
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "junit-assertion-worker-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+}
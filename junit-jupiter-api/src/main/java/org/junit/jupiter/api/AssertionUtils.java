@@ -33,7 +33,7 @@ class AssertionUtils {
 	///CLOVER:ON
 
 	static void fail(String message) {
-		fail(() -> message);
+		throw new AssertionFailedError(message);
 	}
 
 	static void fail(String message, Throwable cause) {
@@ -56,6 +56,17 @@ class AssertionUtils {
 		return (messageSupplier != null ? messageSupplier.get() : null);
 	}
 
+	/**
+	 * Get the message from the supplied {@code messageSupplier} if present,
+	 * or else the supplied {@code message}.
+	 *
+	 * <p>Passing the message and its supplier separately, rather than wrapping
+	 * a message in a supplier, avoids allocations on the success path.
+	 */
+	static String nullSafeGet(String message, Supplier<String> messageSupplier) {
+		return (messageSupplier != null ? messageSupplier.get() : message);
+	}
+
 	static String buildPrefix(String message) {
 		return (StringUtils.isNotBlank(message) ? message + " ==> " : "");
 	}
@@ -75,8 +86,9 @@ class AssertionUtils {
 	}
 
 	static String formatValues(Object expected, Object actual) {
-		String expectedString = toString(expected);
-		String actualString = toString(actual);
+		String[] formattedValues = BoundedFormatter.fromSystemProperties().format(expected, actual);
+		String expectedString = formattedValues[0];
+		String actualString = formattedValues[1];
 		if (expectedString.equals(actualString)) {
 			return String.format("expected: %s but was: %s", formatClassAndValue(expected, expectedString),
 				formatClassAndValue(actual, actualString));
@@ -92,7 +104,7 @@ class AssertionUtils {
 		return (value instanceof Class ? "<" + classAndHash + ">" : classAndHash + "<" + valueString + ">");
 	}
 
-	private static String toString(Object obj) {
+	static String toString(Object obj) {
 		return (obj instanceof Class ? getCanonicalName((Class<?>) obj) : String.valueOf(obj));
 	}
 
@@ -33,6 +33,13 @@ import org.opentest4j.MultipleFailuresError;
  * <p>Unless otherwise noted, a <em>failed</em> assertion will throw an
  * {@link org.opentest4j.AssertionFailedError} or a subclass thereof.
  *
+ * <p>To keep failure messages readable, collections and maps with more than
+ * 1000 elements are rendered as a window of elements around their first
+ * difference, and string representations with more than 10000 characters are
+ * rendered as a window of characters around their first difference. These
+ * limits can be changed via the {@code junit.assertions.message.maxElements}
+ * and {@code junit.assertions.message.maxChars} system properties.
+ *
  * @since 5.0
  * @see org.opentest4j.AssertionFailedError
  * @see Assumptions
@@ -954,6 +961,57 @@ public final class Assertions {
 		AssertNotSame.assertNotSame(unexpected, actual, messageSupplier);
 	}
 
+	// --- assertDeepEquals --------------------------------------------------
+
+	/**
+	 * <em>Asserts</em> that {@code expected} and {@code actual} are structurally equal.
+	 * <p>Arrays, primitive arrays, iterables, and maps are compared element by element,
+	 * to any depth of nesting; all other values are compared via
+	 * {@link Object#equals(Object)}. Iterables are equal if their iterators return
+	 * equal elements in the same order, and maps are equal if they contain the same
+	 * keys mapped to equal values; neither need to be of the same type.
+	 * <p>The comparison does not recurse on the Java stack, terminates for cyclic
+	 * structures, and stops at the first difference. The failure message reports
+	 * the path to that difference, e.g. {@code [3].items[12]}, where {@code [3]}
+	 * denotes an index and {@code .items} denotes a map key.
+	 * <p>If both are {@code null}, they are considered equal.
+	 *
+	 * @see #assertArrayEquals(Object[], Object[])
+	 * @see #assertIterableEquals(Iterable, Iterable)
+	 */
+	@API(Experimental)
+	public static void assertDeepEquals(Object expected, Object actual) {
+		AssertDeepEquals.assertDeepEquals(expected, actual);
+	}
+
+	/**
+	 * <em>Asserts</em> that {@code expected} and {@code actual} are structurally equal.
+	 * <p>See Javadoc for {@link #assertDeepEquals(Object, Object)} for an explanation
+	 * of structural equality.
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @see #assertArrayEquals(Object[], Object[], String)
+	 * @see #assertIterableEquals(Iterable, Iterable, String)
+	 */
+	@API(Experimental)
+	public static void assertDeepEquals(Object expected, Object actual, String message) {
+		AssertDeepEquals.assertDeepEquals(expected, actual, message);
+	}
+
+	/**
+	 * <em>Asserts</em> that {@code expected} and {@code actual} are structurally equal.
+	 * <p>See Javadoc for {@link #assertDeepEquals(Object, Object)} for an explanation
+	 * of structural equality.
+	 * <p>If necessary, the failure message will be retrieved lazily from the supplied {@code messageSupplier}.
+	 *
+	 * @see #assertArrayEquals(Object[], Object[], Supplier)
+	 * @see #assertIterableEquals(Iterable, Iterable, Supplier)
+	 */
+	@API(Experimental)
+	public static void assertDeepEquals(Object expected, Object actual, Supplier<String> messageSupplier) {
+		AssertDeepEquals.assertDeepEquals(expected, actual, messageSupplier);
+	}
+
 	// --- assertAll -----------------------------------------------------------
 
 	/**
@@ -1027,6 +1085,92 @@ public final class Assertions {
 		AssertAll.assertAll(heading, executables);
 	}
 
+	/**
+	 * <em>Asserts</em> that <em>all</em> supplied {@code executables} do not throw an
+	 * {@link AssertionError}, executing at most {@code parallelism} of them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Duration, Stream)}
+	 * for an explanation of this method's concurrency and exception handling semantics.
+	 *
+	 * @see #assertAllConcurrently(String, int, Executable...)
+	 * @see #assertAllConcurrently(String, int, Duration, Executable...)
+	 * @see #assertAllConcurrently(String, int, Duration, Stream)
+	 */
+	@API(Experimental)
+	public static void assertAllConcurrently(int parallelism, Executable... executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(parallelism, executables);
+	}
+
+	/**
+	 * <em>Asserts</em> that <em>all</em> supplied {@code executables} do not throw an
+	 * {@link AssertionError}, executing at most {@code parallelism} of them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Duration, Stream)}
+	 * for an explanation of this method's concurrency and exception handling semantics.
+	 *
+	 * @see #assertAllConcurrently(int, Executable...)
+	 * @see #assertAllConcurrently(String, int, Duration, Executable...)
+	 * @see #assertAllConcurrently(String, int, Duration, Stream)
+	 */
+	@API(Experimental)
+	public static void assertAllConcurrently(String heading, int parallelism, Executable... executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, parallelism, executables);
+	}
+
+	/**
+	 * <em>Asserts</em> that <em>all</em> supplied {@code executables} do not throw an
+	 * {@link AssertionError}, executing at most {@code parallelism} of them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Duration, Stream)}
+	 * for an explanation of this method's concurrency and exception handling semantics.
+	 *
+	 * @see #assertAllConcurrently(int, Executable...)
+	 * @see #assertAllConcurrently(String, int, Executable...)
+	 * @see #assertAllConcurrently(String, int, Duration, Stream)
+	 */
+	@API(Experimental)
+	public static void assertAllConcurrently(String heading, int parallelism, Duration timeout,
+			Executable... executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, parallelism, timeout, executables);
+	}
+
+	/**
+	 * <em>Asserts</em> that <em>all</em> supplied {@code executables} do not throw an
+	 * {@link AssertionError}, executing at most {@code parallelism} of them concurrently.
+	 *
+	 * <p>The {@code executables} are executed on a shared pool of daemon threads
+	 * in the order in which the stream supplies them; the stream itself is consumed
+	 * on the calling thread. Failures are aggregated in that order, regardless of
+	 * the order in which the {@code executables} complete, and reported in a
+	 * {@link MultipleFailuresError} that includes the supplied {@code heading}.
+	 * If an {@code executable} throws an exception that is not an
+	 * {@code AssertionError}, no further {@code executables} will be started, and
+	 * the first such exception in declaration order will be rethrown <em>as is</em>
+	 * but {@link ExceptionUtils#throwAsUncheckedException masked} as an unchecked
+	 * exception.
+	 *
+	 * <p>If a {@code timeout} is supplied, it applies to the entire invocation.
+	 * {@code Executables} still running when it expires are interrupted and, like
+	 * {@code executables} that could not be started in time, reported as failures.
+	 *
+	 * @param heading the heading of the failure message; may be {@code null}
+	 * @param parallelism the maximum number of {@code executables} executed
+	 * concurrently; must be greater than zero
+	 * @param timeout the maximum duration of the entire invocation; may be
+	 * {@code null} in which case no timeout applies
+	 * @param executables the executables to execute; never {@code null}
+	 * @see #assertAllConcurrently(int, Executable...)
+	 * @see #assertAllConcurrently(String, int, Executable...)
+	 * @see #assertAllConcurrently(String, int, Duration, Executable...)
+	 */
+	@API(Experimental)
+	public static void assertAllConcurrently(String heading, int parallelism, Duration timeout,
+			Stream<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, parallelism, timeout, executables);
+	}
+
 	// --- assert exceptions ---------------------------------------------------
 
 	/**
@@ -1189,6 +1333,10 @@ public final class Assertions {
 	 * <p>Note: the {@code executable} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code executable} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is taken from a pool that is shared by all assertions, so
+	 * it does not inherit {@link InheritableThreadLocal} values from the
+	 * calling code, and {@link ThreadLocal} values set by the {@code executable}
+	 * may be visible to subsequent assertions.
 	 *
 	 * @see #assertTimeoutPreemptively(Duration, Executable, String)
 	 * @see #assertTimeoutPreemptively(Duration, Executable, Supplier)
@@ -1208,6 +1356,10 @@ public final class Assertions {
 	 * <p>Note: the {@code executable} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code executable} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is taken from a pool that is shared by all assertions, so
+	 * it does not inherit {@link InheritableThreadLocal} values from the
+	 * calling code, and {@link ThreadLocal} values set by the {@code executable}
+	 * may be visible to subsequent assertions.
 	 *
 	 * <p>Fails with the supplied failure {@code message}.
 	 *
@@ -1229,6 +1381,10 @@ public final class Assertions {
 	 * <p>Note: the {@code executable} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code executable} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is taken from a pool that is shared by all assertions, so
+	 * it does not inherit {@link InheritableThreadLocal} values from the
+	 * calling code, and {@link ThreadLocal} values set by the {@code executable}
+	 * may be visible to subsequent assertions.
 	 *
 	 * <p>If necessary, the failure message will be retrieved lazily from the
 	 * supplied {@code messageSupplier}.
@@ -1256,6 +1412,10 @@ public final class Assertions {
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code supplier} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is taken from a pool that is shared by all assertions, so
+	 * it does not inherit {@link InheritableThreadLocal} values from the
+	 * calling code, and {@link ThreadLocal} values set by the {@code supplier}
+	 * may be visible to subsequent assertions.
 	 *
 	 * @see #assertTimeoutPreemptively(Duration, Executable)
 	 * @see #assertTimeoutPreemptively(Duration, Executable, String)
@@ -1277,6 +1437,10 @@ public final class Assertions {
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code supplier} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is taken from a pool that is shared by all assertions, so
+	 * it does not inherit {@link InheritableThreadLocal} values from the
+	 * calling code, and {@link ThreadLocal} values set by the {@code supplier}
+	 * may be visible to subsequent assertions.
 	 *
 	 * <p>Fails with the supplied failure {@code message}.
 	 *
@@ -1300,6 +1464,10 @@ public final class Assertions {
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
 	 * that of the calling code. Furthermore, execution of the {@code supplier} will
 	 * be preemptively aborted if the timeout is exceeded.
+	 * The thread is taken from a pool that is shared by all assertions, so
+	 * it does not inherit {@link InheritableThreadLocal} values from the
+	 * calling code, and {@link ThreadLocal} values set by the {@code supplier}
+	 * may be visible to subsequent assertions.
 	 *
 	 * <p>If necessary, the failure message will be retrieved lazily from the
 	 * supplied {@code messageSupplier}.
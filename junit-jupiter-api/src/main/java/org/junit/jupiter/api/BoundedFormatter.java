@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@code BoundedFormatter} formats the values reported in assertion failure
+ * messages without materializing huge string representations.
+ *
+ * <p>Collections and maps with more than {@linkplain #getMaxElements() max
+ * elements} elements are rendered as a window of elements around the first
+ * difference between the expected and the actual value. String
+ * representations with more than {@linkplain #getMaxChars() max chars}
+ * characters are rendered as a window of characters around their first
+ * difference. Omitted elements and characters are summarized, e.g.
+ * {@code [(7 omitted), 7, 8, 9, (999990 omitted)]}.
+ *
+ * <p>The limits can be configured via the
+ * {@value #MAX_ELEMENTS_PROPERTY_NAME} and {@value #MAX_CHARS_PROPERTY_NAME}
+ * system properties.
+ *
+ * @since 5.0
+ */
+class BoundedFormatter {
+
+	static final String MAX_ELEMENTS_PROPERTY_NAME = "junit.assertions.message.maxElements";
+
+	static final String MAX_CHARS_PROPERTY_NAME = "junit.assertions.message.maxChars";
+
+	static final int DEFAULT_MAX_ELEMENTS = 1000;
+
+	static final int DEFAULT_MAX_CHARS = 10_000;
+
+	/**
+	 * Number of elements displayed on either side of the first difference.
+	 */
+	private static final int WINDOW_RADIUS = 5;
+
+	private final int maxElements;
+	private final int maxChars;
+
+	static BoundedFormatter fromSystemProperties() {
+		return new BoundedFormatter(getLimit(MAX_ELEMENTS_PROPERTY_NAME, DEFAULT_MAX_ELEMENTS),
+			getLimit(MAX_CHARS_PROPERTY_NAME, DEFAULT_MAX_CHARS));
+	}
+
+	private static int getLimit(String propertyName, int defaultValue) {
+		Integer value = Integer.getInteger(propertyName);
+		return (value != null && value > 0 ? value : defaultValue);
+	}
+
+	BoundedFormatter(int maxElements, int maxChars) {
+		this.maxElements = maxElements;
+		this.maxChars = maxChars;
+	}
+
+	int getMaxElements() {
+		return this.maxElements;
+	}
+
+	int getMaxChars() {
+		return this.maxChars;
+	}
+
+	/**
+	 * Format the supplied values, abbreviating them around their first
+	 * difference if necessary.
+	 *
+	 * @return an array containing the formatted expected and actual value
+	 */
+	String[] format(Object expected, Object actual) {
+		if (isOversized(expected) || isOversized(actual)) {
+			int index = indexOfFirstDifference(elements(expected), elements(actual));
+			return new String[] { abbreviate(formatWindow(expected, index), 0),
+					abbreviate(formatWindow(actual, index), 0) };
+		}
+
+		CharSequence expectedText = text(expected);
+		CharSequence actualText = text(actual);
+		if (expectedText.length() > this.maxChars || actualText.length() > this.maxChars) {
+			int index = indexOfFirstDifference(expectedText, actualText);
+			return new String[] { abbreviate(expectedText, index), abbreviate(actualText, index) };
+		}
+		return new String[] { expectedText.toString(), actualText.toString() };
+	}
+
+	/**
+	 * Count the remaining elements of the supplied iterator without consuming
+	 * more than {@linkplain #getMaxElements() max elements} elements.
+	 *
+	 * @param iterator the iterator whose remaining elements to count
+	 * @param processed the number of elements already consumed
+	 * @return the total number of elements, or a lower bound if the iterator
+	 * has more elements than the limit
+	 */
+	String countElements(Iterator<?> iterator, int processed) {
+		int remaining = 0;
+		while (iterator.hasNext()) {
+			if (remaining == this.maxElements) {
+				return "more than " + (processed + remaining);
+			}
+			iterator.next();
+			remaining++;
+		}
+		return String.valueOf(processed + remaining);
+	}
+
+	private boolean isOversized(Object value) {
+		return (value instanceof Collection && ((Collection<?>) value).size() > this.maxElements)
+				|| (value instanceof Map && ((Map<?, ?>) value).size() > this.maxElements);
+	}
+
+	/**
+	 * Character sequences such as {@link StringBuilder StringBuilders} are
+	 * used as they are, so that only the characters that are displayed are
+	 * copied from oversized ones.
+	 */
+	private static CharSequence text(Object value) {
+		return (value instanceof CharSequence ? (CharSequence) value : AssertionUtils.toString(value));
+	}
+
+	private static Iterator<?> elements(Object value) {
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).iterator();
+		}
+		if (value instanceof Map) {
+			return ((Map<?, ?>) value).entrySet().iterator();
+		}
+		return null;
+	}
+
+	private static int indexOfFirstDifference(Iterator<?> expected, Iterator<?> actual) {
+		if (expected == null || actual == null) {
+			return 0;
+		}
+		int index = 0;
+		while (expected.hasNext() && actual.hasNext()) {
+			if (!Objects.equals(expected.next(), actual.next())) {
+				return index;
+			}
+			index++;
+		}
+		// Equal prefixes: the difference is the end of the shorter one or, if
+		// both have the same elements in the same order, cannot be located.
+		return (expected.hasNext() || actual.hasNext() ? index : 0);
+	}
+
+	private static int indexOfFirstDifference(CharSequence expected, CharSequence actual) {
+		int length = Math.min(expected.length(), actual.length());
+		for (int i = 0; i < length; i++) {
+			if (expected.charAt(i) != actual.charAt(i)) {
+				return i;
+			}
+		}
+		return length;
+	}
+
+	private String formatWindow(Object value, int index) {
+		if (!(value instanceof Collection || value instanceof Map)) {
+			return AssertionUtils.toString(value);
+		}
+		int size = (value instanceof Map ? ((Map<?, ?>) value).size() : ((Collection<?>) value).size());
+		int radius = Math.min(WINDOW_RADIUS, this.maxElements / 2);
+		int from = Math.max(0, Math.min(index - radius, size - (2 * radius + 1)));
+		int to = Math.min(size, from + 2 * radius + 1);
+
+		StringBuilder builder = new StringBuilder(value instanceof Map ? "{" : "[");
+		if (from > 0) {
+			builder.append('(').append(from).append(" omitted), ");
+		}
+		// Lists can skip the elements before the window directly.
+		int i = (value instanceof List ? from : 0);
+		Iterator<?> elements = (value instanceof List ? ((List<?>) value).listIterator(from) : elements(value));
+		for (; i < to && elements.hasNext(); i++) {
+			Object element = elements.next();
+			if (i >= from) {
+				builder.append(element == value ? "(this Collection)" : String.valueOf(element));
+				if (i < to - 1) {
+					builder.append(", ");
+				}
+			}
+		}
+		if (to < size) {
+			builder.append(", (").append(size - to).append(" omitted)");
+		}
+		return builder.append(value instanceof Map ? "}" : "]").toString();
+	}
+
+	private String abbreviate(CharSequence value, int index) {
+		if (value.length() <= this.maxChars) {
+			return value.toString();
+		}
+		int from = Math.max(0, Math.min(index - this.maxChars / 2, value.length() - this.maxChars));
+		int to = from + this.maxChars;
+
+		StringBuilder builder = new StringBuilder(this.maxChars + 64);
+		if (from > 0) {
+			builder.append('(').append(from).append(" chars omitted)");
+		}
+		builder.append(value.subSequence(from, to));
+		if (to < value.length()) {
+			builder.append('(').append(value.length() - to).append(" chars omitted)");
+		}
+		return builder.toString();
+	}
+
+}
@@ -14,6 +14,13 @@ import static java.util.Spliterator.ORDERED;
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -23,6 +30,7 @@ import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.function.ThrowingConsumer;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.commons.util.ToStringBuilder;
 
 /**
@@ -41,6 +49,8 @@ import org.junit.platform.commons.util.ToStringBuilder;
  * @since 5.0
  * @see #dynamicTest(String, Executable)
  * @see #stream(Iterator, Function, ThrowingConsumer)
+ * @see #stream(Path, Function, ThrowingConsumer)
+ * @see #streamClasspathResource(String, Function, ThrowingConsumer)
  * @see Test
  * @see TestFactory
  * @see Executable
@@ -99,6 +109,84 @@ public class DynamicTest {
 		// @formatter:on
 	}
 
+	/**
+	 * Generate a lazily evaluated stream of dynamic tests, one per record
+	 * read from the supplied file.
+	 *
+	 * <p>Use this method for data-driven tests whose input is too large to
+	 * be read into memory up front.
+	 *
+	 * <p>Each line of the UTF-8 encoded file is treated as a record; empty
+	 * lines are skipped. The file is read in fixed-size chunks via a
+	 * {@link FileChannel} while the stream is consumed, and the channel is
+	 * closed when the stream is {@linkplain Stream#close() closed}.
+	 * Streams returned from {@link TestFactory @TestFactory} methods are
+	 * closed by the JUnit Jupiter engine.
+	 *
+	 * @param file the file to read records from; never {@code null}
+	 * @param displayNameGenerator a function that generates a display name
+	 * based on a record, typically by extracting its key; never {@code null}
+	 * @param testExecutor a consumer that executes a test based on a record;
+	 * never {@code null}
+	 * @return a stream of dynamic tests based on the records in the supplied
+	 * file; never {@code null}
+	 * @throws UncheckedIOException if the file cannot be opened or read
+	 * @see #streamClasspathResource(String, Function, ThrowingConsumer)
+	 */
+	public static Stream<DynamicTest> stream(Path file, Function<? super String, String> displayNameGenerator,
+			ThrowingConsumer<? super String> testExecutor) {
+
+		Preconditions.notNull(file, "file must not be null");
+		try {
+			FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+			return recordStream(new RecordIterator(channel), displayNameGenerator, testExecutor);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to open file " + file, ex);
+		}
+	}
+
+	/**
+	 * Generate a lazily evaluated stream of dynamic tests, one per record
+	 * read from the supplied classpath resource.
+	 *
+	 * <p>The resource is loaded via the default class loader and read in the
+	 * same way as files passed to {@link #stream(Path, Function, ThrowingConsumer)};
+	 * the underlying channel is closed when the stream is
+	 * {@linkplain Stream#close() closed}.
+	 *
+	 * @param resourceName the name of the classpath resource to read records
+	 * from, with or without a leading slash; never {@code null} or blank
+	 * @param displayNameGenerator a function that generates a display name
+	 * based on a record, typically by extracting its key; never {@code null}
+	 * @param testExecutor a consumer that executes a test based on a record;
+	 * never {@code null}
+	 * @return a stream of dynamic tests based on the records in the supplied
+	 * classpath resource; never {@code null}
+	 * @see #stream(Path, Function, ThrowingConsumer)
+	 */
+	public static Stream<DynamicTest> streamClasspathResource(String resourceName,
+			Function<? super String, String> displayNameGenerator, ThrowingConsumer<? super String> testExecutor) {
+
+		Preconditions.notBlank(resourceName, "resourceName must not be null or blank");
+		String name = (resourceName.startsWith("/") ? resourceName.substring(1) : resourceName);
+		InputStream inputStream = ReflectionUtils.getDefaultClassLoader().getResourceAsStream(name);
+		Preconditions.notNull(inputStream, () -> "Classpath resource [" + resourceName + "] does not exist");
+		return recordStream(new RecordIterator(Channels.newChannel(inputStream)), displayNameGenerator, testExecutor);
+	}
+
+	private static Stream<DynamicTest> recordStream(RecordIterator records,
+			Function<? super String, String> displayNameGenerator, ThrowingConsumer<? super String> testExecutor) {
+
+		try {
+			return stream(records, displayNameGenerator, testExecutor).onClose(records::close);
+		}
+		catch (RuntimeException ex) {
+			records.close();
+			throw ex;
+		}
+	}
+
 	private final String displayName;
 	private final Executable executable;
 
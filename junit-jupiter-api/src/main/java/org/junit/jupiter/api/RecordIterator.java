@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@code RecordIterator} lazily reads line-based, UTF-8 encoded records
+ * from a {@link ReadableByteChannel} in fixed-size chunks.
+ *
+ * <p>Records are separated by {@code \n} or {@code \r\n}; empty records are
+ * skipped. Only the current chunk and the current record are held in memory,
+ * so arbitrarily large inputs can be iterated.
+ *
+ * @since 5.0
+ * @see DynamicTest#streamClasspathResource
+ */
+class RecordIterator implements Iterator<String>, AutoCloseable {
+
+	static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+	private final ReadableByteChannel channel;
+	private final ByteBuffer chunk;
+
+	private byte[] record = new byte[256];
+	private int recordLength;
+	private String nextRecord;
+	private boolean endOfInput;
+
+	RecordIterator(ReadableByteChannel channel) {
+		this(channel, DEFAULT_CHUNK_SIZE);
+	}
+
+	RecordIterator(ReadableByteChannel channel, int chunkSize) {
+		this.channel = channel;
+		this.chunk = ByteBuffer.allocate(chunkSize);
+		this.chunk.flip();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (this.nextRecord == null && !this.endOfInput) {
+			this.nextRecord = readRecord();
+		}
+		return this.nextRecord != null;
+	}
+
+	@Override
+	public String next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		String result = this.nextRecord;
+		this.nextRecord = null;
+		return result;
+	}
+
+	@Override
+	public void close() {
+		try {
+			this.channel.close();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private String readRecord() {
+		while (true) {
+			if (!this.chunk.hasRemaining() && !readChunk()) {
+				this.endOfInput = true;
+				return completeRecord();
+			}
+			byte b = this.chunk.get();
+			if (b != '\n') {
+				append(b);
+			}
+			else {
+				String result = completeRecord();
+				if (result != null) {
+					return result;
+				}
+			}
+		}
+	}
+
+	private boolean readChunk() {
+		try {
+			int bytesRead;
+			do {
+				this.chunk.clear();
+				bytesRead = this.channel.read(this.chunk);
+				this.chunk.flip();
+			} while (bytesRead == 0);
+			return bytesRead > 0;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private void append(byte b) {
+		if (this.recordLength == this.record.length) {
+			this.record = Arrays.copyOf(this.record, this.record.length * 2);
+		}
+		this.record[this.recordLength++] = b;
+	}
+
+	/**
+	 * Decode the bytes collected for the current record and reset the record
+	 * buffer, returning {@code null} if the record is empty.
+	 */
+	private String completeRecord() {
+		int length = this.recordLength;
+		if (length > 0 && this.record[length - 1] == '\r') {
+			length--;
+		}
+		this.recordLength = 0;
+		return (length > 0 ? new String(this.record, 0, length, UTF_8) : null);
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code @Timeout} is used to declare that the execution of the annotated
+ * test, test factory, test template, or lifecycle method should fail if it
+ * does not complete within the given duration.
+ *
+ * <p>When applied at the class level, the timeout applies to all such
+ * methods executed for that class unless they declare a timeout themselves.
+ *
+ * <p>Timeouts are enforced by the engine: if a method exceeds its timeout,
+ * the thread executing it is interrupted, a stack trace of that thread is
+ * published as a report entry, and the method fails with a
+ * {@link java.util.concurrent.TimeoutException TimeoutException}. Code that
+ * does not respond to interruption cannot be stopped, but is still reported
+ * as failed once it returns.
+ *
+ * @since 5.0
+ * @see Assertions#assertTimeoutPreemptively(java.time.Duration, org.junit.jupiter.api.function.Executable)
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@API(Experimental)
+public @interface Timeout {
+
+	/**
+	 * The duration of this timeout; must be positive.
+	 */
+	long value();
+
+	/**
+	 * The time unit of this timeout; defaults to {@link TimeUnit#SECONDS}.
+	 */
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+}
@@ -59,6 +59,37 @@ public final class Constants {
 	 */
 	public static final String DEACTIVATE_ALL_CONDITIONS_PATTERN = "*";
 
+	/**
+	 * Property name used to set the number of worker threads used to execute
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} invocations and
+	 * {@link org.junit.jupiter.api.DynamicTest dynamic tests} concurrently: {@value}
+	 *
+	 * <p>If the value is greater than {@code 1}, the invocation contexts of a
+	 * test template and the dynamic tests returned by a
+	 * {@link org.junit.jupiter.api.TestFactory @TestFactory} method are consumed
+	 * by a single producer with a bounded look-ahead of twice the configured
+	 * number of threads, and the resulting tests are executed concurrently.
+	 * Tests are registered in order and keep their {@code #index} based unique
+	 * IDs. By default, they are executed sequentially.
+	 *
+	 * <p>There is no separate property for either kind of test: the configured
+	 * number of threads applies to both.
+	 */
+	public static final String DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME = "junit.dynamic.parallelism";
+
+	/**
+	 * Property name used to set the default timeout for all testable and
+	 * lifecycle methods that do not declare or inherit a
+	 * {@link org.junit.jupiter.api.Timeout @Timeout}: {@value}
+	 *
+	 * <p>The value consists of a positive number and an optional,
+	 * case-insensitive time unit: {@code ns}, {@code us}, {@code ms}, {@code s},
+	 * {@code m}, {@code h}, or {@code d}. If the unit is omitted, the number is
+	 * interpreted as seconds; for example, {@code 500 ms} or {@code 30}. By
+	 * default, no timeout is applied.
+	 */
+	public static final String DEFAULT_TIMEOUT_PROPERTY_NAME = "junit.timeout.default";
+
 	private Constants() {
 		/* no-op */
 	}
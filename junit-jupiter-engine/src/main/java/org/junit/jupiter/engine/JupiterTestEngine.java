@@ -10,15 +10,19 @@
 
 package org.junit.jupiter.engine;
 
+import static java.lang.String.format;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 
 import java.util.Optional;
+import java.util.logging.Logger;
 
 import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.jupiter.engine.discovery.DiscoverySelectorResolver;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -31,6 +35,8 @@ import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
 @API(Experimental)
 public class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngineExecutionContext> {
 
+	private static final Logger LOG = Logger.getLogger(JupiterTestEngine.class.getName());
+
 	public static final String ENGINE_ID = "junit-jupiter";
 
 	@Override
@@ -80,4 +86,30 @@ public class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngineExecu
 			request.getConfigurationParameters());
 	}
 
+	/**
+	 * Returns the value of the {@value Constants#DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME}
+	 * configuration parameter, or {@code 1} if it is absent or invalid.
+	 */
+	@Override
+	protected int getDynamicTestParallelism(ExecutionRequest request) {
+		// @formatter:off
+		return request.getConfigurationParameters().get(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME)
+				.filter(StringUtils::isNotBlank)
+				.map(String::trim)
+				.map(JupiterTestEngine::parseParallelism)
+				.orElse(1);
+		// @formatter:on
+	}
+
+	private static int parseParallelism(String value) {
+		try {
+			return Math.max(1, Integer.parseInt(value));
+		}
+		catch (NumberFormatException ex) {
+			LOG.warning(() -> format("Ignoring invalid value [%s] for configuration parameter [%s]", value,
+				DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME));
+			return 1;
+		}
+	}
+
 }
@@ -37,6 +37,7 @@ import org.junit.jupiter.engine.execution.ExecutableInvoker;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.execution.TestInstanceProvider;
 import org.junit.jupiter.engine.execution.ThrowableCollector;
+import org.junit.jupiter.engine.execution.TimeoutEnforcer;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.meta.API;
@@ -129,8 +130,8 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ExtensionRegistry registry = populateNewExtensionRegistryFromExtendWith(this.testClass,
 			context.getExtensionRegistry());
 
-		registerBeforeEachMethodAdapters(registry);
-		registerAfterEachMethodAdapters(registry);
+		registerBeforeEachMethodAdapters(registry, context.getTimeoutEnforcer());
+		registerAfterEachMethodAdapters(registry, context.getTimeoutEnforcer());
 
 		ContainerExtensionContext containerExtensionContext = new ClassBasedContainerExtensionContext(
 			context.getExtensionContext(), context.getExecutionListener(), this);
@@ -210,9 +211,11 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ExtensionRegistry registry = context.getExtensionRegistry();
 		ContainerExtensionContext extensionContext = (ContainerExtensionContext) context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		TimeoutEnforcer timeoutEnforcer = context.getTimeoutEnforcer();
 
 		for (Method method : this.beforeAllMethods) {
-			throwableCollector.execute(() -> executableInvoker.invoke(method, extensionContext, registry));
+			throwableCollector.execute(() -> timeoutEnforcer.execute(method, extensionContext,
+				() -> executableInvoker.invoke(method, extensionContext, registry)));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -223,9 +226,11 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ExtensionRegistry registry = context.getExtensionRegistry();
 		ContainerExtensionContext extensionContext = (ContainerExtensionContext) context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
+		TimeoutEnforcer timeoutEnforcer = context.getTimeoutEnforcer();
 
 		this.afterAllMethods.forEach(
-			method -> throwableCollector.execute(() -> executableInvoker.invoke(method, extensionContext, registry)));
+			method -> throwableCollector.execute(() -> timeoutEnforcer.execute(method, extensionContext,
+				() -> executableInvoker.invoke(method, extensionContext, registry))));
 	}
 
 	private void invokeAfterAllCallbacks(JupiterEngineExecutionContext context) {
@@ -237,11 +242,12 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 				.forEach(extension -> throwableCollector.execute(() -> extension.afterAll(extensionContext)));
 	}
 
-	private void registerBeforeEachMethodAdapters(ExtensionRegistry registry) {
-		registerMethodsAsExtensions(this.beforeEachMethods, registry, this::synthesizeBeforeEachMethodAdapter);
+	private void registerBeforeEachMethodAdapters(ExtensionRegistry registry, TimeoutEnforcer timeoutEnforcer) {
+		registerMethodsAsExtensions(this.beforeEachMethods, registry,
+			method -> synthesizeBeforeEachMethodAdapter(method, timeoutEnforcer));
 	}
 
-	private void registerAfterEachMethodAdapters(ExtensionRegistry registry) {
+	private void registerAfterEachMethodAdapters(ExtensionRegistry registry, TimeoutEnforcer timeoutEnforcer) {
 
 		// Since the bottom-up ordering of afterEachMethods will later be reversed when the
 		// synthesized AfterEachMethodAdapters are executed within MethodTestDescriptor, we
@@ -250,7 +256,8 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		List<Method> reversed = new ArrayList<>(this.afterEachMethods);
 		Collections.reverse(reversed);
 
-		registerMethodsAsExtensions(reversed, registry, this::synthesizeAfterEachMethodAdapter);
+		registerMethodsAsExtensions(reversed, registry,
+			method -> synthesizeAfterEachMethodAdapter(method, timeoutEnforcer));
 	}
 
 	private void registerMethodsAsExtensions(List<Method> methods, ExtensionRegistry registry,
@@ -259,22 +266,24 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		methods.forEach(method -> registry.registerExtension(extensionSynthesizer.apply(method), method));
 	}
 
-	private BeforeEachMethodAdapter synthesizeBeforeEachMethodAdapter(Method method) {
-		return (extensionContext, registry) -> invokeMethodInTestExtensionContext(method, extensionContext, registry);
+	private BeforeEachMethodAdapter synthesizeBeforeEachMethodAdapter(Method method, TimeoutEnforcer timeoutEnforcer) {
+		return (extensionContext, registry) -> invokeMethodInTestExtensionContext(method, extensionContext, registry,
+			timeoutEnforcer);
 	}
 
-	private AfterEachMethodAdapter synthesizeAfterEachMethodAdapter(Method method) {
-		return (extensionContext, registry) -> invokeMethodInTestExtensionContext(method, extensionContext, registry);
+	private AfterEachMethodAdapter synthesizeAfterEachMethodAdapter(Method method, TimeoutEnforcer timeoutEnforcer) {
+		return (extensionContext, registry) -> invokeMethodInTestExtensionContext(method, extensionContext, registry,
+			timeoutEnforcer);
 	}
 
 	private void invokeMethodInTestExtensionContext(Method method, TestExtensionContext context,
-			ExtensionRegistry registry) {
+			ExtensionRegistry registry, TimeoutEnforcer timeoutEnforcer) throws Throwable {
 
 		Object instance = ReflectionUtils.getOuterInstance(context.getTestInstance(),
 			method.getDeclaringClass()).orElseThrow(
 				() -> new JUnitException("Failed to find instance for method: " + method.toGenericString()));
 
-		executableInvoker.invoke(method, instance, context, registry);
+		timeoutEnforcer.execute(method, context, () -> executableInvoker.invoke(method, instance, context, registry));
 	}
 
 }
@@ -11,6 +11,7 @@
 package org.junit.jupiter.engine.descriptor;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Set;
 
 import org.junit.platform.commons.util.Preconditions;
@@ -62,6 +63,15 @@ abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor {
 		return generateDefaultDisplayName(testMethod);
 	}
 
+	/**
+	 * Remove the dynamically registered children of this descriptor once they
+	 * have been executed so that they can be garbage collected and a subsequent
+	 * execution starts out empty.
+	 */
+	void removeDynamicChildren() {
+		new ArrayList<>(getChildren()).forEach(this::removeChild);
+	}
+
 	private static String generateDefaultDisplayName(Method testMethod) {
 		return String.format("%s(%s)", testMethod.getName(),
 			StringUtils.nullSafeToString(Class::getSimpleName, testMethod.getParameterTypes()));
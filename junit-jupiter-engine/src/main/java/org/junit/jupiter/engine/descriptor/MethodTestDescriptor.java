@@ -174,7 +174,9 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 			try {
 				Method method = testExtensionContext.getTestMethod().get();
 				Object instance = testExtensionContext.getTestInstance();
-				executableInvoker.invoke(method, instance, testExtensionContext, context.getExtensionRegistry());
+				ExtensionRegistry registry = context.getExtensionRegistry();
+				context.getTimeoutEnforcer().execute(method, testExtensionContext,
+					() -> executableInvoker.invoke(method, instance, testExtensionContext, registry));
 			}
 			catch (Throwable throwable) {
 				invokeTestExecutionExceptionHandlers(context.getExtensionRegistry(), testExtensionContext, throwable);
@@ -34,6 +34,14 @@ import org.junit.platform.engine.UniqueId;
  * {@link TestDescriptor} for {@link org.junit.jupiter.api.TestFactory @TestFactory}
  * methods.
  *
+ * <p>Dynamic tests are pulled from the returned stream one at a time and
+ * {@linkplain DynamicTestExecutor#submit submitted} for execution. Depending
+ * on the value of the
+ * {@value org.junit.jupiter.engine.Constants#DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME}
+ * configuration parameter, they may therefore run concurrently while further
+ * dynamic tests are being generated. All of them will have finished before
+ * the <em>after</em> callbacks and methods of the factory method are invoked.
+ *
  * @since 5.0
  */
 @API(Internal)
@@ -78,18 +86,22 @@ public class TestFactoryTestDescriptor extends MethodTestDescriptor {
 		context.getThrowableCollector().execute(() -> {
 			Method method = testExtensionContext.getTestMethod().get();
 			Object instance = testExtensionContext.getTestInstance();
-			Object testFactoryMethodResult = executableInvoker.invoke(method, instance, testExtensionContext,
-				context.getExtensionRegistry());
+			Object testFactoryMethodResult = context.getTimeoutEnforcer().execute(method, testExtensionContext,
+				() -> executableInvoker.invoke(method, instance, testExtensionContext, context.getExtensionRegistry()));
 
 			try (Stream<DynamicTest> dynamicTestStream = toDynamicTestStream(testExtensionContext,
 				testFactoryMethodResult)) {
 				AtomicInteger index = new AtomicInteger();
 				dynamicTestStream.forEach(
-					dynamicTest -> registerAndExecute(dynamicTest, index.incrementAndGet(), dynamicTestExecutor));
+					dynamicTest -> registerAndSubmit(dynamicTest, index.incrementAndGet(), dynamicTestExecutor));
 			}
 			catch (ClassCastException ex) {
 				throw invalidReturnTypeException(testExtensionContext);
 			}
+			finally {
+				dynamicTestExecutor.awaitFinished();
+				removeDynamicChildren();
+			}
 		});
 	}
 
@@ -117,11 +129,11 @@ public class TestFactoryTestDescriptor extends MethodTestDescriptor {
 		throw invalidReturnTypeException(testExtensionContext);
 	}
 
-	private void registerAndExecute(DynamicTest dynamicTest, int index, DynamicTestExecutor dynamicTestExecutor) {
+	private void registerAndSubmit(DynamicTest dynamicTest, int index, DynamicTestExecutor dynamicTestExecutor) {
 		UniqueId uniqueId = getUniqueId().append(DYNAMIC_TEST_SEGMENT_TYPE, "#" + index);
 		TestDescriptor descriptor = new DynamicTestTestDescriptor(uniqueId, dynamicTest, getSource().get());
 		addChild(descriptor);
-		dynamicTestExecutor.execute(descriptor);
+		dynamicTestExecutor.submit(descriptor);
 	}
 
 	private JUnitException invalidReturnTypeException(TestExtensionContext testExtensionContext) {
@@ -32,7 +32,7 @@ public class TestTemplateInvocationTestDescriptor extends MethodTestDescriptor {
 
 	public static final String SEGMENT_TYPE = "test-template-invocation";
 
-	private TestTemplateInvocationContext invocationContext;
+	private final TestTemplateInvocationContext invocationContext;
 
 	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
 			TestTemplateInvocationContext invocationContext, int index) {
@@ -47,10 +47,4 @@ public class TestTemplateInvocationTestDescriptor extends MethodTestDescriptor {
 			extension -> registry.registerExtension(extension, invocationContext));
 		return registry;
 	}
-
-	@Override
-	public void after(JupiterEngineExecutionContext context) {
-		// forget invocationContext so it can be garbage collected
-		invocationContext = null;
-	}
 }
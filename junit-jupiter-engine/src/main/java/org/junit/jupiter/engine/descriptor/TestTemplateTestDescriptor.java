@@ -33,6 +33,11 @@ import org.opentest4j.TestAbortedException;
  * {@link TestDescriptor} for {@link org.junit.jupiter.api.TestTemplate @TestTemplate}
  * methods.
  *
+ * <p>Invocations are {@linkplain DynamicTestExecutor#submit submitted} for
+ * execution and may therefore run concurrently, depending on the value of
+ * the {@value org.junit.jupiter.engine.Constants#DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME}
+ * configuration parameter.
+ *
  * @since 5.0
  */
 @API(Internal)
@@ -97,13 +102,21 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor {
 				int index = invocationIndex.incrementAndGet();
 				TestDescriptor invocationTestDescriptor = createInvocationTestDescriptor(invocationContext, index);
 				addChild(invocationTestDescriptor);
-				dynamicTestExecutor.execute(invocationTestDescriptor);
+				dynamicTestExecutor.submit(invocationTestDescriptor);
 			});
 		});
 		validateWasAtLeastInvokedOnce(invocationIndex);
 		return context;
 	}
 
+	/**
+	 * Invoked once all invocations have finished.
+	 */
+	@Override
+	public void after(JupiterEngineExecutionContext context) {
+		removeDynamicChildren();
+	}
+
 	private List<TestTemplateInvocationContextProvider> validateProviders(
 			ContainerExtensionContext containerExtensionContext, ExtensionRegistry extensionRegistry) {
 		List<TestTemplateInvocationContextProvider> providers = extensionRegistry.getExtensions(
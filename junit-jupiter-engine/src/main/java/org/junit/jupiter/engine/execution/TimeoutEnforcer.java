@@ -0,0 +1,276 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TIMEOUT_PROPERTY_NAME;
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * {@code TimeoutEnforcer} enforces timeouts declared via {@link Timeout @Timeout}
+ * or configured via the {@value org.junit.jupiter.engine.Constants#DEFAULT_TIMEOUT_PROPERTY_NAME}
+ * configuration parameter.
+ *
+ * <p>All timeouts are monitored by a single, shared watchdog thread. When a
+ * timeout expires, the watchdog captures a stack trace of the thread executing
+ * the method and interrupts it. Once the method returns, the stack trace is
+ * published as a report entry and the invocation fails with a
+ * {@link TimeoutException}.
+ *
+ * @since 5.0
+ * @see Timeout
+ */
+@API(Internal)
+public class TimeoutEnforcer {
+
+	private static final Logger LOG = Logger.getLogger(TimeoutEnforcer.class.getName());
+
+	private static final Pattern DURATION_PATTERN = Pattern.compile("(\\d+)\\s*(ns|us|ms|s|m|h|d)?");
+
+	static final String STACK_TRACE_REPORT_KEY = "timeout.stackTrace";
+
+	private final long defaultTimeoutInNanos;
+
+	public TimeoutEnforcer(ConfigurationParameters configurationParameters) {
+		// @formatter:off
+		this.defaultTimeoutInNanos = configurationParameters.get(DEFAULT_TIMEOUT_PROPERTY_NAME)
+				.filter(StringUtils::isNotBlank)
+				.map(String::trim)
+				.map(TimeoutEnforcer::parseTimeoutInNanos)
+				.orElse(0L);
+		// @formatter:on
+	}
+
+	/**
+	 * Execute the supplied {@code executable}, which invokes the supplied
+	 * {@code method}, and enforce the timeout applicable to that method.
+	 *
+	 * @param method the method invoked by the executable
+	 * @param extensionContext the context in which the method is invoked and
+	 * to which the stack trace is published
+	 * @param executable the executable to execute
+	 * @see #execute(Method, ExtensionContext, ThrowingSupplier)
+	 */
+	public void execute(Method method, ExtensionContext extensionContext, Executable executable) throws Throwable {
+		execute(method, extensionContext, () -> {
+			executable.execute();
+			return null;
+		});
+	}
+
+	/**
+	 * Get the result of the supplied {@code supplier}, which invokes the
+	 * supplied {@code method}, and enforce the timeout applicable to that
+	 * method.
+	 *
+	 * <p>A {@link Timeout @Timeout} declared on the method takes precedence
+	 * over one declared on the test class of the supplied context or any of
+	 * its enclosing classes, which in turn takes precedence over the
+	 * configured default timeout. If no timeout applies, the supplier is
+	 * invoked directly.
+	 *
+	 * @param method the method invoked by the supplier
+	 * @param extensionContext the context in which the method is invoked and
+	 * to which the stack trace is published
+	 * @param supplier the supplier to invoke
+	 * @return the result of the supplier
+	 * @throws org.junit.platform.commons.util.PreconditionViolationException if the
+	 * applicable {@code @Timeout} does not declare a positive value
+	 */
+	public <T> T execute(Method method, ExtensionContext extensionContext, ThrowingSupplier<T> supplier)
+			throws Throwable {
+		long timeoutInNanos = determineTimeoutInNanos(method, extensionContext);
+		if (timeoutInNanos <= 0) {
+			return supplier.get();
+		}
+
+		Deadline deadline = new Deadline(Thread.currentThread());
+		ScheduledFuture<?> watchdogTask = Watchdog.executor.schedule(deadline::expire, timeoutInNanos,
+			TimeUnit.NANOSECONDS);
+		T result = null;
+		Throwable failure = null;
+		try {
+			result = supplier.get();
+		}
+		catch (Throwable throwable) {
+			failure = throwable;
+		}
+		finally {
+			watchdogTask.cancel(false);
+		}
+
+		if (deadline.complete()) {
+			extensionContext.publishReportEntry(STACK_TRACE_REPORT_KEY, deadline.stackTrace);
+			TimeoutException timeoutException = new TimeoutException(format("%s timed out after %d ms",
+				method.getName() + "()", TimeUnit.NANOSECONDS.toMillis(timeoutInNanos)));
+			if (failure != null) {
+				timeoutException.addSuppressed(failure);
+			}
+			throw timeoutException;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return result;
+	}
+
+	private long determineTimeoutInNanos(Method method, ExtensionContext extensionContext) {
+		Optional<Timeout> timeout = AnnotationUtils.findAnnotation(method, Timeout.class);
+		if (!timeout.isPresent()) {
+			timeout = findClassLevelTimeout(extensionContext);
+		}
+		if (!timeout.isPresent()) {
+			return this.defaultTimeoutInNanos;
+		}
+		Timeout annotation = timeout.get();
+		Preconditions.condition(annotation.value() > 0,
+			() -> format("@Timeout applicable to method [%s] must declare a positive value, but declared [%d]",
+				method.toGenericString(), annotation.value()));
+		return annotation.unit().toNanos(annotation.value());
+	}
+
+	/**
+	 * Find the {@link Timeout @Timeout} declared on the test class of the
+	 * supplied context or, for {@code @Nested} test classes, on the closest
+	 * enclosing class.
+	 */
+	private static Optional<Timeout> findClassLevelTimeout(ExtensionContext extensionContext) {
+		Optional<ExtensionContext> current = Optional.of(extensionContext);
+		while (current.isPresent()) {
+			Optional<Timeout> timeout = current.get().getTestClass().flatMap(
+				testClass -> AnnotationUtils.findAnnotation(testClass, Timeout.class));
+			if (timeout.isPresent()) {
+				return timeout;
+			}
+			current = current.get().getParent();
+		}
+		return Optional.empty();
+	}
+
+	private static long parseTimeoutInNanos(String value) {
+		Matcher matcher = DURATION_PATTERN.matcher(value.toLowerCase(Locale.ROOT));
+		if (!matcher.matches()) {
+			LOG.warning(() -> format("Ignoring invalid value [%s] for configuration parameter [%s]", value,
+				DEFAULT_TIMEOUT_PROPERTY_NAME));
+			return 0;
+		}
+		return toTimeUnit(matcher.group(2)).toNanos(Long.parseLong(matcher.group(1)));
+	}
+
+	private static TimeUnit toTimeUnit(String unit) {
+		if (unit == null) {
+			return TimeUnit.SECONDS;
+		}
+		switch (unit) {
+			case "ns":
+				return TimeUnit.NANOSECONDS;
+			case "us":
+				return TimeUnit.MICROSECONDS;
+			case "ms":
+				return TimeUnit.MILLISECONDS;
+			case "m":
+				return TimeUnit.MINUTES;
+			case "h":
+				return TimeUnit.HOURS;
+			case "d":
+				return TimeUnit.DAYS;
+			default:
+				return TimeUnit.SECONDS;
+		}
+	}
+
+	/**
+	 * Deadline of a single invocation, shared by the executing thread and
+	 * the watchdog thread.
+	 */
+	private static class Deadline {
+
+		private final Thread thread;
+		private boolean completed;
+		private String stackTrace;
+
+		Deadline(Thread thread) {
+			this.thread = thread;
+		}
+
+		synchronized void expire() {
+			if (!this.completed) {
+				this.stackTrace = formatStackTrace(this.thread);
+				this.thread.interrupt();
+			}
+		}
+
+		/**
+		 * Mark the invocation as completed and clear a pending interrupt
+		 * caused by the watchdog.
+		 *
+		 * @return {@code true} if the deadline expired before completion
+		 */
+		synchronized boolean complete() {
+			this.completed = true;
+			if (this.stackTrace != null) {
+				Thread.interrupted();
+				return true;
+			}
+			return false;
+		}
+
+		private static String formatStackTrace(Thread thread) {
+			StringBuilder builder = new StringBuilder();
+			builder.append('"').append(thread.getName()).append("\" ").append(thread.getState());
+			for (StackTraceElement element : thread.getStackTrace()) {
+				builder.append(System.lineSeparator()).append("\tat ").append(element);
+			}
+			return builder.toString();
+		}
+
+	}
+
+	/**
+	 * Holder for the watchdog thread shared by all timeouts, which is created
+	 * on first use.
+	 */
+	private static class Watchdog {
+
+		static final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "junit-timeout-watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		static {
+			executor.setRemoveOnCancelPolicy(true);
+		}
+
+	}
+
+}
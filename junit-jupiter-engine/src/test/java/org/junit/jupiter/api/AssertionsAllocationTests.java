@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Guards against allocations on the success path of assertions, which used
+ * to wrap messages in suppliers and eagerly create index bookkeeping.
+ *
+ * <p>Allocations are measured via the allocated bytes of the current thread
+ * as reported by HotSpot compatible JVMs, relative to the bytes allocated by
+ * empty iterations; the tests are aborted on JVMs that do not support this
+ * measurement.
+ *
+ * @since 5.0
+ */
+class AssertionsAllocationTests {
+
+	private static final String ALLOCATION_MX_BEAN_TYPE_NAME = "com.sun.management.ThreadMXBean";
+
+	private static final int ITERATIONS = 10_000;
+
+	/**
+	 * Upper bound for the bytes allocated by all iterations together, on top
+	 * of the bytes allocated by the same number of empty iterations, which
+	 * leaves room for measurement noise but not for a single allocation per
+	 * iteration.
+	 */
+	private static final long MAX_ALLOCATED_BYTES = ITERATIONS;
+
+	private final Object object = new Object();
+	private final int[] ints = { 1, 2, 3 };
+	private final int[] equalInts = { 1, 2, 3 };
+	private final double[] doubles = { 1.0, Double.NaN };
+	private final double[] equalDoubles = { 1.0, Double.NaN };
+	private final Object[] objects = { "a", 1, new String("b") };
+	private final Object[] equalObjects = { "a", 1, "b" };
+
+	@Test
+	void successfulAssertionsWithMessageDoNotAllocate() {
+		assertNoAllocations(() -> {
+			assertEquals(42, 42, "message");
+			assertEquals(42L, 42L, "message");
+			assertEquals(4.2, 4.2, "message");
+			assertEquals(4.2, 4.3, 0.5, "message");
+			assertEquals(this.object, this.object, "message");
+			assertNotEquals(this.object, this.ints, "message");
+			assertTrue(true, "message");
+			assertFalse(false, "message");
+			assertNull(null, "message");
+			assertNotNull(this.object, "message");
+			assertSame(this.object, this.object, "message");
+			assertNotSame(this.object, this.ints, "message");
+		});
+	}
+
+	@Test
+	void successfulArrayAssertionsDoNotAllocate() {
+		assertNoAllocations(() -> {
+			assertArrayEquals(this.ints, this.equalInts);
+			assertArrayEquals(this.ints, this.equalInts, "message");
+			assertArrayEquals(this.doubles, this.equalDoubles, 0.1, "message");
+			assertArrayEquals(this.objects, this.equalObjects);
+			assertArrayEquals(this.objects, this.equalObjects, "message");
+		});
+	}
+
+	private void assertNoAllocations(Runnable assertions) {
+		LongSupplier allocatedBytes = allocatedBytesOfCurrentThread();
+		long baseline = measureAllocatedBytes(allocatedBytes, () -> {
+		});
+		long allocated = measureAllocatedBytes(allocatedBytes, assertions) - baseline;
+
+		assertTrue(allocated < MAX_ALLOCATED_BYTES,
+			() -> "expected fewer than " + MAX_ALLOCATED_BYTES + " allocated bytes but was " + allocated);
+	}
+
+	private static long measureAllocatedBytes(LongSupplier allocatedBytes, Runnable runnable) {
+		for (int i = 0; i < ITERATIONS; i++) {
+			runnable.run();
+		}
+		long before = allocatedBytes.getAsLong();
+		for (int i = 0; i < ITERATIONS; i++) {
+			runnable.run();
+		}
+		return allocatedBytes.getAsLong() - before;
+	}
+
+	/**
+	 * The extended {@code ThreadMXBean} is looked up reflectively, since it is
+	 * not available on all JVMs.
+	 */
+	private static LongSupplier allocatedBytesOfCurrentThread() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		Optional<Class<?>> allocationMXBeanType = ReflectionUtils.loadClass(ALLOCATION_MX_BEAN_TYPE_NAME);
+		assumeTrue(allocationMXBeanType.filter(type -> type.isInstance(threadMXBean)).isPresent(),
+			"thread allocation measurement is not supported");
+		Class<?> type = allocationMXBeanType.get();
+		assumeTrue(invoke(type, threadMXBean, "isThreadAllocatedMemorySupported")
+				&& invoke(type, threadMXBean, "isThreadAllocatedMemoryEnabled"),
+			"thread allocation measurement is not enabled");
+
+		Method getThreadAllocatedBytes = ReflectionUtils.findMethod(type, "getThreadAllocatedBytes", long.class).get();
+		long threadId = Thread.currentThread().getId();
+		return () -> (Long) ReflectionUtils.invokeMethod(getThreadAllocatedBytes, threadMXBean, threadId);
+	}
+
+	private static boolean invoke(Class<?> type, Object target, String methodName) {
+		return (Boolean) ReflectionUtils.invokeMethod(ReflectionUtils.findMethod(type, methodName).get(), target);
+	}
+
+}
@@ -12,12 +12,18 @@ package org.junit.jupiter.api;
 
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertAllConcurrently;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
@@ -135,6 +141,148 @@ public class AssertionsAssertAllTests {
 		assertThrows(StackOverflowError.class, () -> assertAll(AssertionTestUtils::recurseIndefinitely));
 	}
 
+	@Test
+	void assertAllConcurrentlyWithNonPositiveParallelism() {
+		try {
+			assertAllConcurrently(0, () -> {
+			});
+		}
+		catch (PreconditionViolationException ex) {
+			assertMessageEquals(ex, "parallelism must be greater than zero");
+		}
+	}
+
+	@Test
+	void assertAllConcurrentlyWithNullExecutableStream() {
+		try {
+			assertAllConcurrently(null, 2, null, (Stream<Executable>) null);
+		}
+		catch (PreconditionViolationException ex) {
+			assertMessageEquals(ex, "executables must not be null");
+		}
+	}
+
+	@Test
+	void assertAllConcurrentlyExecutesExecutablesConcurrently() {
+		CountDownLatch latch = new CountDownLatch(2);
+		Executable awaitOther = () -> {
+			latch.countDown();
+			assertTrue(latch.await(10, TimeUnit.SECONDS), "other executable was not executed concurrently");
+		};
+
+		assertAllConcurrently(2, awaitOther, awaitOther);
+	}
+
+	@Test
+	void assertAllConcurrentlyDoesNotExceedParallelism() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		Executable executable = () -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(5);
+			running.decrementAndGet();
+		};
+
+		assertAllConcurrently(null, 3, null, Stream.generate(() -> executable).limit(30));
+
+		assertTrue(maxRunning.get() <= 3, () -> "max running: " + maxRunning.get());
+	}
+
+	@Test
+	void assertAllConcurrentlyReportsFailuresInDeclarationOrder() {
+		// @formatter:off
+		MultipleFailuresError multipleFailuresError = assertThrows(MultipleFailuresError.class, () ->
+			assertAllConcurrently("heading", 3,
+				() -> {
+					Thread.sleep(50);
+					assertTrue(false, "first");
+				},
+				() -> assertTrue(true),
+				() -> assertTrue(false, "third")
+			)
+		);
+		// @formatter:on
+
+		List<Throwable> failures = multipleFailuresError.getFailures();
+		assertEquals(2, failures.size());
+		assertMessageEquals((AssertionFailedError) failures.get(0), "first");
+		assertMessageEquals((AssertionFailedError) failures.get(1), "third");
+		assertTrue(multipleFailuresError.getMessage().startsWith("heading (2 failures)"));
+	}
+
+	@Test
+	void assertAllConcurrentlyReportsExecutablesExceedingTimeout() {
+		// @formatter:off
+		MultipleFailuresError multipleFailuresError = assertThrows(MultipleFailuresError.class, () ->
+			assertAllConcurrently(null, 1, Duration.ofMillis(50),
+				() -> assertTrue(true),
+				() -> Thread.sleep(10_000),
+				() -> assertTrue(true)
+			)
+		);
+		// @formatter:on
+
+		List<Throwable> failures = multipleFailuresError.getFailures();
+		assertEquals(2, failures.size());
+		assertMessageEquals((AssertionFailedError) failures.get(0), "executable #2 timed out after 50 ms");
+		assertMessageEquals((AssertionFailedError) failures.get(1),
+			"executables after #2 were not executed before the timeout of 50 ms");
+	}
+
+	@Test
+	void assertAllConcurrentlyWithExecutableThatThrowsCheckedException() {
+		AtomicInteger executed = new AtomicInteger();
+		// @formatter:off
+		assertThrows(IOException.class, () ->
+			assertAllConcurrently(null, 1, null, Stream.<Executable> generate(() -> () -> {
+				if (executed.incrementAndGet() == 2) {
+					throw new IOException();
+				}
+				assertTrue(false);
+			}).limit(100))
+		);
+		// @formatter:on
+
+		assertTrue(executed.get() < 100, () -> "executed: " + executed.get());
+	}
+
+	@Test
+	void assertAllConcurrentlyCancelsSubmittedExecutablesIfStreamContainsNull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Executable blocking = () -> {
+			started.countDown();
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+		};
+		Stream<Executable> executables = Stream.of(1, 2).map(i -> {
+			if (i == 1) {
+				return blocking;
+			}
+			await(started);
+			return null;
+		});
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> assertAllConcurrently(null, 2, null, executables));
+
+		assertMessageEquals(exception, "individual executables must not be null");
+		assertTrue(interrupted.await(10, TimeUnit.SECONDS), "submitted executable was not cancelled");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	@SuppressWarnings("serial")
 	private static class EnigmaThrowable extends Throwable {
 	}
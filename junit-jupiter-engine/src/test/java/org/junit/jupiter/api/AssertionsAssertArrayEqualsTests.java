@@ -1954,4 +1954,36 @@ public class AssertionsAssertArrayEqualsTests {
 		}
 	}
 
+	@Test
+	void assertArrayEqualsLargeByteArrays() {
+		byte[] expected = new byte[1_000_000];
+		byte[] actual = new byte[1_000_000];
+		assertArrayEquals(expected, actual);
+
+		actual[999_999] = 1;
+		try {
+			assertArrayEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "array contents differ at index [999999], expected: <0> but was: <1>");
+		}
+	}
+
+	@Test
+	void assertArrayEqualsLargeNestedPrimitiveArraysAndMessageSupplier() {
+		long[] expected = new long[100_000];
+		long[] actual = new long[100_000];
+		actual[42_000] = 42L;
+		try {
+			assertArrayEquals(new Object[] { "a", new Object[] { expected } },
+				new Object[] { "a", new Object[] { actual } }, () -> "message");
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageStartsWith(ex, "message");
+			assertMessageEndsWith(ex, "array contents differ at index [1][0][42000], expected: <0> but was: <42>");
+		}
+	}
+
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
+import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
+import static org.junit.jupiter.api.Assertions.assertDeepEquals;
+import static org.junit.jupiter.api.IterableFactory.listOf;
+import static org.junit.jupiter.api.IterableFactory.setOf;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Unit tests for JUnit Jupiter {@link Assertions}.
+ *
+ * @since 5.0
+ */
+public class AssertionsAssertDeepEqualsTests {
+
+	@Test
+	void assertDeepEqualsNullsAndLeaves() {
+		assertDeepEquals(null, null);
+		assertDeepEquals("abc", "abc");
+		assertDeepEquals(42, 42);
+	}
+
+	@Test
+	void assertDeepEqualsNestedStructures() {
+		assertDeepEquals(new Object[] { listOf(1, new int[] { 2, 3 }), mapOf("a", new String[] { "b" }) },
+			new Object[] { setOf(1, new int[] { 2, 3 }), mapOf("a", new String[] { "b" }) });
+		assertDeepEquals(listOf(mapOf("key", listOf(1.0, 2.0))),
+			listOf(new HashMap<>(mapOf("key", listOf(1.0, 2.0)))));
+	}
+
+	@Test
+	void assertDeepEqualsDeeplyNestedStructuresDoNotOverflowStack() {
+		List<Object> expected = new ArrayList<>();
+		List<Object> actual = new ArrayList<>();
+		List<Object> expectedTail = expected;
+		List<Object> actualTail = actual;
+		for (int i = 0; i < 100_000; i++) {
+			List<Object> expectedChild = new ArrayList<>();
+			List<Object> actualChild = new ArrayList<>();
+			expectedTail.add(expectedChild);
+			actualTail.add(actualChild);
+			expectedTail = expectedChild;
+			actualTail = actualChild;
+		}
+		assertDeepEquals(expected, actual);
+	}
+
+	@Test
+	void assertDeepEqualsCyclicStructures() {
+		List<Object> expected = new ArrayList<>();
+		expected.add(1);
+		expected.add(expected);
+		List<Object> actual = new ArrayList<>();
+		actual.add(1);
+		actual.add(actual);
+
+		assertDeepEquals(expected, actual);
+	}
+
+	@Test
+	void assertDeepEqualsReportsPathToFirstDifference() {
+		List<Object> expected = listOf(1, 2, 3, mapOf("items", listOf(0, 1, 2)));
+		List<Object> actual = listOf(1, 2, 3, mapOf("items", listOf(0, 1, 99)));
+
+		try {
+			assertDeepEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "contents differ at [3].items[2], expected: <2> but was: <99>");
+		}
+	}
+
+	@Test
+	void assertDeepEqualsReportsPathIntoPrimitiveArray() {
+		try {
+			assertDeepEquals(mapOf("a b", new long[] { 1, 2 }), mapOf("a b", new long[] { 1, 3 }), "message");
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "message ==> contents differ at [\"a b\"][1], expected: <2> but was: <3>");
+		}
+	}
+
+	@Test
+	void assertDeepEqualsReportsDifferentLengths() {
+		try {
+			assertDeepEquals(new Object[] { listOf(1, 2) }, new Object[] { listOf(1) }, () -> "supplied");
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "supplied ==> lengths differ at [0], expected: <2> but was: <1>");
+		}
+
+		try {
+			assertDeepEquals(new int[0], new int[1]);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "lengths differ, expected: <0> but was: <1>");
+		}
+	}
+
+	@Test
+	void assertDeepEqualsReportsDifferentKeys() {
+		Map<Object, Object> expected = mapOf("a", 1);
+		expected.put(2, 2);
+
+		try {
+			assertDeepEquals(listOf(expected), listOf(mapOf("a", 1)));
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "keys differ at [0], missing key <2>");
+		}
+
+		try {
+			assertDeepEquals(mapOf("a", 1), expected);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "keys differ, unexpected key <2>");
+		}
+	}
+
+	@Test
+	void assertDeepEqualsStopsAtFirstDifference() {
+		Iterable<Integer> infinite = () -> Stream.iterate(0, i -> i + 1).iterator();
+
+		try {
+			assertDeepEquals(listOf(0, 1, 2), infinite);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "lengths differ, expected: <3> but was: <more than 1003>");
+		}
+	}
+
+	@Test
+	void assertDeepEqualsWithNullAndTypeMismatch() {
+		try {
+			assertDeepEquals(listOf("a", null), listOf("a", "b"));
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "contents differ at [1], expected: <null> but was: <b>");
+		}
+
+		try {
+			assertDeepEquals(new Object[] { new int[] { 1 } }, new Object[] { new long[] { 1 } });
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageStartsWith(ex, "contents differ at [0], expected: <[I@");
+		}
+	}
+
+	private static Map<Object, Object> mapOf(Object key, Object value) {
+		Map<Object, Object> map = new LinkedHashMap<>();
+		map.put(key, value);
+		return map;
+	}
+
+}
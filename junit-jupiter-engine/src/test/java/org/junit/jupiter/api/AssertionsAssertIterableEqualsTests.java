@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.IterableFactory.setOf;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.opentest4j.AssertionFailedError;
 
@@ -253,6 +254,18 @@ public class AssertionsAssertIterableEqualsTests {
 		}
 	}
 
+	@Test
+	void assertIterableEqualsInfiniteIterableAndFiniteIterable() {
+		Iterable<Integer> infinite = () -> Stream.iterate(0, i -> i + 1).iterator();
+		try {
+			assertIterableEquals(listOf(0, 1, 2), infinite);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "iterable lengths differ, expected: <3> but was: <more than 1003>");
+		}
+	}
+
 	@Test
 	void assertIterableEqualsNestedIterablesOfDifferentLength() {
 		try {
@@ -21,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.platform.commons.util.ExceptionUtils;
@@ -199,6 +201,29 @@ public class AssertionsAssertTimeoutTests {
 		assertMessageEquals(error, "Tempus Fugit ==> execution timed out after 50 ms");
 	}
 
+	@Test
+	void assertTimeoutPreemptivelyInterruptsExecutableThatCompletesAfterTheTimeout() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		assertThrows(AssertionFailedError.class, () -> assertTimeoutPreemptively(ofMillis(50), () -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+		}));
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS), "executable should have been interrupted");
+	}
+
+	@Test
+	void assertTimeoutPreemptivelyExecutesOnDaemonThreadWithCallersContextClassLoader() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		assertTimeoutPreemptively(ofMillis(500), () -> {
+			assertTrue(Thread.currentThread().isDaemon());
+			assertEquals(contextClassLoader, Thread.currentThread().getContextClassLoader());
+		});
+	}
+
 	// -- supplier - preemptively ---
 
 	@Test
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
+import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Unit tests for {@link BoundedFormatter}.
+ *
+ * @since 5.0
+ */
+class BoundedFormatterTests {
+
+	private final BoundedFormatter formatter = new BoundedFormatter(20, 100);
+
+	@Test
+	void smallValuesAreFormattedAsIs() {
+		assertArrayEquals(new String[] { "[1, 2, 3]", "abc" }, formatter.format(range(1, 4), "abc"));
+		assertArrayEquals(new String[] { "null", "java.lang.String" }, formatter.format(null, String.class));
+	}
+
+	@Test
+	void largeListsAreFormattedAsWindowAroundFirstDifference() {
+		List<Integer> expected = range(0, 1000);
+		List<Integer> actual = new ArrayList<>(expected);
+		actual.set(500, -1);
+
+		String[] formatted = formatter.format(expected, actual);
+
+		assertEquals("[(495 omitted), 495, 496, 497, 498, 499, 500, 501, 502, 503, 504, 505, (494 omitted)]",
+			formatted[0]);
+		assertEquals("[(495 omitted), 495, 496, 497, 498, 499, -1, 501, 502, 503, 504, 505, (494 omitted)]",
+			formatted[1]);
+	}
+
+	@Test
+	void windowIsClampedAtBothEnds() {
+		List<Integer> expected = range(0, 100);
+
+		List<Integer> differentHead = new ArrayList<>(expected);
+		differentHead.set(1, -1);
+		assertEquals("[0, -1, 2, 3, 4, 5, 6, 7, 8, 9, 10, (89 omitted)]",
+			formatter.format(expected, differentHead)[1]);
+
+		List<Integer> longer = new ArrayList<>(expected);
+		longer.add(100);
+		assertEquals("[(89 omitted), 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99]",
+			formatter.format(expected, longer)[0]);
+		assertEquals("[(90 omitted), 90, 91, 92, 93, 94, 95, 96, 97, 98, 99, 100]",
+			formatter.format(expected, longer)[1]);
+	}
+
+	@Test
+	void largeMapsAreFormattedAsWindowOfEntries() {
+		Map<Integer, String> expected = new LinkedHashMap<>();
+		range(0, 30).forEach(i -> expected.put(i, "v" + i));
+		Map<Integer, String> actual = new LinkedHashMap<>(expected);
+		actual.put(2, "changed");
+
+		assertEquals("{0=v0, 1=v1, 2=changed, 3=v3, 4=v4, 5=v5, 6=v6, 7=v7, 8=v8, 9=v9, 10=v10, (19 omitted)}",
+			formatter.format(expected, actual)[1]);
+	}
+
+	@Test
+	void longStringsAreFormattedAsWindowAroundFirstDifference() {
+		String expected = String.join("", Collections.nCopies(1000, "a"));
+		String actual = expected.substring(0, 600) + "b" + expected.substring(601);
+
+		String[] formatted = formatter.format(expected, actual);
+
+		assertEquals("(550 chars omitted)" + expected.substring(550, 650) + "(350 chars omitted)", formatted[0]);
+		assertEquals("(550 chars omitted)" + actual.substring(550, 650) + "(350 chars omitted)", formatted[1]);
+	}
+
+	@Test
+	void longCharSequencesAreAbbreviatedWithoutConvertingThemToStrings() {
+		CharSequence expected = new RepeatingCharSequence('a', 1_000_000);
+		StringBuilder actual = new StringBuilder("ab");
+
+		String[] formatted = formatter.format(expected, actual);
+
+		assertEquals(String.join("", Collections.nCopies(100, "a")) + "(999900 chars omitted)", formatted[0]);
+		assertEquals("ab", formatted[1]);
+	}
+
+	@Test
+	void countElementsStopsConsumingIteratorAtLimit() {
+		Iterator<Integer> iterator = range(0, 1000).iterator();
+
+		assertEquals("more than 25", formatter.countElements(iterator, 5));
+		assertTrue(iterator.hasNext());
+		assertEquals(20, (int) iterator.next());
+
+		assertEquals("10", formatter.countElements(range(0, 7).iterator(), 3));
+	}
+
+	@Test
+	void assertEqualsDoesNotRenderHugeCollections() {
+		List<Integer> expected = range(0, 1_000_000);
+		List<Integer> actual = new ArrayList<>(expected);
+		actual.remove(999_999);
+
+		try {
+			assertEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "expected: <[(999989 omitted), 999989, 999990, 999991, 999992, 999993, "
+					+ "999994, 999995, 999996, 999997, 999998, 999999]> but was: <[(999988 omitted), 999988, "
+					+ "999989, 999990, 999991, 999992, 999993, 999994, 999995, 999996, 999997, 999998]>");
+		}
+	}
+
+	private static List<Integer> range(int from, int to) {
+		return IntStream.range(from, to).boxed().collect(Collectors.toList());
+	}
+
+	private static class RepeatingCharSequence implements CharSequence {
+
+		private final char c;
+		private final int length;
+
+		RepeatingCharSequence(char c, int length) {
+			this.c = c;
+			this.length = length;
+		}
+
+		@Override
+		public int length() {
+			return this.length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return this.c;
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return String.join("", Collections.nCopies(end - start, String.valueOf(this.c)));
+		}
+
+		@Override
+		public String toString() {
+			throw new UnsupportedOperationException("must not be converted to a String");
+		}
+	}
+
+}
@@ -13,6 +13,13 @@ package org.junit.jupiter.api;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,6 +52,58 @@ class DynamicTestTests {
 		assertThat(assertedValues).containsExactly("foo", "bar");
 	}
 
+	@Test
+	void streamFromFile() throws Throwable {
+		Path file = Files.createTempFile("records", ".txt");
+		try {
+			Files.write(file, Arrays.asList("foo=1", "", "bar=2", "baz=3"));
+			List<DynamicTest> dynamicTests;
+			try (Stream<DynamicTest> stream = DynamicTest.stream(file, record -> record.split("=")[0],
+				this::throwingConsumer)) {
+				dynamicTests = stream.collect(Collectors.toList());
+			}
+
+			assertThat(dynamicTests).extracting(DynamicTest::getDisplayName).containsExactly("foo", "bar", "baz");
+
+			dynamicTests.get(1).getExecutable().execute();
+			assertThat(assertedValues).containsExactly("bar=2");
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void streamFromClasspathResource() {
+		try (Stream<DynamicTest> stream = DynamicTest.streamClasspathResource("/dynamic-test-records.txt",
+			record -> record.split("=")[0], this::throwingConsumer)) {
+
+			assertThat(stream.map(DynamicTest::getDisplayName)).containsExactly("alpha", "beta", "gamma");
+		}
+	}
+
+	@Test
+	void streamFromMissingClasspathResource() {
+		Throwable t = assertThrows(Throwable.class,
+			() -> DynamicTest.streamClasspathResource("missing.txt", String::toString, this::throwingConsumer));
+		assertThat(t).hasMessage("Classpath resource [missing.txt] does not exist");
+	}
+
+	@Test
+	void recordIteratorReadsRecordsAcrossChunksAndClosesChannel() {
+		String input = "first record\r\nsecond record with \u00fcml\u00e4uts\n\nthird";
+		ReadableByteChannel channel = Channels.newChannel(
+			new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		List<String> records = new ArrayList<>();
+
+		try (RecordIterator iterator = new RecordIterator(channel, 3)) {
+			iterator.forEachRemaining(records::add);
+		}
+
+		assertThat(records).containsExactly("first record", "second record with \u00fcml\u00e4uts", "third");
+		assertThat(channel.isOpen()).isFalse();
+	}
+
 	private void throwingConsumer(String str) throws Throwable {
 		if ("baz".equals(str)) {
 			throw new Throwable("Baz!");
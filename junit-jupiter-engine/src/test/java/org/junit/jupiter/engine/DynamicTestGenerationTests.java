@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.assertRecordedExecutionEventsContainsExactly;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
@@ -32,13 +33,22 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.test.event.ExecutionEvent;
 import org.junit.platform.engine.test.event.ExecutionEventRecorder;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 
@@ -86,6 +96,23 @@ class DynamicTestGenerationTests extends AbstractJupiterTestEngineTests {
 			event(engine(), finishedSuccessfully()));
 	}
 
+	@Test
+	void executedDynamicTestsAreRemovedFromTestFactory() {
+		LauncherDiscoveryRequest request = request().selectors(
+			DiscoverySelectors.selectMethod(MyDynamicTestCase.class, "dynamicStream")).build();
+		JupiterTestEngine engine = new JupiterTestEngine();
+		TestDescriptor engineDescriptor = engine.discover(request, UniqueId.forEngine(engine.getId()));
+
+		for (int execution = 1; execution <= 2; execution++) {
+			ExecutionEventRecorder eventRecorder = new ExecutionEventRecorder();
+			engine.execute(new ExecutionRequest(engineDescriptor, eventRecorder, request.getConfigurationParameters()));
+
+			assertEquals(2, eventRecorder.getTestStartedCount(), "# dynamic tests started");
+			assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# dynamic tests succeeded");
+			assertEquals(2, engineDescriptor.getDescendants().size(), "# remaining test descriptors");
+		}
+	}
+
 	@Test
 	void dynamicTestsAreExecutedFromCollection() {
 		LauncherDiscoveryRequest request = request().selectors(
@@ -135,6 +162,68 @@ class DynamicTestGenerationTests extends AbstractJupiterTestEngineTests {
 			() -> assertEquals(3, eventRecorder.getContainerFinishedCount(), "# container finished"));
 	}
 
+	@Test
+	void dynamicTestsAreExecutedConcurrentlyWithBoundedLookAheadIfParallelismIsConfigured() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(DiscoverySelectors.selectMethod(MyConcurrentDynamicTestCase.class, "lazyStream")) //
+				.configurationParameter(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME, "2") //
+				.build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertAll( //
+			() -> assertEquals(100, eventRecorder.getDynamicTestRegisteredCount(), "# dynamic registered"),
+			() -> assertEquals(100, eventRecorder.getTestSuccessfulCount(), "# tests succeeded"),
+			() -> assertTrue(MyConcurrentDynamicTestCase.maxPendingTests.get() <= 5, "# pending tests"),
+			() -> assertEquals(0, MyConcurrentDynamicTestCase.pendingTestsAfterEach, "# pending after each"),
+			() -> assertTrue(isOrderedByIndex(eventRecorder), "registration order"));
+	}
+
+	private static boolean isOrderedByIndex(ExecutionEventRecorder eventRecorder) {
+		AtomicInteger index = new AtomicInteger();
+		// @formatter:off
+		return eventRecorder.eventStream()
+				.filter(event -> event.getType() == ExecutionEvent.Type.DYNAMIC_TEST_REGISTERED)
+				.allMatch(event -> event.getTestDescriptor().getUniqueId().toString()
+						.endsWith("[dynamic-test:#" + index.incrementAndGet() + "]"));
+		// @formatter:on
+	}
+
+	private static class MyConcurrentDynamicTestCase {
+
+		private static AtomicInteger pendingTests;
+		private static AtomicInteger maxPendingTests;
+		private static int pendingTestsAfterEach;
+
+		@BeforeAll
+		static void resetCounters() {
+			pendingTests = new AtomicInteger();
+			maxPendingTests = new AtomicInteger();
+			pendingTestsAfterEach = -1;
+		}
+
+		@TestFactory
+		Stream<DynamicTest> lazyStream() {
+			CountDownLatch firstTestsStarted = new CountDownLatch(2);
+			return IntStream.rangeClosed(1, 100).mapToObj(index -> {
+				maxPendingTests.accumulateAndGet(pendingTests.incrementAndGet(), Math::max);
+				return dynamicTest("test" + index, () -> {
+					if (index <= 2) {
+						firstTestsStarted.countDown();
+						assertTrue(firstTestsStarted.await(10, TimeUnit.SECONDS), "tests are expected to overlap");
+					}
+					pendingTests.decrementAndGet();
+				});
+			});
+		}
+
+		@AfterEach
+		void afterEach() {
+			pendingTestsAfterEach = pendingTests.get();
+		}
+
+	}
+
 	private static class MyDynamicTestCase {
 
 		private static final List<DynamicTest> list = Arrays.asList(
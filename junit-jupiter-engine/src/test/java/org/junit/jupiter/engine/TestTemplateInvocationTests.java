@@ -15,8 +15,11 @@ import static java.util.Collections.emptyIterator;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.abortedWithReason;
@@ -38,13 +41,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -68,6 +76,7 @@ import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.test.event.ExecutionEvent;
 import org.junit.platform.engine.test.event.ExecutionEventRecorder;
@@ -111,14 +120,40 @@ public class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests
 	void parentChildRelationshipIsEstablished() {
 		LauncherDiscoveryRequest request = request().selectors(
 			selectMethod(MyTestTemplateTestCase.class, "templateWithSingleRegisteredExtension")).build();
+		Map<TestDescriptor, TestDescriptor> parentsOfRegisteredTests = new HashMap<>();
+		ExecutionEventRecorder eventRecorder = new ExecutionEventRecorder() {
 
-		ExecutionEventRecorder eventRecorder = executeTests(request);
+			@Override
+			public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+				super.dynamicTestRegistered(testDescriptor);
+				testDescriptor.getParent().filter(parent -> parent.getChildren().contains(testDescriptor)).ifPresent(
+					parent -> parentsOfRegisteredTests.put(testDescriptor, parent));
+			}
+		};
+
+		new JupiterTestEngine().execute(
+			new ExecutionRequest(discoverTests(request), eventRecorder, request.getConfigurationParameters()));
 
 		TestDescriptor templateMethodDescriptor = findTestDescriptor(eventRecorder,
 			container("templateWithSingleRegisteredExtension"));
 		TestDescriptor invocationDescriptor = findTestDescriptor(eventRecorder, test("test-template-invocation:#1"));
-		assertThat(invocationDescriptor.getParent()).hasValue(templateMethodDescriptor);
-		assertThat(templateMethodDescriptor.getChildren()).isEqualTo(singleton(invocationDescriptor));
+		assertThat(parentsOfRegisteredTests).containsOnly(entry(invocationDescriptor, templateMethodDescriptor));
+	}
+
+	@Test
+	void executedInvocationsAreRemovedFromTestTemplate() {
+		LauncherDiscoveryRequest request = request().selectors(
+			selectMethod(MyTestTemplateTestCase.class, "templateWithTwoRegisteredExtensions")).build();
+		TestDescriptor engineDescriptor = discoverTests(request);
+
+		for (int execution = 1; execution <= 2; execution++) {
+			ExecutionEventRecorder eventRecorder = new ExecutionEventRecorder();
+			new JupiterTestEngine().execute(
+				new ExecutionRequest(engineDescriptor, eventRecorder, request.getConfigurationParameters()));
+
+			assertEquals(2, eventRecorder.getTestStartedCount(), "# invocations started");
+			assertEquals(2, engineDescriptor.getDescendants().size(), "# remaining test descriptors");
+		}
 	}
 
 	@Test
@@ -308,6 +343,28 @@ public class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests
 					message("No supporting TestTemplateInvocationContextProvider provided an invocation context")))));
 	}
 
+	@Test
+	void templateInvocationsAreExecutedConcurrentlyIfParallelismIsConfigured() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(TestTemplateTestClassWithConcurrentInvocations.class,
+					"testTemplateWithTwoInvocations")) //
+				.configurationParameter(DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME, "2") //
+				.build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertThat(eventRecorder.getTestSuccessfulCount()).isEqualTo(2);
+		// @formatter:off
+		assertThat(eventRecorder.eventStream()
+				.filter(event -> event.getType() == ExecutionEvent.Type.DYNAMIC_TEST_REGISTERED)
+				.map(event -> event.getTestDescriptor().getDisplayName()))
+			.containsExactly("[1]", "[2]");
+		// @formatter:on
+		List<ExecutionEvent> events = eventRecorder.getExecutionEvents();
+		assertThat(events.get(events.size() - 3)).is(
+			event(container("testTemplateWithTwoInvocations"), finishedSuccessfully()));
+	}
+
 	private TestDescriptor findTestDescriptor(ExecutionEventRecorder eventRecorder,
 			Condition<ExecutionEvent> condition) {
 		// @formatter:off
@@ -440,6 +497,23 @@ public class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests
 		}
 	}
 
+	static class TestTemplateTestClassWithConcurrentInvocations {
+
+		private static CountDownLatch invocationsStarted;
+
+		@BeforeAll
+		static void createLatch() {
+			invocationsStarted = new CountDownLatch(2);
+		}
+
+		@ExtendWith(TwoInvocationsContextProvider.class)
+		@TestTemplate
+		void testTemplateWithTwoInvocations() throws InterruptedException {
+			invocationsStarted.countDown();
+			assertTrue(invocationsStarted.await(10, TimeUnit.SECONDS), "invocations are expected to overlap");
+		}
+	}
+
 	private static class SingleInvocationContextProvider implements TestTemplateInvocationContextProvider {
 
 		@Override
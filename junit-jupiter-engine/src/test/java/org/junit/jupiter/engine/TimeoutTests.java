@@ -0,0 +1,264 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TIMEOUT_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.assertRecordedExecutionEventsContainsExactly;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.engine;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedSuccessfully;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.started;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.test;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.test.event.ExecutionEvent;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * Integration tests for {@link Timeout @Timeout} and the
+ * {@value Constants#DEFAULT_TIMEOUT_PROPERTY_NAME} configuration parameter.
+ *
+ * @since 5.0
+ */
+class TimeoutTests extends AbstractJupiterTestEngineTests {
+
+	@Test
+	void testMethodExceedingItsTimeoutIsInterruptedAndFails() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(TimeoutTestCase.class, "sleepingTestWithTimeout")).build());
+
+		assertRecordedExecutionEventsContainsExactly(executionEventsWithoutReportEntries(eventRecorder), //
+			event(engine(), started()), //
+			event(container(TimeoutTestCase.class), started()), //
+			event(test("sleepingTestWithTimeout"), started()), //
+			event(test("sleepingTestWithTimeout"),
+				finishedWithFailure(allOf(isA(TimeoutException.class),
+					message("sleepingTestWithTimeout() timed out after 10 ms")))), //
+			event(container(TimeoutTestCase.class), finishedSuccessfully()), //
+			event(engine(), finishedSuccessfully()));
+	}
+
+	@Test
+	void stackTraceOfTimedOutThreadIsPublishedAsReportEntry() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(TimeoutTestCase.class, "sleepingTestWithTimeout")).build());
+
+		List<String> stackTraces = reportedStackTraces(eventRecorder);
+		assertEquals(1, stackTraces.size());
+		assertThat(stackTraces.get(0)).contains("Thread.sleep", "TimeoutTestCase.sleepingTestWithTimeout");
+	}
+
+	@Test
+	void testMethodCompletingWithinItsTimeoutSucceeds() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectMethod(TimeoutTestCase.class, "fastTestWithTimeout")).build());
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(0, eventRecorder.getReportingEntryPublishedCount(), "# report entries published");
+	}
+
+	@Test
+	void timeoutDeclaredOnTestClassAppliesToLifecycleAndTestMethods() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectClass(ClassLevelTimeoutTestCase.class)).build());
+
+		assertRecordedExecutionEventsContainsExactly(executionEventsWithoutReportEntries(eventRecorder), //
+			event(engine(), started()), //
+			event(container(ClassLevelTimeoutTestCase.class), started()), //
+			event(test("sleepingTest"), started()), //
+			event(test("sleepingTest"), finishedWithFailure(message("sleepingBeforeEach() timed out after 10 ms"))), //
+			event(container(ClassLevelTimeoutTestCase.class), finishedSuccessfully()), //
+			event(engine(), finishedSuccessfully()));
+	}
+
+	@Test
+	void timeoutDeclaredOnMethodOverridesTimeoutDeclaredOnTestClass() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectClass(OverriddenTimeoutTestCase.class)).build());
+
+		assertRecordedExecutionEventsContainsExactly(executionEventsWithoutReportEntries(eventRecorder), //
+			event(engine(), started()), //
+			event(container(OverriddenTimeoutTestCase.class), started()), //
+			event(container(OverriddenTimeoutTestCase.class),
+				finishedWithFailure(message("sleepingBeforeAll() timed out after 20 ms"))), //
+			event(engine(), finishedSuccessfully()));
+	}
+
+	@Test
+	void timeoutDeclaredOnEnclosingClassAppliesToNestedTestClass() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectClass(EnclosingTimeoutTestCase.NestedTestCase.class)).build());
+
+		assertEquals(1, eventRecorder.getTestFailedCount(), "# tests failed");
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(1,
+			event(test("sleepingNestedTest"),
+				finishedWithFailure(message("sleepingNestedTest() timed out after 10 ms"))));
+	}
+
+	@Test
+	void nonPositiveTimeoutIsRejected() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().selectors(selectClass(NonPositiveTimeoutTestCase.class)).build());
+
+		assertEquals(2, eventRecorder.getTestFailedCount(), "# tests failed");
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(2,
+			event(test(), finishedWithFailure(allOf(isA(PreconditionViolationException.class),
+				message(value -> value.contains("must declare a positive value"))))));
+	}
+
+	@Test
+	void defaultTimeoutAppliesToMethodsWithoutDeclaredTimeout() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectClass(TimeoutTestCase.class)) //
+				.configurationParameter(DEFAULT_TIMEOUT_PROPERTY_NAME, "10 ms") //
+				.build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertEquals(3, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(2, eventRecorder.getTestFailedCount(), "# tests failed");
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(1,
+			event(test("sleepingTestWithoutTimeout"),
+				finishedWithFailure(message("sleepingTestWithoutTimeout() timed out after 10 ms"))));
+	}
+
+	@Test
+	void invalidDefaultTimeoutIsIgnored() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(TimeoutTestCase.class, "sleepingTestWithoutTimeout")) //
+				.configurationParameter(DEFAULT_TIMEOUT_PROPERTY_NAME, "ten seconds") //
+				.build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	private static List<ExecutionEvent> executionEventsWithoutReportEntries(ExecutionEventRecorder eventRecorder) {
+		// @formatter:off
+		return eventRecorder.eventStream()
+				.filter(event -> event.getType() != ExecutionEvent.Type.REPORTING_ENTRY_PUBLISHED)
+				.collect(Collectors.toList());
+		// @formatter:on
+	}
+
+	private static List<String> reportedStackTraces(ExecutionEventRecorder eventRecorder) {
+		// @formatter:off
+		return eventRecorder.eventStream()
+				.filter(event -> event.getType() == ExecutionEvent.Type.REPORTING_ENTRY_PUBLISHED)
+				.map(event -> event.getPayload(ReportEntry.class).get().getKeyValuePairs().get("timeout.stackTrace"))
+				.collect(Collectors.toList());
+		// @formatter:on
+	}
+
+	static class TimeoutTestCase {
+
+		@Test
+		@Timeout(value = 10, unit = MILLISECONDS)
+		void sleepingTestWithTimeout() throws Exception {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		@Timeout(1)
+		void fastTestWithTimeout() {
+		}
+
+		@Test
+		void sleepingTestWithoutTimeout() throws Exception {
+			Thread.sleep(100);
+		}
+
+	}
+
+	@Timeout(value = 10, unit = MILLISECONDS)
+	static class ClassLevelTimeoutTestCase {
+
+		@BeforeEach
+		void sleepingBeforeEach() throws Exception {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		void sleepingTest() throws Exception {
+			Thread.sleep(10_000);
+		}
+
+	}
+
+	@Timeout(value = 10, unit = MILLISECONDS)
+	static class EnclosingTimeoutTestCase {
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			void sleepingNestedTest() throws Exception {
+				Thread.sleep(10_000);
+			}
+
+		}
+
+	}
+
+	static class NonPositiveTimeoutTestCase {
+
+		@Test
+		@Timeout(0)
+		void zeroTimeout() {
+		}
+
+		@Test
+		@Timeout(-1)
+		void negativeTimeout() {
+		}
+
+	}
+
+	@Timeout(value = 10, unit = MILLISECONDS)
+	static class OverriddenTimeoutTestCase {
+
+		@BeforeAll
+		@Timeout(value = 20, unit = MILLISECONDS)
+		static void sleepingBeforeAll() throws Exception {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		void test() {
+		}
+
+	}
+
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.execution.ThrowableCollector;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.Node;
 
@@ -40,8 +41,10 @@ class TestFactoryTestDescriptorTests {
 		testExtensionContext = mock(TestExtensionContext.class);
 		isClosed = false;
 
-		context = new JupiterEngineExecutionContext(null, null).extend().withThrowableCollector(
-			new ThrowableCollector()).withExtensionContext(testExtensionContext).build();
+		context = new JupiterEngineExecutionContext(null, mock(ConfigurationParameters.class)).extend()//
+				.withThrowableCollector(new ThrowableCollector())//
+				.withExtensionContext(testExtensionContext)//
+				.build();
 
 		Method testMethod = CustomStreamTestCase.class.getDeclaredMethod("customStream");
 		descriptor = new TestFactoryTestDescriptor(UniqueId.forEngine("engine"), CustomStreamTestCase.class,
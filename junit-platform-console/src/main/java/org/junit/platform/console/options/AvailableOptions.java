@@ -37,10 +37,16 @@ class AvailableOptions {
 	private final OptionSpec<Void> disableAnsiColors;
 	private final OptionSpec<Details> details;
 	private final OptionSpec<Theme> theme;
+	private final OptionSpec<Void> detailsProgress;
 	private final OptionSpec<Path> additionalClasspathEntries;
 
 	// Reports
 	private final OptionSpec<Path> reportsDir;
+	private final OptionSpec<Void> reportsPerClass;
+	private final OptionSpec<ReportsProperties> reportsProperties;
+	private final OptionSpec<String> reportsPropertiesInclude;
+	private final OptionSpec<Path> eventLog;
+	private final OptionSpec<Path> eventStream;
 
 	// Selectors
 	private final OptionSpec<Path> selectedClasspathEntries;
@@ -61,6 +67,9 @@ class AvailableOptions {
 	private final OptionSpec<String> excludeTag;
 	private final OptionSpec<String> includeEngine;
 	private final OptionSpec<String> excludeEngine;
+	private final OptionSpec<Integer> shardIndex;
+	private final OptionSpec<Integer> shardCount;
+	private final OptionSpec<Path> shardDurations;
 
 	AvailableOptions() {
 
@@ -92,6 +101,10 @@ class AvailableOptions {
 				.withValuesConvertedBy(new ThemeConverter()) //
 				.defaultsTo(CommandLineOptions.DEFAULT_THEME);
 
+		detailsProgress = parser.accepts("details-progress",
+			"Buffer the tree and verbose details output, write it at most once per second, and collapse "
+					+ "successful tests into progress lines. Failures and the summary are still shown in full.");
+
 		additionalClasspathEntries = parser.acceptsAll(asList(CP_OPTION, "classpath", "class-path"), //
 			"Provide additional classpath entries -- for example, for adding engines and their dependencies. "
 					+ "This option can be repeated.") //
@@ -107,6 +120,36 @@ class AvailableOptions {
 				.withRequiredArg() //
 				.withValuesConvertedBy(new PathConverter());
 
+		reportsPerClass = parser.accepts("reports-per-class",
+			"Write a separate report for each test class as soon as the class has finished "
+					+ "instead of a single report per engine.");
+
+		reportsProperties = parser.accepts("reports-properties",
+			"Select how system properties are written into reports. Use one of: "
+					+ asList(ReportsProperties.values()) + ". If '" + ReportsProperties.RUN
+					+ "' is selected, then they are written once into system-properties.xml which each report "
+					+ "refers to.") //
+				.withRequiredArg() //
+				.ofType(ReportsProperties.class) //
+				.withValuesConvertedBy(new ReportsPropertiesConverter()) //
+				.defaultsTo(CommandLineOptions.DEFAULT_REPORTS_PROPERTIES);
+
+		reportsPropertiesInclude = parser.accepts("reports-properties-include",
+			"Provide a regular expression to include only system properties whose names match in reports. "
+					+ "When this option is repeated, all patterns will be combined using OR semantics.") //
+				.withRequiredArg();
+
+		eventLog = parser.accepts("event-log",
+			"Record all test execution events into a compact binary log file that can be replayed later.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PathConverter());
+
+		eventStream = parser.accepts("event-stream",
+			"Stream test execution events as JSON Lines, one JSON object per event, into a specified file "
+					+ "or named pipe while tests are running.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PathConverter());
+
 		// --- Selectors -------------------------------------------------------
 
 		selectedClasspathEntries = parser.acceptsAll(asList("scan-class-path", "scan-classpath"), //
@@ -183,6 +226,21 @@ class AvailableOptions {
 		excludeEngine = parser.acceptsAll(asList("E", "exclude-engine"),
 			"Provide the ID of an engine to be excluded from the test run. This option can be repeated.") //
 				.withRequiredArg();
+
+		shardIndex = parser.accepts("shard-index",
+			"Provide the zero-based index of the shard to be included in the test run. " //
+					+ "Test classes are partitioned across shards; requires --shard-count.") //
+				.withRequiredArg() //
+				.ofType(Integer.class);
+		shardCount = parser.accepts("shard-count",
+			"Provide the total number of shards the test run is partitioned into; requires --shard-index.") //
+				.withRequiredArg() //
+				.ofType(Integer.class);
+		shardDurations = parser.accepts("shard-durations",
+			"Provide a properties file mapping fully qualified class names to historical durations in " //
+					+ "milliseconds to balance the runtime of shards instead of partitioning by class name hash.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PathConverter());
 	}
 
 	OptionParser getParser() {
@@ -198,10 +256,16 @@ class AvailableOptions {
 		result.setAnsiColorOutputDisabled(detectedOptions.has(this.disableAnsiColors));
 		result.setDetails(detectedOptions.valueOf(this.details));
 		result.setTheme(detectedOptions.valueOf(this.theme));
+		result.setDetailsProgress(detectedOptions.has(this.detailsProgress));
 		result.setAdditionalClasspathEntries(detectedOptions.valuesOf(this.additionalClasspathEntries));
 
 		// Reports
 		result.setReportsDir(detectedOptions.valueOf(this.reportsDir));
+		result.setReportsPerClass(detectedOptions.has(this.reportsPerClass));
+		result.setReportsProperties(detectedOptions.valueOf(this.reportsProperties));
+		result.setIncludedReportsPropertiesPatterns(detectedOptions.valuesOf(this.reportsPropertiesInclude));
+		result.setEventLog(detectedOptions.valueOf(this.eventLog));
+		result.setEventStream(detectedOptions.valueOf(this.eventStream));
 
 		// Selectors
 		result.setScanClasspath(detectedOptions.has(this.selectedClasspathEntries));
@@ -223,6 +287,9 @@ class AvailableOptions {
 		result.setExcludedTags(detectedOptions.valuesOf(this.excludeTag));
 		result.setIncludedEngines(detectedOptions.valuesOf(this.includeEngine));
 		result.setExcludedEngines(detectedOptions.valuesOf(this.excludeEngine));
+		result.setShardIndex(detectedOptions.valueOf(this.shardIndex));
+		result.setShardCount(detectedOptions.valueOf(this.shardCount));
+		result.setShardDurations(detectedOptions.valueOf(this.shardDurations));
 
 		return result;
 	}
@@ -34,11 +34,13 @@ public class CommandLineOptions {
 
 	static final Details DEFAULT_DETAILS = Details.TREE;
 	static final Theme DEFAULT_THEME = Theme.valueOf(Charset.defaultCharset());
+	static final ReportsProperties DEFAULT_REPORTS_PROPERTIES = ReportsProperties.ALL;
 
 	private boolean displayHelp;
 	private boolean ansiColorOutputDisabled;
 	private Details details = DEFAULT_DETAILS;
 	private Theme theme = DEFAULT_THEME;
+	private boolean detailsProgress;
 
 	private boolean scanClasspath;
 	private List<Path> selectedClasspathEntries = emptyList();
@@ -59,10 +61,18 @@ public class CommandLineOptions {
 	private List<String> excludedEngines = emptyList();
 	private List<String> includedTags = emptyList();
 	private List<String> excludedTags = emptyList();
+	private Integer shardIndex;
+	private Integer shardCount;
+	private Path shardDurations;
 
 	private List<Path> additionalClasspathEntries = emptyList();
 
 	private Path reportsDir;
+	private boolean reportsPerClass;
+	private ReportsProperties reportsProperties = DEFAULT_REPORTS_PROPERTIES;
+	private List<String> includedReportsPropertiesPatterns = emptyList();
+	private Path eventLog;
+	private Path eventStream;
 
 	public boolean isDisplayHelp() {
 		return this.displayHelp;
@@ -104,6 +114,14 @@ public class CommandLineOptions {
 		this.theme = theme;
 	}
 
+	public boolean isDetailsProgress() {
+		return this.detailsProgress;
+	}
+
+	public void setDetailsProgress(boolean detailsProgress) {
+		this.detailsProgress = detailsProgress;
+	}
+
 	public List<URI> getSelectedUris() {
 		return selectedUris;
 	}
@@ -229,6 +247,30 @@ public class CommandLineOptions {
 		this.excludedTags = excludedTags;
 	}
 
+	public Optional<Integer> getShardIndex() {
+		return Optional.ofNullable(this.shardIndex);
+	}
+
+	public void setShardIndex(Integer shardIndex) {
+		this.shardIndex = shardIndex;
+	}
+
+	public Optional<Integer> getShardCount() {
+		return Optional.ofNullable(this.shardCount);
+	}
+
+	public void setShardCount(Integer shardCount) {
+		this.shardCount = shardCount;
+	}
+
+	public Optional<Path> getShardDurations() {
+		return Optional.ofNullable(this.shardDurations);
+	}
+
+	public void setShardDurations(Path shardDurations) {
+		this.shardDurations = shardDurations;
+	}
+
 	public List<Path> getAdditionalClasspathEntries() {
 		return this.additionalClasspathEntries;
 	}
@@ -247,6 +289,46 @@ public class CommandLineOptions {
 		this.reportsDir = reportsDir;
 	}
 
+	public boolean isReportsPerClass() {
+		return this.reportsPerClass;
+	}
+
+	public void setReportsPerClass(boolean reportsPerClass) {
+		this.reportsPerClass = reportsPerClass;
+	}
+
+	public ReportsProperties getReportsProperties() {
+		return this.reportsProperties;
+	}
+
+	public void setReportsProperties(ReportsProperties reportsProperties) {
+		this.reportsProperties = reportsProperties;
+	}
+
+	public List<String> getIncludedReportsPropertiesPatterns() {
+		return this.includedReportsPropertiesPatterns;
+	}
+
+	public void setIncludedReportsPropertiesPatterns(List<String> includedReportsPropertiesPatterns) {
+		this.includedReportsPropertiesPatterns = includedReportsPropertiesPatterns;
+	}
+
+	public Optional<Path> getEventLog() {
+		return Optional.ofNullable(this.eventLog);
+	}
+
+	public void setEventLog(Path eventLog) {
+		this.eventLog = eventLog;
+	}
+
+	public Optional<Path> getEventStream() {
+		return Optional.ofNullable(this.eventStream);
+	}
+
+	public void setEventStream(Path eventStream) {
+		this.eventStream = eventStream;
+	}
+
 	public List<Path> getSelectedClasspathEntries() {
 		return this.selectedClasspathEntries;
 	}
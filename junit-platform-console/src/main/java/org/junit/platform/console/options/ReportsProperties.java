@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.options;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * @since 1.0
+ */
+@API(Internal)
+public enum ReportsProperties {
+
+	/**
+	 * System properties are written into each report.
+	 */
+	ALL,
+
+	/**
+	 * System properties are written once per test run into a separate file
+	 * which each report refers to.
+	 */
+	RUN,
+
+	/**
+	 * No system properties are written.
+	 */
+	NONE;
+
+	/**
+	 * Return lower case {@link #name} for easier usage in help text for
+	 * available options.
+	 */
+	@Override
+	public String toString() {
+		return name().toLowerCase();
+	}
+
+}
@@ -31,6 +31,7 @@ import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.EventLogWritingListener;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
@@ -98,18 +99,28 @@ public class ConsoleTestExecutor {
 		createDetailsPrintingListener(out).ifPresent(launcher::registerTestExecutionListeners);
 		// optionally, register XML reports writing listener
 		createXmlWritingListener(out).ifPresent(launcher::registerTestExecutionListeners);
+		// optionally, register event log writing listener
+		options.getEventLog().map(EventLogWritingListener::new).ifPresent(launcher::registerTestExecutionListeners);
+		// optionally, register JSON Lines event stream writing listener
+		options.getEventStream().map(file -> new JsonLinesWritingListener(file, out)).ifPresent(
+			launcher::registerTestExecutionListeners);
 		return summaryListener;
 	}
 
 	private Optional<TestExecutionListener> createDetailsPrintingListener(PrintWriter out) {
 		boolean disableAnsiColors = options.isAnsiColorOutputDisabled();
 		Theme theme = options.getTheme();
+		boolean progress = options.isDetailsProgress();
 		switch (options.getDetails()) {
 			case FLAT:
 				return Optional.of(new FlatPrintingListener(out, disableAnsiColors));
 			case TREE:
-				return Optional.of(new TreePrintingListener(out, disableAnsiColors, theme));
+				return Optional.of(new TreePrintingListener(out, disableAnsiColors, theme, progress));
 			case VERBOSE:
+				if (progress) {
+					return Optional.of(
+						new VerboseTreePrintingListener(new ThrottledOutput(out), disableAnsiColors, 16, theme));
+				}
 				return Optional.of(new VerboseTreePrintingListener(out, disableAnsiColors, 16, theme));
 			default:
 				return Optional.empty();
@@ -118,7 +129,10 @@ public class ConsoleTestExecutor {
 
 	private Optional<TestExecutionListener> createXmlWritingListener(PrintWriter out) {
 		if (options.getReportsDir().isPresent()) {
-			return Optional.of(new XmlReportsWritingListener(options.getReportsDir().get(), out));
+			XmlReportProperties properties = new XmlReportProperties(options.getReportsProperties(),
+				options.getIncludedReportsPropertiesPatterns());
+			return Optional.of(new XmlReportsWritingListener(options.getReportsDir().get(), out,
+				options.isReportsPerClass(), properties));
 		}
 		return Optional.empty();
 	}
@@ -25,6 +25,7 @@ import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.platform.commons.util.Preconditions;
@@ -116,6 +117,25 @@ class DiscoveryRequestCreator {
 		if (!options.getExcludedEngines().isEmpty()) {
 			requestBuilder.filters(excludeEngines(options.getExcludedEngines()));
 		}
+
+		if (options.getShardIndex().isPresent() || options.getShardCount().isPresent()
+				|| options.getShardDurations().isPresent()) {
+			addShardFilter(requestBuilder, options);
+		}
+	}
+
+	private void addShardFilter(LauncherDiscoveryRequestBuilder requestBuilder, CommandLineOptions options) {
+		Preconditions.condition(options.getShardIndex().isPresent() && options.getShardCount().isPresent(),
+			"Both --shard-index and --shard-count must be supplied in order to run a single shard");
+		int shardIndex = options.getShardIndex().get();
+		int shardCount = options.getShardCount().get();
+		Optional<Path> durationsFile = options.getShardDurations();
+		if (durationsFile.isPresent()) {
+			requestBuilder.shard(shardIndex, shardCount, durationsFile.get());
+		}
+		else {
+			requestBuilder.shard(shardIndex, shardCount);
+		}
 	}
 
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * Minimal JSON encoder that renders one object per line into a reusable
+ * buffer, so that encoding an event allocates as little as possible.
+ *
+ * @since 1.0
+ */
+@API(Internal)
+class JsonLineEncoder {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final StringBuilder line = new StringBuilder(256);
+	private char[] chars = new char[256];
+	private boolean firstMember;
+
+	JsonLineEncoder beginLine() {
+		this.line.setLength(0);
+		return beginObject();
+	}
+
+	JsonLineEncoder beginObject(String name) {
+		appendName(name);
+		return beginObject();
+	}
+
+	private JsonLineEncoder beginObject() {
+		this.line.append('{');
+		this.firstMember = true;
+		return this;
+	}
+
+	JsonLineEncoder endObject() {
+		this.line.append('}');
+		this.firstMember = false;
+		return this;
+	}
+
+	JsonLineEncoder add(String name, String value) {
+		appendName(name);
+		appendString(value);
+		return this;
+	}
+
+	JsonLineEncoder add(String name, long value) {
+		appendName(name);
+		this.line.append(value);
+		return this;
+	}
+
+	/**
+	 * Finish the current line and write it to the supplied writer.
+	 */
+	void endLine(Writer writer) throws IOException {
+		endObject();
+		this.line.append('\n');
+		int length = this.line.length();
+		if (this.chars.length < length) {
+			this.chars = new char[Math.max(length, 2 * this.chars.length)];
+		}
+		this.line.getChars(0, length, this.chars, 0);
+		writer.write(this.chars, 0, length);
+	}
+
+	@Override
+	public String toString() {
+		return this.line.toString();
+	}
+
+	private void appendName(String name) {
+		if (!this.firstMember) {
+			this.line.append(',');
+		}
+		this.firstMember = false;
+		appendString(name);
+		this.line.append(':');
+	}
+
+	private void appendString(String value) {
+		if (value == null) {
+			this.line.append("null");
+			return;
+		}
+		this.line.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					this.line.append("\\\"");
+					break;
+				case '\\':
+					this.line.append("\\\\");
+					break;
+				case '\n':
+					this.line.append("\\n");
+					break;
+				case '\r':
+					this.line.append("\\r");
+					break;
+				case '\t':
+					this.line.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						this.line.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+					}
+					else {
+						this.line.append(c);
+					}
+			}
+		}
+		this.line.append('"');
+	}
+
+}
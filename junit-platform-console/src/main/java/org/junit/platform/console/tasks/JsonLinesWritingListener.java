@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that streams one JSON object per event into
+ * a file or named pipe while the tests are running (JSON Lines).
+ *
+ * <p>Each line is flushed as soon as it has been written, so that consumers
+ * can process the events immediately.
+ *
+ * @since 1.0
+ */
+@API(Internal)
+class JsonLinesWritingListener implements TestExecutionListener {
+
+	private final Path file;
+	private final PrintWriter out;
+	private final Clock clock;
+	private final LongSupplier nanoTime;
+	private final JsonLineEncoder encoder = new JsonLineEncoder();
+	private final Map<String, Long> startNanoTimes = new HashMap<>();
+
+	private Writer writer;
+
+	JsonLinesWritingListener(Path file, PrintWriter out) {
+		this(file, out, Clock.systemDefaultZone(), System::nanoTime);
+	}
+
+	// For tests only
+	JsonLinesWritingListener(Path file, PrintWriter out, Clock clock, LongSupplier nanoTime) {
+		this.file = file;
+		this.out = out;
+		this.clock = clock;
+		this.nanoTime = nanoTime;
+	}
+
+	@Override
+	public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+		try {
+			this.writer = Files.newBufferedWriter(this.file, UTF_8);
+		}
+		catch (IOException e) {
+			printException("Could not open event stream: " + this.file, e);
+			return;
+		}
+		this.encoder.beginLine().add("event", "testPlanExecutionStarted").add("timestamp", this.clock.millis());
+		this.encoder.add("tests", testPlan.countTestIdentifiers(TestIdentifier::isTest));
+		writeLine();
+	}
+
+	@Override
+	public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+		this.encoder.beginLine().add("event", "testPlanExecutionFinished").add("timestamp", this.clock.millis());
+		writeLine();
+		if (this.writer != null) {
+			try {
+				this.writer.close();
+			}
+			catch (IOException e) {
+				printException("Could not close event stream: " + this.file, e);
+			}
+			this.writer = null;
+		}
+		this.startNanoTimes.clear();
+	}
+
+	@Override
+	public synchronized void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		beginLine("dynamicTestRegistered", testIdentifier).add("displayName", testIdentifier.getDisplayName());
+		writeLine();
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		beginLine("executionSkipped", testIdentifier).add("status", "SKIPPED").add("reason", reason);
+		writeLine();
+	}
+
+	@Override
+	public synchronized void executionStarted(TestIdentifier testIdentifier) {
+		this.startNanoTimes.put(testIdentifier.getUniqueId(), this.nanoTime.getAsLong());
+		beginLine("executionStarted", testIdentifier).add("displayName", testIdentifier.getDisplayName());
+		writeLine();
+	}
+
+	@Override
+	public synchronized void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Long startNanoTime = this.startNanoTimes.remove(testIdentifier.getUniqueId());
+		beginLine("executionFinished", testIdentifier).add("status", testExecutionResult.getStatus().name());
+		if (startNanoTime != null) {
+			this.encoder.add("durationNanos", this.nanoTime.getAsLong() - startNanoTime);
+		}
+		testExecutionResult.getThrowable().ifPresent(throwable -> this.encoder.add("throwable", throwable.toString()));
+		writeLine();
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		beginLine("reportingEntryPublished", testIdentifier).beginObject("entries");
+		entry.getKeyValuePairs().forEach(this.encoder::add);
+		this.encoder.endObject();
+		writeLine();
+	}
+
+	private JsonLineEncoder beginLine(String event, TestIdentifier testIdentifier) {
+		// @formatter:off
+		return this.encoder.beginLine()
+				.add("event", event)
+				.add("timestamp", this.clock.millis())
+				.add("thread", Thread.currentThread().getName())
+				.add("uniqueId", testIdentifier.getUniqueId())
+				.add("parentId", testIdentifier.getParentId().orElse(null))
+				.add("type", typeOf(testIdentifier));
+		// @formatter:on
+	}
+
+	private static String typeOf(TestIdentifier testIdentifier) {
+		if (testIdentifier.isContainer()) {
+			return testIdentifier.isTest() ? "container_and_test" : "container";
+		}
+		return testIdentifier.isTest() ? "test" : "none";
+	}
+
+	private void writeLine() {
+		if (this.writer == null) {
+			return;
+		}
+		try {
+			this.encoder.endLine(this.writer);
+			this.writer.flush();
+		}
+		catch (IOException e) {
+			printException("Could not write event stream: " + this.file, e);
+			closeQuietly();
+		}
+	}
+
+	private void closeQuietly() {
+		try {
+			this.writer.close();
+		}
+		catch (IOException ignored) {
+			// the stream has already failed
+		}
+		this.writer = null;
+	}
+
+	private void printException(String message, Exception exception) {
+		this.out.println(message);
+		exception.printStackTrace(this.out);
+	}
+
+}
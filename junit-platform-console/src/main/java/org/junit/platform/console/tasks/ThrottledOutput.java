@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Clock;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * Buffers console output in memory and writes it to the target writer
+ * only once the buffer has reached a size threshold or a time interval
+ * has elapsed since the last write.
+ *
+ * @since 1.0
+ */
+@API(Internal)
+class ThrottledOutput {
+
+	static final int DEFAULT_FLUSH_SIZE = 16 * 1024;
+	static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+
+	private final PrintWriter target;
+	private final StringWriter buffer;
+	private final PrintWriter writer;
+	private final int flushSize;
+	private final long flushIntervalMillis;
+	private final Clock clock;
+	private long lastFlushMillis;
+
+	ThrottledOutput(PrintWriter target) {
+		this(target, DEFAULT_FLUSH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, Clock.systemDefaultZone());
+	}
+
+	ThrottledOutput(PrintWriter target, int flushSize, long flushIntervalMillis, Clock clock) {
+		this.target = target;
+		this.buffer = new StringWriter(flushSize);
+		this.writer = new PrintWriter(this.buffer);
+		this.flushSize = flushSize;
+		this.flushIntervalMillis = flushIntervalMillis;
+		this.clock = clock;
+		this.lastFlushMillis = clock.millis();
+	}
+
+	/**
+	 * Get the writer that renders into the buffer.
+	 */
+	PrintWriter writer() {
+		return this.writer;
+	}
+
+	/**
+	 * Get the number of characters currently buffered.
+	 */
+	int length() {
+		return this.buffer.getBuffer().length();
+	}
+
+	/**
+	 * Discard all buffered characters from the supplied position on.
+	 */
+	String cut(int position) {
+		StringBuffer chars = this.buffer.getBuffer();
+		String cut = chars.substring(position);
+		chars.setLength(position);
+		return cut;
+	}
+
+	boolean isFlushDue() {
+		return length() >= this.flushSize || this.clock.millis() - this.lastFlushMillis >= this.flushIntervalMillis;
+	}
+
+	void flush() {
+		StringBuffer chars = this.buffer.getBuffer();
+		if (chars.length() > 0) {
+			this.target.append(chars);
+			chars.setLength(0);
+		}
+		this.target.flush();
+		this.lastFlushMillis = this.clock.millis();
+	}
+
+}
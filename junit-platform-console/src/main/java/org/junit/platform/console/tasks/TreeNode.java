@@ -36,6 +36,7 @@ class TreeNode {
 	List<ReportEntry> reports = Collections.emptyList();
 	List<TreeNode> children = Collections.emptyList();
 	boolean visible;
+	long collapsedTests;
 
 	TreeNode(String caption) {
 		this.caption = caption;
@@ -70,6 +71,30 @@ class TreeNode {
 		return this;
 	}
 
+	/**
+	 * Replace the supplied child, a successful test, with a progress line that
+	 * counts it together with adjacent successful tests.
+	 */
+	TreeNode collapseChild(TreeNode child) {
+		int index = children.indexOf(child);
+		children.remove(index);
+		TreeNode previous = index > 0 ? children.get(index - 1) : null;
+		if (previous != null && previous.collapsedTests > 0) {
+			previous.collapsedTests++;
+			return this;
+		}
+		TreeNode next = index < children.size() ? children.get(index) : null;
+		if (next != null && next.collapsedTests > 0) {
+			next.collapsedTests++;
+			return this;
+		}
+		TreeNode progress = new TreeNode("");
+		progress.collapsedTests = 1;
+		progress.visible = true;
+		children.add(index, progress);
+		return this;
+	}
+
 	TreeNode setResult(TestExecutionResult result) {
 		this.result = result;
 		this.duration = System.currentTimeMillis() - creation;
@@ -17,6 +17,7 @@ import static org.junit.platform.console.tasks.Color.FAILED;
 import static org.junit.platform.console.tasks.Color.GREEN;
 import static org.junit.platform.console.tasks.Color.NONE;
 import static org.junit.platform.console.tasks.Color.SKIPPED;
+import static org.junit.platform.console.tasks.Color.SUCCESSFUL;
 import static org.junit.platform.console.tasks.Color.YELLOW;
 
 import java.io.PrintWriter;
@@ -72,6 +73,12 @@ class TreePrinter {
 	private void printVisible(TreeNode node, String indent, boolean continuous) {
 		String bullet = continuous ? theme.entry() : theme.end();
 		String prefix = color(CONTAINER, indent + bullet);
+		if (node.collapsedTests > 0) {
+			out.print(prefix);
+			out.print(" ");
+			out.println(color(SUCCESSFUL, theme.successful() + " " + node.collapsedTests + " tests successful"));
+			return;
+		}
 		String tabbed = color(CONTAINER, indent + (continuous ? theme.vertical() : theme.blank()) + theme.blank());
 		String caption = colorCaption(node);
 		String duration = color(CONTAINER, node.duration + " ms");
@@ -11,59 +11,84 @@
 package org.junit.platform.console.tasks;
 
 import java.io.PrintWriter;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.platform.console.options.Theme;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 
 /**
+ * Nodes are looked up by the unique IDs of their test identifiers, since
+ * events of tests that are executed concurrently may interleave.
+ *
  * @since 1.0
  */
 class TreePrintingListener implements TestExecutionListener {
 
-	private final Deque<TreeNode> stack;
+	private final Map<String, TreeNode> nodesByUniqueId;
 	private final TreePrinter treePrinter;
+	private final boolean collapseSuccessfulTests;
+	private TreeNode root;
 
 	TreePrintingListener(PrintWriter out, boolean disableAnsiColors, Theme theme) {
+		this(out, disableAnsiColors, theme, false);
+	}
+
+	TreePrintingListener(PrintWriter out, boolean disableAnsiColors, Theme theme, boolean collapseSuccessfulTests) {
 		this.treePrinter = new TreePrinter(out, theme, disableAnsiColors);
-		this.stack = new ArrayDeque<>();
+		this.nodesByUniqueId = new HashMap<>();
+		this.collapseSuccessfulTests = collapseSuccessfulTests;
 	}
 
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
-		stack.push(new TreeNode(testPlan.toString()));
+		root = new TreeNode(testPlan.toString());
 	}
 
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
-		treePrinter.print(stack.pop());
+		treePrinter.print(root);
+		nodesByUniqueId.clear();
 	}
 
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
 		TreeNode node = new TreeNode(testIdentifier);
-		stack.peek().addChild(node);
-		stack.push(node);
+		parentOf(testIdentifier).addChild(node);
+		nodesByUniqueId.put(testIdentifier.getUniqueId(), node);
 	}
 
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
-		stack.pop().setResult(testExecutionResult);
+		TreeNode node = nodeOf(testIdentifier).setResult(testExecutionResult);
+		if (collapseSuccessfulTests && testIdentifier.isTest() && testExecutionResult.getStatus() == Status.SUCCESSFUL
+				&& node.children.isEmpty() && node.reports.isEmpty()) {
+			parentOf(testIdentifier).collapseChild(node);
+			nodesByUniqueId.remove(testIdentifier.getUniqueId());
+		}
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-		stack.peek().addChild(new TreeNode(testIdentifier, reason));
+		parentOf(testIdentifier).addChild(new TreeNode(testIdentifier, reason));
 	}
 
 	@Override
 	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
-		stack.peek().addReportEntry(entry);
+		nodeOf(testIdentifier).addReportEntry(entry);
+	}
+
+	private TreeNode nodeOf(TestIdentifier testIdentifier) {
+		return nodesByUniqueId.getOrDefault(testIdentifier.getUniqueId(), root);
+	}
+
+	private TreeNode parentOf(TestIdentifier testIdentifier) {
+		return testIdentifier.getParentId().map(nodesByUniqueId::get).orElse(root);
 	}
 
 }
@@ -14,37 +14,61 @@ import static org.junit.platform.commons.util.ExceptionUtils.readStackTrace;
 import static org.junit.platform.console.tasks.Color.NONE;
 
 import java.io.PrintWriter;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 import org.junit.platform.console.options.Theme;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 
 /**
+ * The nesting level of each test identifier is determined by its parent ID,
+ * since events of tests that are executed concurrently may interleave.
+ *
  * @since 1.0
  */
 class VerboseTreePrintingListener implements TestExecutionListener {
 
 	private final PrintWriter out;
+	private final ThrottledOutput output;
 	private final boolean disableAnsiColors;
 	private final Theme theme;
-	private final Deque<Long> frames;
+	private final Map<String, Integer> levels = new HashMap<>();
+	private final Map<String, Long> startedMillis = new HashMap<>();
 	private final String[] verticals;
-	private long executionStartedMillis;
+	private String lastPrintedUniqueId;
+	private long collapsedTests;
+	private int collapsedLevel;
+	private String collapsedParentId;
+	private int leafStart = -1;
+	private String leafUniqueId;
+	private boolean leafReported;
 
 	VerboseTreePrintingListener(PrintWriter out, boolean disableAnsiColors, int maxContainerNestingLevel, Theme theme) {
+		this(out, null, disableAnsiColors, maxContainerNestingLevel, theme);
+	}
+
+	/**
+	 * Create a listener that renders into the supplied throttled output and
+	 * collapses successful tests into progress lines.
+	 */
+	VerboseTreePrintingListener(ThrottledOutput output, boolean disableAnsiColors, int maxContainerNestingLevel,
+			Theme theme) {
+		this(output.writer(), output, disableAnsiColors, maxContainerNestingLevel, theme);
+	}
+
+	private VerboseTreePrintingListener(PrintWriter out, ThrottledOutput output, boolean disableAnsiColors,
+			int maxContainerNestingLevel, Theme theme) {
 		this.out = out;
+		this.output = output;
 		this.disableAnsiColors = disableAnsiColors;
 		this.theme = theme;
 
-		// create frame stack and push initial root frame
-		this.frames = new ArrayDeque<>();
-		this.frames.push(0L);
-
 		// create and populate vertical indentation lookup table
 		this.verticals = new String[Math.max(10, maxContainerNestingLevel) + 1];
 		this.verticals[0] = ""; // no frame
@@ -58,96 +82,260 @@ class VerboseTreePrintingListener implements TestExecutionListener {
 
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
-		frames.push(System.currentTimeMillis());
-
 		long tests = testPlan.countTestIdentifiers(TestIdentifier::isTest);
 		printf(NONE, "Test plan execution started. Number of static tests: ");
 		printf(Color.TEST, "%d%n", tests);
 		printf(Color.CONTAINER, "%s%n", theme.root());
+		flushIfDue();
 	}
 
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
-		frames.pop();
+		commitPendingLeaf();
+		levels.clear();
+		startedMillis.clear();
 
 		long tests = testPlan.countTestIdentifiers(TestIdentifier::isTest);
 		printf(NONE, "Test plan execution finished. Number of all tests: ");
 		printf(Color.TEST, "%d%n", tests);
+		if (output != null) {
+			output.flush();
+		}
 	}
 
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
-		this.executionStartedMillis = System.currentTimeMillis();
+		int level = register(testIdentifier);
+		startedMillis.put(testIdentifier.getUniqueId(), System.currentTimeMillis());
 		if (testIdentifier.isContainer()) {
-			printVerticals(theme.entry());
+			commitPendingLeaf();
+			printVerticals(level, theme.entry());
 			printf(Color.CONTAINER, " %s", testIdentifier.getDisplayName());
 			printf(NONE, "%n");
-			frames.push(System.currentTimeMillis());
+			lastPrintedUniqueId = testIdentifier.getUniqueId();
+			flushIfDue();
 		}
 		if (testIdentifier.isContainer()) {
 			return;
 		}
-		printVerticals(theme.entry());
+		beginLeaf(testIdentifier);
+		printVerticals(level, theme.entry());
 		printf(Color.valueOf(testIdentifier), " %s%n", testIdentifier.getDisplayName());
-		printDetails(testIdentifier);
+		printDetails(level, testIdentifier);
+		lastPrintedUniqueId = testIdentifier.getUniqueId();
 	}
 
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		String uniqueId = testIdentifier.getUniqueId();
+		int level = levelOf(testIdentifier);
+		long creationMillis = startedMillis.getOrDefault(uniqueId, System.currentTimeMillis());
+		levels.remove(uniqueId);
+		startedMillis.remove(uniqueId);
 		if (testIdentifier.isContainer()) {
-			Long creationMillis = frames.pop();
-			printVerticals(theme.end());
+			commitPendingLeaf();
+			printVerticals(level, theme.end());
 			printf(Color.CONTAINER, " %s", testIdentifier.getDisplayName());
 			printf(NONE, " finished after %d ms.%n", System.currentTimeMillis() - creationMillis);
+			lastPrintedUniqueId = uniqueId;
+			flushIfDue();
+			return;
+		}
+		if (endLeaf(testIdentifier, level, testExecutionResult.getStatus() == Status.SUCCESSFUL)) {
+			flushIfDue();
 			return;
 		}
-		testExecutionResult.getThrowable().ifPresent(t -> printDetail(Color.FAILED, "caught", readStackTrace(t)));
-		printDetail(NONE, "duration", "%d ms%n", System.currentTimeMillis() - executionStartedMillis);
+		printCaptionIfInterleaved(level, testIdentifier);
+		testExecutionResult.getThrowable().ifPresent(
+			throwable -> printDetail(level, Color.FAILED, "caught", readStackTrace(throwable)));
+		printDetail(level, NONE, "duration", "%d ms%n", System.currentTimeMillis() - creationMillis);
 		String status = theme.status(testExecutionResult) + " " + testExecutionResult.getStatus();
-		printDetail(Color.valueOf(testExecutionResult), "status", "%s%n", status);
+		printDetail(level, Color.valueOf(testExecutionResult), "status", "%s%n", status);
+		lastPrintedUniqueId = uniqueId;
+		flushIfDue();
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-		printVerticals(theme.entry());
+		int level = levelOf(testIdentifier);
+		beginLeaf(testIdentifier);
+		endLeaf(testIdentifier, level, false);
+		printVerticals(level, theme.entry());
 		printf(Color.valueOf(testIdentifier), " %s%n", testIdentifier.getDisplayName());
-		printDetails(testIdentifier);
-		printDetail(Color.SKIPPED, "reason", reason);
-		printDetail(Color.SKIPPED, "status", theme.skipped() + " SKIPPED");
+		printDetails(level, testIdentifier);
+		printDetail(level, Color.SKIPPED, "reason", reason);
+		printDetail(level, Color.SKIPPED, "status", theme.skipped() + " SKIPPED");
+		lastPrintedUniqueId = testIdentifier.getUniqueId();
+		flushIfDue();
 	}
 
 	@Override
 	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
-		printVerticals(theme.entry());
+		int level = register(testIdentifier);
+		if (testIdentifier.isContainer()) {
+			commitPendingLeaf();
+		}
+		else {
+			beginLeaf(testIdentifier);
+		}
+		printVerticals(level, theme.entry());
 		printf(Color.DYNAMIC, " %s", testIdentifier.getDisplayName());
 		printf(NONE, " dynamically registered%n");
+		lastPrintedUniqueId = testIdentifier.getUniqueId();
 	}
 
 	@Override
 	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
-		printDetail(Color.REPORTED, "reports", entry.toString());
+		int level = levelOf(testIdentifier);
+		if (testIdentifier.getUniqueId().equals(leafUniqueId)) {
+			leafReported = true;
+		}
+		else {
+			commitPendingLeaf();
+		}
+		printCaptionIfInterleaved(level, testIdentifier);
+		// report entries of containers are printed below their children
+		int detailLevel = testIdentifier.isContainer() ? level + 1 : level;
+		printDetail(detailLevel, Color.REPORTED, "reports", entry.toString());
+		lastPrintedUniqueId = testIdentifier.getUniqueId();
 	}
 
 	/**
-	 * Print static information about the test identifier.
+	 * Remember the nesting level of the test identifier, which is one level
+	 * below the level of its parent.
+	 */
+	private int register(TestIdentifier testIdentifier) {
+		int level = levelOf(testIdentifier);
+		levels.put(testIdentifier.getUniqueId(), level);
+		return level;
+	}
+
+	private int levelOf(TestIdentifier testIdentifier) {
+		Integer level = levels.get(testIdentifier.getUniqueId());
+		if (level != null) {
+			return level;
+		}
+		// the synthetic root "/" level is the parent of all engines
+		return testIdentifier.getParentId().map(levels::get).orElse(1) + 1;
+	}
+
+	/**
+	 * Repeat the caption of the test identifier if output of other test
+	 * identifiers has been printed since its caption.
 	 */
-	private void printDetails(TestIdentifier testIdentifier) {
-		printDetail(NONE, "tags", "%s%n", testIdentifier.getTags());
-		printDetail(NONE, "uniqueId", "%s%n", testIdentifier.getUniqueId());
-		printDetail(NONE, "parent", "%s%n", testIdentifier.getParentId().orElse("[]"));
-		testIdentifier.getSource().ifPresent(source -> printDetail(NONE, "source", "%s%n", source));
+	private void printCaptionIfInterleaved(int level, TestIdentifier testIdentifier) {
+		if (!testIdentifier.getUniqueId().equals(lastPrintedUniqueId)) {
+			printVerticals(level, theme.entry());
+			printf(Color.valueOf(testIdentifier), " %s%n", testIdentifier.getDisplayName());
+		}
 	}
 
-	private String verticals() {
-		return verticals(frames.size());
+	/**
+	 * Remember where the output of a test starts, so that it can be removed
+	 * again if the test turns out to be successful.
+	 */
+	private void beginLeaf(TestIdentifier testIdentifier) {
+		if (output == null) {
+			return;
+		}
+		if (leafStart >= 0 && !testIdentifier.getUniqueId().equals(leafUniqueId)) {
+			commitPendingLeaf();
+		}
+		if (leafStart < 0) {
+			leafStart = output.length();
+			leafUniqueId = testIdentifier.getUniqueId();
+			leafReported = false;
+		}
+	}
+
+	/**
+	 * Remove the output of the current test if it is collapsible.
+	 *
+	 * @return {@code true} if the test was collapsed
+	 */
+	private boolean endLeaf(TestIdentifier testIdentifier, int level, boolean successful) {
+		if (output == null) {
+			return false;
+		}
+		if (!testIdentifier.getUniqueId().equals(leafUniqueId)) {
+			// the output of the test has already been kept
+			commitPendingLeaf();
+			return false;
+		}
+		boolean collapse = successful && !leafReported;
+		if (collapse) {
+			output.cut(leafStart);
+			leafStart = -1;
+			leafUniqueId = null;
+			lastPrintedUniqueId = null;
+			String parentId = testIdentifier.getParentId().orElse(null);
+			if (collapsedTests > 0 && !Objects.equals(parentId, collapsedParentId)) {
+				printCollapsedTests();
+			}
+			collapsedTests++;
+			collapsedLevel = level;
+			collapsedParentId = parentId;
+			return true;
+		}
+		printCollapsedTests();
+		leafStart = -1;
+		leafUniqueId = null;
+		return false;
+	}
+
+	/**
+	 * Keep the output of the current test since other events follow it.
+	 */
+	private void commitPendingLeaf() {
+		printCollapsedTests();
+		leafStart = -1;
+		leafUniqueId = null;
+	}
+
+	/**
+	 * Print a progress line for all collapsed tests in front of the output
+	 * of the current test, if any.
+	 */
+	private void printCollapsedTests() {
+		if (collapsedTests == 0) {
+			return;
+		}
+		String pendingLeaf = leafStart < 0 ? "" : output.cut(leafStart);
+		printVerticals(collapsedLevel, theme.entry());
+		printf(Color.SUCCESSFUL, " %s %d tests successful%n", theme.successful(), collapsedTests);
+		collapsedTests = 0;
+		if (leafStart < 0) {
+			lastPrintedUniqueId = null;
+		}
+		else {
+			leafStart = output.length();
+			out.print(pendingLeaf);
+		}
+	}
+
+	private void flushIfDue() {
+		if (output != null && leafStart < 0 && output.isFlushDue()) {
+			printCollapsedTests();
+			output.flush();
+		}
+	}
+
+	/**
+	 * Print static information about the test identifier.
+	 */
+	private void printDetails(int level, TestIdentifier testIdentifier) {
+		printDetail(level, NONE, "tags", "%s%n", testIdentifier.getTags());
+		printDetail(level, NONE, "uniqueId", "%s%n", testIdentifier.getUniqueId());
+		printDetail(level, NONE, "parent", "%s%n", testIdentifier.getParentId().orElse("[]"));
+		testIdentifier.getSource().ifPresent(source -> printDetail(level, NONE, "source", "%s%n", source));
 	}
 
 	private String verticals(int index) {
 		return verticals[Math.min(index, verticals.length)];
 	}
 
-	private void printVerticals(String tile) {
-		printf(NONE, verticals());
+	private void printVerticals(int level, String tile) {
+		printf(NONE, verticals(level));
 		printf(NONE, tile);
 	}
 
@@ -164,9 +352,9 @@ class VerboseTreePrintingListener implements TestExecutionListener {
 	/**
 	 * Print single detail with a potential multi-line message.
 	 */
-	private void printDetail(Color color, String detail, String format, Object... args) {
+	private void printDetail(int level, Color color, String detail, String format, Object... args) {
 		// print initial verticals - expecting to be at start of the line
-		String verticals = verticals(frames.size() + 1);
+		String verticals = verticals(level + 1);
 		printf(NONE, verticals);
 		String detailFormat = "%9s";
 		// omit detail string if it's empty
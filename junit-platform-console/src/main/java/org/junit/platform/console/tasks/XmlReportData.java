@@ -83,6 +83,23 @@ class XmlReportData {
 		entries.add(entry);
 	}
 
+	/**
+	 * Discard all data of the supplied identifier and its descendants once
+	 * they have been reported.
+	 */
+	void discard(TestIdentifier testIdentifier) {
+		discardSingle(testIdentifier);
+		testPlan.streamDescendants(testIdentifier).forEach(this::discardSingle);
+	}
+
+	private void discardSingle(TestIdentifier testIdentifier) {
+		finishedTests.remove(testIdentifier);
+		skippedTests.remove(testIdentifier);
+		startInstants.remove(testIdentifier);
+		endInstants.remove(testIdentifier);
+		reportEntries.remove(testIdentifier);
+	}
+
 	boolean wasSkipped(TestIdentifier testIdentifier) {
 		return findSkippedAncestor(testIdentifier).isPresent();
 	}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySortedMap;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.junit.platform.console.options.ReportsProperties;
+
+/**
+ * Determines which system properties are written into XML reports and
+ * whether they are written into each report or once per test run.
+ *
+ * @since 1.0
+ */
+class XmlReportProperties {
+
+	static final String RUN_FILE_NAME = "system-properties.xml";
+	static final String RUN_FILE_PROPERTY_NAME = "system-properties-file";
+
+	private final ReportsProperties mode;
+	private final List<Pattern> includePatterns;
+
+	static XmlReportProperties all() {
+		return new XmlReportProperties(ReportsProperties.ALL, emptyList());
+	}
+
+	XmlReportProperties(ReportsProperties mode, List<String> includePatterns) {
+		this.mode = mode;
+		this.includePatterns = includePatterns.stream().map(Pattern::compile).collect(toList());
+	}
+
+	ReportsProperties getMode() {
+		return mode;
+	}
+
+	/**
+	 * Select the system properties to be written, sorted by name.
+	 */
+	SortedMap<String, String> select(Properties systemProperties) {
+		if (mode == ReportsProperties.NONE) {
+			return emptySortedMap();
+		}
+		SortedMap<String, String> selected = new TreeMap<>();
+		for (String name : systemProperties.stringPropertyNames()) {
+			if (isIncluded(name)) {
+				selected.put(name, systemProperties.getProperty(name));
+			}
+		}
+		return selected;
+	}
+
+	private boolean isIncluded(String name) {
+		return includePatterns.isEmpty()
+				|| includePatterns.stream().anyMatch(pattern -> pattern.matcher(name).matches());
+	}
+
+}
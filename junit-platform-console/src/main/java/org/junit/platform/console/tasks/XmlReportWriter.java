@@ -25,9 +25,8 @@ import java.text.NumberFormat;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Properties;
-import java.util.TreeSet;
 
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -42,26 +41,41 @@ import org.junit.platform.launcher.TestIdentifier;
  */
 class XmlReportWriter {
 
+	// Neither XMLOutputFactory nor NumberFormat is guaranteed to be thread-safe.
+	// Thus, we keep one instance per thread instead of creating them per report.
+	private static final ThreadLocal<XMLOutputFactory> xmlOutputFactory = ThreadLocal.withInitial(
+		XMLOutputFactory::newInstance);
+	private static final ThreadLocal<NumberFormat> numberFormat = ThreadLocal.withInitial(
+		() -> NumberFormat.getInstance(Locale.US));
+
 	private final XmlReportData reportData;
+	private final Map<String, String> properties;
 
 	XmlReportWriter(XmlReportData reportData) {
+		this(reportData, XmlReportProperties.all().select(System.getProperties()));
+	}
+
+	/**
+	 * Create a writer that writes the supplied properties into each report;
+	 * the {@code properties} element is omitted if they are empty.
+	 */
+	XmlReportWriter(XmlReportData reportData, Map<String, String> properties) {
 		this.reportData = reportData;
+		this.properties = properties;
 	}
 
 	void writeXmlReport(TestIdentifier testIdentifier, Writer out) throws XMLStreamException {
 		// @formatter:off
-		List<TestIdentifier> tests = reportData.getTestPlan().getDescendants(testIdentifier)
-				.stream()
+		List<TestIdentifier> tests = reportData.getTestPlan().streamDescendants(testIdentifier)
 				.filter(TestIdentifier::isTest)
 				.collect(toList());
 		// @formatter:on
 		writeXmlReport(testIdentifier, tests, out);
 	}
 
-	private void writeXmlReport(TestIdentifier testIdentifier, List<TestIdentifier> tests, Writer out)
+	void writeXmlReport(TestIdentifier testIdentifier, List<TestIdentifier> tests, Writer out)
 			throws XMLStreamException {
-		XMLOutputFactory factory = XMLOutputFactory.newInstance();
-		XMLStreamWriter xmlWriter = factory.createXMLStreamWriter(out);
+		XMLStreamWriter xmlWriter = xmlOutputFactory.get().createXMLStreamWriter(out);
 		xmlWriter.writeStartDocument("UTF-8", "1.0");
 		newLine(xmlWriter);
 		writeTestsuite(testIdentifier, tests, xmlWriter);
@@ -73,16 +87,16 @@ class XmlReportWriter {
 	private void writeTestsuite(TestIdentifier testIdentifier, List<TestIdentifier> tests, XMLStreamWriter writer)
 			throws XMLStreamException {
 
-		// NumberFormat is not thread-safe. Thus, we instantiate it here and pass it to
-		// writeTestcase instead of using a constant
-		NumberFormat numberFormat = NumberFormat.getInstance(Locale.US);
+		NumberFormat numberFormat = XmlReportWriter.numberFormat.get();
 
 		writer.writeStartElement("testsuite");
 
 		writeSuiteAttributes(testIdentifier, tests, numberFormat, writer);
 
 		newLine(writer);
-		writeSystemProperties(writer);
+		if (!properties.isEmpty()) {
+			writeProperties(properties, writer);
+		}
 
 		for (TestIdentifier test : tests) {
 			writeTestcase(test, numberFormat, writer);
@@ -111,14 +125,28 @@ class XmlReportWriter {
 		writer.writeAttribute("errors", String.valueOf(testCounts.getErrors()));
 	}
 
-	private void writeSystemProperties(XMLStreamWriter writer) throws XMLStreamException {
+	/**
+	 * Write a document that only consists of a {@code properties} element
+	 * containing the supplied properties.
+	 */
+	static void writePropertiesDocument(Map<String, String> properties, Writer out) throws XMLStreamException {
+		XMLStreamWriter xmlWriter = xmlOutputFactory.get().createXMLStreamWriter(out);
+		xmlWriter.writeStartDocument("UTF-8", "1.0");
+		newLine(xmlWriter);
+		writeProperties(properties, xmlWriter);
+		xmlWriter.writeEndDocument();
+		xmlWriter.flush();
+		xmlWriter.close();
+	}
+
+	private static void writeProperties(Map<String, String> properties, XMLStreamWriter writer)
+			throws XMLStreamException {
 		writer.writeStartElement("properties");
 		newLine(writer);
-		Properties systemProperties = System.getProperties();
-		for (String propertyName : new TreeSet<>(systemProperties.stringPropertyNames())) {
+		for (Map.Entry<String, String> property : properties.entrySet()) {
 			writer.writeEmptyElement("property");
-			writer.writeAttribute("name", propertyName);
-			writer.writeAttribute("value", systemProperties.getProperty(propertyName));
+			writer.writeAttribute("name", property.getKey());
+			writer.writeAttribute("value", property.getValue());
 			newLine(writer);
 		}
 		writer.writeEndElement();
@@ -255,7 +283,7 @@ class XmlReportWriter {
 		newLine(writer);
 	}
 
-	private void newLine(XMLStreamWriter xmlWriter) throws XMLStreamException {
+	private static void newLine(XMLStreamWriter xmlWriter) throws XMLStreamException {
 		xmlWriter.writeCharacters("\n");
 	}
 
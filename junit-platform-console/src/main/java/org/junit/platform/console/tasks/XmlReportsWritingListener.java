@@ -10,6 +10,9 @@
 
 package org.junit.platform.console.tasks;
 
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
@@ -17,17 +20,35 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.stream.XMLStreamException;
 
+import org.junit.platform.console.options.ReportsProperties;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 
 /**
+ * Writes XML reports in the format of the Ant JUnit task.
+ *
+ * <p>By default, a single report is written for each engine once all of its
+ * tests have finished. If reports are written per class, a report for each
+ * top-level class container is written as soon as the container has finished
+ * and its data is discarded afterwards, which keeps memory consumption
+ * proportional to the number of classes executing concurrently. Tests that
+ * are not contained in a class are reported in the report of their engine.
+ * If a class has already been reported by another engine, the name of its
+ * report is prefixed with the ID of the engine.
+ *
  * @since 1.0
  */
 class XmlReportsWritingListener implements TestExecutionListener {
@@ -35,44 +56,88 @@ class XmlReportsWritingListener implements TestExecutionListener {
 	private final Path reportsDir;
 	private final PrintWriter out;
 	private final Clock clock;
+	private final boolean reportPerClass;
+	private final XmlReportProperties properties;
 
 	private XmlReportData reportData;
+	private Set<String> reportedClasses;
+	private Set<String> reportNames;
+	private Map<String, String> reportProperties;
 
 	XmlReportsWritingListener(Path reportsDir, PrintWriter out) {
-		this(reportsDir, out, Clock.systemDefaultZone());
+		this(reportsDir, out, false, XmlReportProperties.all());
+	}
+
+	XmlReportsWritingListener(Path reportsDir, PrintWriter out, boolean reportPerClass,
+			XmlReportProperties properties) {
+		this(reportsDir, out, Clock.systemDefaultZone(), reportPerClass, properties);
 	}
 
 	// For tests only
 	XmlReportsWritingListener(String reportsDir, PrintWriter out, Clock clock) {
-		this(Paths.get(reportsDir), out, clock);
+		this(reportsDir, out, clock, false, XmlReportProperties.all());
+	}
+
+	// For tests only
+	XmlReportsWritingListener(String reportsDir, PrintWriter out, Clock clock, boolean reportPerClass,
+			XmlReportProperties properties) {
+		this(Paths.get(reportsDir), out, clock, reportPerClass, properties);
 	}
 
-	private XmlReportsWritingListener(Path reportsDir, PrintWriter out, Clock clock) {
+	private XmlReportsWritingListener(Path reportsDir, PrintWriter out, Clock clock, boolean reportPerClass,
+			XmlReportProperties properties) {
 		this.reportsDir = reportsDir;
 		this.out = out;
 		this.clock = clock;
+		this.reportPerClass = reportPerClass;
+		this.properties = properties;
 	}
 
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		this.reportData = new XmlReportData(testPlan, clock);
+		this.reportedClasses = ConcurrentHashMap.newKeySet();
+		this.reportNames = ConcurrentHashMap.newKeySet();
 		try {
 			Files.createDirectories(reportsDir);
 		}
 		catch (IOException e) {
 			printException("Could not create reports directory: " + reportsDir, e);
 		}
+		this.reportProperties = selectReportProperties();
 	}
 
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
 		this.reportData = null;
+		this.reportedClasses = null;
+		this.reportNames = null;
+		this.reportProperties = null;
+	}
+
+	/**
+	 * Select the system properties once per test run and, if requested, write
+	 * them into a separate file that each report refers to.
+	 */
+	private Map<String, String> selectReportProperties() {
+		Map<String, String> systemProperties = properties.select(System.getProperties());
+		if (properties.getMode() != ReportsProperties.RUN) {
+			return systemProperties;
+		}
+		Path propertiesFile = reportsDir.resolve(XmlReportProperties.RUN_FILE_NAME);
+		try (Writer fileWriter = Files.newBufferedWriter(propertiesFile)) {
+			XmlReportWriter.writePropertiesDocument(systemProperties, fileWriter);
+		}
+		catch (XMLStreamException | IOException e) {
+			printException("Could not write system properties: " + propertiesFile, e);
+		}
+		return singletonMap(XmlReportProperties.RUN_FILE_PROPERTY_NAME, XmlReportProperties.RUN_FILE_NAME);
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
 		reportData.markSkipped(testIdentifier, reason);
-		writeXmlReportInCaseOfRoot(testIdentifier);
+		writeXmlReportInCaseOfRootOrClass(testIdentifier);
 	}
 
 	@Override
@@ -88,30 +153,86 @@ class XmlReportsWritingListener implements TestExecutionListener {
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
 		reportData.markFinished(testIdentifier, result);
-		writeXmlReportInCaseOfRoot(testIdentifier);
+		writeXmlReportInCaseOfRootOrClass(testIdentifier);
 	}
 
-	private void writeXmlReportInCaseOfRoot(TestIdentifier testIdentifier) {
+	private void writeXmlReportInCaseOfRootOrClass(TestIdentifier testIdentifier) {
 		if (isARoot(testIdentifier)) {
-			String rootName = UniqueId.parse(testIdentifier.getUniqueId()).getSegments().get(0).getValue();
-			writeXmlReportSafely(testIdentifier, rootName);
+			List<TestIdentifier> tests = collectTests(testIdentifier);
+			if (!reportPerClass || !tests.isEmpty()) {
+				writeXmlReportSafely(testIdentifier, tests, engineIdOf(testIdentifier));
+			}
+		}
+		else if (reportPerClass && isATopLevelClass(testIdentifier)) {
+			String className = ((ClassSource) testIdentifier.getSource().get()).getClassName();
+			String name = reportNames.add(className) ? className : engineIdOf(testIdentifier) + "-" + className;
+			writeXmlReportSafely(testIdentifier, collectTests(testIdentifier), name);
+			reportData.discard(testIdentifier);
+			reportedClasses.add(testIdentifier.getUniqueId());
 		}
 	}
 
-	private void writeXmlReportSafely(TestIdentifier testIdentifier, String rootName) {
-		Path xmlFile = reportsDir.resolve("TEST-" + rootName + ".xml");
+	private void writeXmlReportSafely(TestIdentifier testIdentifier, List<TestIdentifier> tests, String name) {
+		Path xmlFile = reportsDir.resolve("TEST-" + name + ".xml");
 		try (Writer fileWriter = Files.newBufferedWriter(xmlFile)) {
-			new XmlReportWriter(reportData).writeXmlReport(testIdentifier, fileWriter);
+			new XmlReportWriter(reportData, reportProperties).writeXmlReport(testIdentifier, tests, fileWriter);
 		}
 		catch (XMLStreamException | IOException e) {
 			printException("Could not write XML report: " + xmlFile, e);
 		}
 	}
 
+	/**
+	 * Collect the tests in the subtree of the supplied identifier, excluding
+	 * tests of classes that have already been reported separately.
+	 */
+	private List<TestIdentifier> collectTests(TestIdentifier testIdentifier) {
+		boolean excludeClasses = reportPerClass && isARoot(testIdentifier);
+		// @formatter:off
+		return reportData.getTestPlan().streamDescendants(testIdentifier)
+				.filter(TestIdentifier::isTest)
+				.filter(test -> !excludeClasses || !wasReportedAsPartOfClass(test))
+				.collect(toList());
+		// @formatter:on
+	}
+
+	private static String engineIdOf(TestIdentifier testIdentifier) {
+		return UniqueId.parse(testIdentifier.getUniqueId()).getSegments().get(0).getValue();
+	}
+
 	private boolean isARoot(TestIdentifier testIdentifier) {
 		return !testIdentifier.getParentId().isPresent();
 	}
 
+	private boolean isATopLevelClass(TestIdentifier testIdentifier) {
+		return testIdentifier.isContainer() && hasClassSource(testIdentifier)
+				&& !findEnclosingClass(testIdentifier).isPresent();
+	}
+
+	private boolean wasReportedAsPartOfClass(TestIdentifier test) {
+		Optional<TestIdentifier> enclosingClass = findEnclosingClass(test);
+		while (enclosingClass.isPresent()) {
+			if (reportedClasses.contains(enclosingClass.get().getUniqueId())) {
+				return true;
+			}
+			enclosingClass = findEnclosingClass(enclosingClass.get());
+		}
+		return false;
+	}
+
+	private Optional<TestIdentifier> findEnclosingClass(TestIdentifier testIdentifier) {
+		TestPlan testPlan = reportData.getTestPlan();
+		Optional<TestIdentifier> parent = testPlan.getParent(testIdentifier);
+		while (parent.isPresent() && !hasClassSource(parent.get())) {
+			parent = testPlan.getParent(parent.get());
+		}
+		return parent;
+	}
+
+	private static boolean hasClassSource(TestIdentifier testIdentifier) {
+		return testIdentifier.getSource().filter(ClassSource.class::isInstance).isPresent();
+	}
+
 	private void printException(String message, Exception exception) {
 		out.println(message);
 		exception.printStackTrace(out);
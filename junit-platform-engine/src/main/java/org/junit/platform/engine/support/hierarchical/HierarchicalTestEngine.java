@@ -40,7 +40,34 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 	 */
 	@Override
 	public final void execute(ExecutionRequest request) {
-		new HierarchicalTestExecutor<>(request, createExecutionContext(request)).execute();
+		int parallelism = getDynamicTestParallelism(request);
+		if (parallelism > 1) {
+			request = new ExecutionRequest(request.getRootTestDescriptor(),
+				new SynchronizedEngineExecutionListener(request.getEngineExecutionListener()),
+				request.getConfigurationParameters());
+		}
+		new HierarchicalTestExecutor<>(request, createExecutionContext(request), parallelism).execute();
+	}
+
+	/**
+	 * Determine the number of worker threads used to execute dynamic tests
+	 * {@linkplain Node.DynamicTestExecutor#submit submitted} for concurrent
+	 * execution.
+	 *
+	 * <p>If the returned value is greater than {@code 1}, events reported to
+	 * the request's {@link org.junit.platform.engine.EngineExecutionListener
+	 * EngineExecutionListener} are serialized, and at most twice as many
+	 * submitted dynamic tests as there are worker threads are pending per
+	 * submitting node at any given time.
+	 *
+	 * <p>The default implementation returns {@code 1}, i.e. submitted dynamic
+	 * tests are executed sequentially on the submitting thread.
+	 *
+	 * @param request the request about to be executed
+	 * @return the number of worker threads for dynamic tests
+	 */
+	protected int getDynamicTestParallelism(ExecutionRequest request) {
+		return 1;
 	}
 
 	/**
@@ -12,6 +12,14 @@ package org.junit.platform.engine.support.hierarchical;
 
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -29,6 +37,11 @@ import org.junit.platform.engine.support.hierarchical.Node.SkipResult;
  * executing nodes in the hierarchy in the appropriate order as well as
  * firing the necessary events in the {@link EngineExecutionListener}.
  *
+ * <p>Dynamic tests {@linkplain Node.DynamicTestExecutor#submit submitted}
+ * for concurrent execution are executed on a lazily created pool of daemon
+ * worker threads if the configured parallelism is greater than {@code 1}.
+ * In that case, the supplied listener must be thread-safe.
+ *
  * @param <C> the type of {@code EngineExecutionContext} used by the
  * {@code HierarchicalTestEngine}
  * @since 1.0
@@ -40,15 +53,30 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	private final TestDescriptor rootTestDescriptor;
 	private final EngineExecutionListener listener;
 	private final C rootContext;
+	private final int parallelism;
+
+	private ExecutorService workerPool;
 
 	HierarchicalTestExecutor(ExecutionRequest request, C rootContext) {
+		this(request, rootContext, 1);
+	}
+
+	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, int parallelism) {
 		this.rootTestDescriptor = request.getRootTestDescriptor();
 		this.listener = request.getEngineExecutionListener();
 		this.rootContext = rootContext;
+		this.parallelism = parallelism;
 	}
 
 	void execute() {
-		execute(this.rootTestDescriptor, this.rootContext);
+		try {
+			execute(this.rootTestDescriptor, this.rootContext);
+		}
+		finally {
+			if (this.workerPool != null) {
+				this.workerPool.shutdownNow();
+			}
+		}
 	}
 
 	private void execute(TestDescriptor testDescriptor, C parentContext) {
@@ -77,11 +105,22 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 			C context = preparedContext;
 			try {
 				context = node.before(context);
-				C dynamicTestContext = context;
-				context = node.execute(context, dynamicTestDescriptor -> {
-					this.listener.dynamicTestRegistered(dynamicTestDescriptor);
-					execute(dynamicTestDescriptor, dynamicTestContext);
-				});
+				NodeDynamicTestExecutor dynamicTestExecutor = new NodeDynamicTestExecutor(context);
+				try {
+					context = node.execute(context, dynamicTestExecutor);
+				}
+				catch (Throwable throwable) {
+					// Don't let a failure of a dynamic test replace that of the node.
+					try {
+						dynamicTestExecutor.awaitFinished();
+					}
+					catch (Throwable awaitThrowable) {
+						rethrowIfBlacklisted(awaitThrowable);
+						throwable.addSuppressed(awaitThrowable);
+					}
+					throw throwable;
+				}
+				dynamicTestExecutor.awaitFinished();
 
 				// If a node is NOT a leaf, execute its children recursively.
 				// Note: executing children for a leaf could result in accidental
@@ -100,6 +139,13 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 		this.listener.executionFinished(testDescriptor, result);
 	}
 
+	private synchronized ExecutorService getWorkerPool() {
+		if (this.workerPool == null) {
+			this.workerPool = Executors.newFixedThreadPool(this.parallelism, new WorkerThreadFactory());
+		}
+		return this.workerPool;
+	}
+
 	@SuppressWarnings("unchecked")
 	private Node<C> asNode(TestDescriptor testDescriptor) {
 		return (testDescriptor instanceof Node ? (Node<C>) testDescriptor : noOpNode);
@@ -109,4 +155,95 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	private static final Node noOpNode = new Node() {
 	};
 
+	/**
+	 * {@link Node.DynamicTestExecutor} for the dynamic tests of a single node.
+	 *
+	 * <p>Submitted test descriptors are executed on the worker pool unless
+	 * they are submitted from a worker thread, in which case they are executed
+	 * immediately in order to avoid exhausting the pool. The number of pending
+	 * submitted test descriptors is bounded to twice the parallelism.
+	 */
+	private class NodeDynamicTestExecutor implements Node.DynamicTestExecutor {
+
+		private final C context;
+		private final int maxPendingTests = 2 * parallelism;
+		private final Semaphore pendingTests = new Semaphore(this.maxPendingTests);
+		private final AtomicReference<Throwable> blacklistedThrowable = new AtomicReference<>();
+
+		NodeDynamicTestExecutor(C context) {
+			this.context = context;
+		}
+
+		@Override
+		public void execute(TestDescriptor testDescriptor) {
+			listener.dynamicTestRegistered(testDescriptor);
+			HierarchicalTestExecutor.this.execute(testDescriptor, this.context);
+		}
+
+		@Override
+		public void submit(TestDescriptor testDescriptor) {
+			if (parallelism <= 1 || Thread.currentThread() instanceof WorkerThread) {
+				execute(testDescriptor);
+				return;
+			}
+			listener.dynamicTestRegistered(testDescriptor);
+			this.pendingTests.acquireUninterruptibly();
+			try {
+				getWorkerPool().execute(() -> {
+					try {
+						HierarchicalTestExecutor.this.execute(testDescriptor, this.context);
+					}
+					catch (Throwable throwable) {
+						this.blacklistedThrowable.compareAndSet(null, throwable);
+					}
+					finally {
+						this.pendingTests.release();
+					}
+				});
+			}
+			catch (Throwable throwable) {
+				this.pendingTests.release();
+				throw throwable;
+			}
+		}
+
+		@Override
+		public void awaitFinished() throws InterruptedException {
+			if (parallelism > 1) {
+				this.pendingTests.acquire(this.maxPendingTests);
+				this.pendingTests.release(this.maxPendingTests);
+			}
+			Throwable throwable = this.blacklistedThrowable.get();
+			if (throwable != null) {
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
+			}
+		}
+
+	}
+
+	private static class WorkerThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger poolNumber = new AtomicInteger();
+
+		private final int poolId = poolNumber.incrementAndGet();
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new WorkerThread(runnable,
+				"junit-dynamic-test-" + this.poolId + "-worker-" + this.threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+	private static class WorkerThread extends Thread {
+
+		WorkerThread(Runnable runnable, String name) {
+			super(runnable, name);
+		}
+
+	}
+
 }
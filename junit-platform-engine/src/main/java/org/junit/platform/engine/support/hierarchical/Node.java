@@ -218,6 +218,45 @@ public interface Node<C extends EngineExecutionContext> {
 		 */
 		void execute(TestDescriptor testDescriptor);
 
+		/**
+		 * Submit a dynamic test descriptor for potentially concurrent execution.
+		 *
+		 * <p>The test descriptor is registered immediately on the calling
+		 * thread, so registration events are reported in submission order.
+		 * If the {@link HierarchicalTestEngine} has been configured with a
+		 * {@linkplain HierarchicalTestEngine#getDynamicTestParallelism
+		 * dynamic test parallelism} greater than {@code 1}, the test descriptor
+		 * is executed on one of the engine's worker threads; otherwise, it is
+		 * executed immediately as if passed to {@link #execute}.
+		 *
+		 * <p>This method blocks while the maximum number of submitted but not
+		 * yet finished test descriptors is reached. All submitted test
+		 * descriptors will have finished before the submitting node's
+		 * {@link Node#after after} behavior is executed; use
+		 * {@link #awaitFinished} to wait for them earlier.
+		 *
+		 * <p>The default implementation delegates to {@link #execute}.
+		 *
+		 * @param testDescriptor the test descriptor to be executed
+		 * @see #awaitFinished
+		 */
+		default void submit(TestDescriptor testDescriptor) {
+			execute(testDescriptor);
+		}
+
+		/**
+		 * Block until all test descriptors previously {@linkplain #submit
+		 * submitted} to this executor have finished.
+		 *
+		 * <p>The default implementation does nothing since {@link #submit}
+		 * executes test descriptors immediately by default.
+		 *
+		 * @throws InterruptedException if the current thread is interrupted
+		 * while waiting
+		 */
+		default void awaitFinished() throws InterruptedException {
+		}
+
 	}
 
 }
@@ -31,6 +31,7 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 		junitExtension.filters.extensions.create('packages', PackagesExtension)
 		junitExtension.filters.extensions.create('tags', TagsExtension)
 		junitExtension.filters.extensions.create('engines', EnginesExtension)
+		junitExtension.filters.extensions.create('shard', ShardExtension)
 
 		// configuration.defaultDependencies used below was introduced in Gradle 2.5
 		if (GradleVersion.current().compareTo(GradleVersion.version('2.5')) < 0) {
@@ -85,6 +86,15 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 			junitTask.inputs.property('filters.includeClassNamePatterns', junitExtension.filters.includeClassNamePatterns)
 			junitTask.inputs.property('filters.packages.include', junitExtension.filters.packages.include)
 			junitTask.inputs.property('filters.packages.exclude', junitExtension.filters.packages.exclude)
+			if (junitExtension.filters.shard.index != null) {
+				junitTask.inputs.property('filters.shard.index', junitExtension.filters.shard.index)
+			}
+			if (junitExtension.filters.shard.count != null) {
+				junitTask.inputs.property('filters.shard.count', junitExtension.filters.shard.count)
+			}
+			if (junitExtension.filters.shard.durations) {
+				junitTask.inputs.file(project.file(junitExtension.filters.shard.durations))
+			}
 
 			def reportsDir = junitExtension.reportsDir ?: project.file("$project.buildDir/test-results/junit-platform")
 			junitTask.outputs.dir reportsDir
@@ -128,7 +138,7 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 		}
 
 		addSelectors(project, junitExtension.selectors, args)
-		addFilters(junitExtension.filters, args)
+		addFilters(project, junitExtension.filters, args)
 
 		args.add('--reports-dir')
 		args.add(reportsDir.getAbsolutePath())
@@ -136,7 +146,7 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 		return args
 	}
 
-	private void addFilters(filters, args) {
+	private void addFilters(project, filters, args) {
 		filters.includeClassNamePatterns.each { pattern ->
 			args.addAll(['-n', pattern])
 		}
@@ -161,6 +171,15 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 		filters.engines.exclude.each { engineId ->
 			args.addAll(['-E', engineId])
 		}
+		if (filters.shard.index != null) {
+			args.addAll(['--shard-index', filters.shard.index.toString()])
+		}
+		if (filters.shard.count != null) {
+			args.addAll(['--shard-count', filters.shard.count.toString()])
+		}
+		if (filters.shard.durations) {
+			args.addAll(['--shard-durations', project.file(filters.shard.durations).absolutePath])
+		}
 	}
 
 	private void addSelectors(project, selectors, args) {
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.junit.platform.gradle.plugin
+
+/**
+ * Shard configuration options for the JUnit Platform Gradle plugin.
+ *
+ * <p>Test classes are partitioned into {@link #count} shards, and only the
+ * tests of the shard with the zero-based {@link #index} are executed.
+ *
+ * @since 1.0
+ */
+class ShardExtension {
+
+	/**
+	 * The zero-based index of the shard to be executed.
+	 */
+	Integer index
+
+	/**
+	 * The total number of shards.
+	 */
+	Integer count
+
+	/**
+	 * An optional properties file mapping fully qualified class names to
+	 * historical durations in milliseconds.
+	 *
+	 * <p>If set, shards are balanced by their total duration instead of being
+	 * partitioned by a hash of the class name. The value is converted to a
+	 * file using {@link org.gradle.api.Project#file(Object)}.
+	 */
+	Object durations
+
+}
@@ -231,6 +231,29 @@ class JUnitPlatformPluginSpec extends Specification {
 		junitTask.args.containsAll('-r', '/bar.csv', '-r', '/foo/input.json', '-r', '/com/acme/my.properties')
 	}
 
+	def "shard can be specified"() {
+
+		project.apply plugin: 'java'
+		project.apply plugin: 'org.junit.platform.gradle.plugin'
+
+		when:
+		project.junitPlatform {
+			filters {
+				shard {
+					index 2
+					count 16
+					durations 'durations.properties'
+				}
+			}
+		}
+		project.evaluate()
+
+		then:
+		Task junitTask = project.tasks.findByName('junitPlatformTest')
+		junitTask.args.containsAll('--shard-index', '2', '--shard-count', '16')
+		junitTask.args.containsAll('--shard-durations', project.file('durations.properties').absolutePath)
+	}
+
 	def "adds dependencies to configuration"() {
 
 		project.apply plugin: 'java'
@@ -12,6 +12,8 @@ package org.junit.platform.launcher;
 
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 
+import java.util.Collection;
+
 import org.junit.platform.commons.meta.API;
 
 /**
@@ -34,7 +36,9 @@ import org.junit.platform.commons.meta.API;
  *
  * <p>Clients of this interface may optionally call {@link #discover} prior to
  * {@link #execute} in order to inspect the {@link TestPlan} before executing
- * it.
+ * it. A discovered {@code TestPlan} may also be {@linkplain #execute(TestPlan)
+ * executed} once directly &mdash; as a whole or {@linkplain #execute(TestPlan, Collection)
+ * in part} &mdash; without discovering its tests again.
  *
  * <p>Prior to executing tests, clients of this interface should
  * {@linkplain #registerTestExecutionListeners register} one or more
@@ -85,4 +89,42 @@ public interface Launcher {
 	 */
 	void execute(LauncherDiscoveryRequest launcherDiscoveryRequest);
 
+	/**
+	 * Execute the supplied {@link TestPlan}, which must have been returned by
+	 * {@link #discover} of this launcher, without discovering its tests again,
+	 * and notify {@linkplain #registerTestExecutionListeners registered
+	 * listeners} about the progress and results of the execution.
+	 *
+	 * <p>A discovered {@code TestPlan} can be executed this way only once,
+	 * either as a whole or {@linkplain #execute(TestPlan, Collection) in part},
+	 * since the launcher hands the discovered tests over to that execution and
+	 * does not keep them afterwards. Identifiers of dynamic tests registered
+	 * during the execution are added to the {@code TestPlan}.
+	 *
+	 * @param testPlan the previously discovered test plan; never {@code null}
+	 * @see #execute(TestPlan, Collection)
+	 */
+	void execute(TestPlan testPlan);
+
+	/**
+	 * Execute the subset of the supplied {@link TestPlan} identified by the
+	 * supplied unique IDs without discovering its tests again, and notify
+	 * {@linkplain #registerTestExecutionListeners registered listeners} about
+	 * the progress and results of the execution.
+	 *
+	 * <p>Selecting a container selects all of its descendants. The ancestors of
+	 * selected identifiers are executed as well, but none of their other
+	 * children. The {@code TestPlan} passed to listeners only contains the
+	 * executed subset. Afterwards, the supplied {@code TestPlan} cannot be
+	 * executed again; to execute several subsets of the same tests, discover
+	 * them once per subset.
+	 *
+	 * @param testPlan the previously discovered test plan; never {@code null}
+	 * @param uniqueIds the unique IDs of the {@linkplain TestIdentifier
+	 * identifiers} to execute; never {@code null} and each contained in the
+	 * supplied {@code TestPlan}
+	 * @see #execute(TestPlan)
+	 */
+	void execute(TestPlan testPlan, Collection<String> uniqueIds);
+
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+
+/**
+ * Factory methods for creating {@link PostDiscoveryFilter PostDiscoveryFilters}
+ * that partition the test plan into <em>shards</em>, for example, in order to
+ * distribute tests across several JVMs or CI containers.
+ *
+ * <p>Tests are partitioned at the granularity of their outermost class: all
+ * tests and containers that share the same outermost ancestor with a
+ * {@link ClassSource} end up in the same shard. Tests without such an
+ * ancestor are partitioned by the unique ID of their top-level container.
+ *
+ * <p>Shard indices are zero-based. Running the same discovery request once
+ * for every shard index from {@code 0} to {@code shardCount - 1} executes
+ * every test exactly once.
+ *
+ * @since 1.0
+ * @see LauncherDiscoveryRequest
+ */
+@API(Experimental)
+public final class ShardFilter {
+
+	///CLOVER:OFF
+	private ShardFilter() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	/**
+	 * Create a filter that only includes the tests of the supplied shard
+	 * based on a hash of the fully qualified name of their outermost class.
+	 *
+	 * <p>The assignment only depends on the class name and the number of
+	 * shards, so it is stable across JVMs and test runs.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * less than {@code shardCount}
+	 * @param shardCount the total number of shards; must be greater than zero
+	 */
+	public static PostDiscoveryFilter includeShard(int shardIndex, int shardCount) {
+		return includeShard(shardIndex, shardCount, emptyMap());
+	}
+
+	/**
+	 * Create a filter that only includes the tests of the supplied shard
+	 * using the historical durations of test classes read from the supplied
+	 * file to balance the total duration of all shards.
+	 *
+	 * <p>The file is read as {@linkplain Properties properties} that map
+	 * fully qualified class names to durations in milliseconds, for example,
+	 * {@code com.example.PaymentTests=12500}.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * less than {@code shardCount}
+	 * @param shardCount the total number of shards; must be greater than zero
+	 * @param durationsFile the file to read durations from; never {@code null}
+	 * @see #includeShard(int, int, Map)
+	 */
+	public static PostDiscoveryFilter includeShard(int shardIndex, int shardCount, Path durationsFile) {
+		Preconditions.notNull(durationsFile, "durations file must not be null");
+		return includeShard(shardIndex, shardCount, readDurations(durationsFile));
+	}
+
+	/**
+	 * Create a filter that only includes the tests of the supplied shard
+	 * using the supplied historical durations of test classes to balance the
+	 * total duration of all shards.
+	 *
+	 * <p>Classes with known durations are assigned to shards from the longest
+	 * to the shortest, each to the shard with the lowest total duration so
+	 * far. All other classes are assigned based on a hash of their name as
+	 * described for {@link #includeShard(int, int)}.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * less than {@code shardCount}
+	 * @param shardCount the total number of shards; must be greater than zero
+	 * @param durations map from fully qualified class names to durations in
+	 * an arbitrary but common unit; never {@code null}
+	 */
+	public static PostDiscoveryFilter includeShard(int shardIndex, int shardCount, Map<String, Long> durations) {
+		Preconditions.condition(shardCount > 0, () -> "shard count must be greater than zero: " + shardCount);
+		Preconditions.condition(shardIndex >= 0 && shardIndex < shardCount,
+			() -> format("shard index must be between 0 and %d: %d", shardCount - 1, shardIndex));
+		Preconditions.notNull(durations, "durations map must not be null");
+		Map<String, Integer> assignedShards = assignShards(durations, shardCount);
+		return descriptor -> {
+			String key = determinePartitionKey(descriptor);
+			int shard = assignedShards.getOrDefault(key, hashedShard(key, shardCount));
+			return FilterResult.includedIf(shard == shardIndex, //
+				() -> format("%s belongs to shard %d", key, shard), //
+				() -> format("%s belongs to shard %d instead of %d", key, shard, shardIndex));
+		};
+	}
+
+	/**
+	 * Determine the fully qualified name of the outermost class of the
+	 * supplied descriptor or, if it has none, the unique ID of its top-level
+	 * container.
+	 */
+	static String determinePartitionKey(TestDescriptor descriptor) {
+		String className = null;
+		TestDescriptor topLevel = descriptor;
+		TestDescriptor current = descriptor;
+		while (current != null && !current.isRoot()) {
+			TestSource source = current.getSource().orElse(null);
+			if (source instanceof ClassSource) {
+				className = ((ClassSource) source).getClassName();
+			}
+			topLevel = current;
+			current = current.getParent().orElse(null);
+		}
+		return className != null ? className : topLevel.getUniqueId().toString();
+	}
+
+	static int hashedShard(String key, int shardCount) {
+		// Spread the bits of String.hashCode() since similar names only differ in their low bits.
+		int hash = key.hashCode();
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return Math.floorMod(hash, shardCount);
+	}
+
+	static Map<String, Integer> assignShards(Map<String, Long> durations, int shardCount) {
+		durations.forEach((className, duration) -> Preconditions.condition(duration != null && duration >= 0,
+			() -> format("duration of %s must not be negative: %s", className, duration)));
+		List<Entry<String, Long>> entries = new ArrayList<>(durations.entrySet());
+		entries.sort(Entry.<String, Long> comparingByValue(Comparator.reverseOrder()).thenComparing(
+			Entry.comparingByKey()));
+		long[] totals = new long[shardCount];
+		Map<String, Integer> assignedShards = new HashMap<>(entries.size() * 2);
+		for (Entry<String, Long> entry : entries) {
+			int shard = 0;
+			for (int i = 1; i < shardCount; i++) {
+				if (totals[i] < totals[shard]) {
+					shard = i;
+				}
+			}
+			totals[shard] += entry.getValue();
+			assignedShards.put(entry.getKey(), shard);
+		}
+		return assignedShards;
+	}
+
+	private static Map<String, Long> readDurations(Path durationsFile) {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(durationsFile, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Could not read durations file: " + durationsFile, ex);
+		}
+		Map<String, Long> durations = new LinkedHashMap<>();
+		for (String className : properties.stringPropertyNames()) {
+			String value = properties.getProperty(className).trim();
+			try {
+				durations.put(className, Long.parseLong(value));
+			}
+			catch (NumberFormatException ex) {
+				throw new JUnitException(
+					format("Invalid duration [%s] for class %s in durations file: %s", value, className, durationsFile),
+					ex);
+			}
+		}
+		return durations;
+	}
+
+}
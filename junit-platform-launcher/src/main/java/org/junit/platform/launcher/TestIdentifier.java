@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher;
 
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
@@ -66,13 +67,34 @@ public final class TestIdentifier implements Serializable {
 		return new TestIdentifier(uniqueId, displayName, source, tags, test, container, parentId, legacyReportingName);
 	}
 
-	TestIdentifier(String uniqueId, String displayName, Optional<TestSource> source, Set<TestTag> tags, boolean test,
-			boolean container, Optional<String> parentId, String legacyReportingName) {
+	/**
+	 * Create a new {@code TestIdentifier} from previously recorded values, for
+	 * example, when replaying an event log.
+	 */
+	@API(Internal)
+	public TestIdentifier(String uniqueId, String displayName, Optional<TestSource> source, Set<TestTag> tags,
+			boolean test, boolean container, Optional<String> parentId, String legacyReportingName) {
+		this(uniqueId, displayName, source.orElse(null),
+			tags.isEmpty() ? emptySet() : unmodifiableSet(new LinkedHashSet<>(tags)), test, container,
+			parentId.orElse(null), legacyReportingName);
+	}
+
+	/**
+	 * Create a new {@code TestIdentifier} that shares the supplied values,
+	 * which allows a {@link TestPlan} to share equal values between its
+	 * identifiers.
+	 *
+	 * @param source the source; may be {@code null}
+	 * @param tags an unmodifiable set of tags
+	 * @param parentId the unique ID of the parent; may be {@code null}
+	 */
+	TestIdentifier(String uniqueId, String displayName, TestSource source, Set<TestTag> tags, boolean test,
+			boolean container, String parentId, String legacyReportingName) {
 		this.uniqueId = uniqueId;
-		this.parentId = parentId.orElse(null);
+		this.parentId = parentId;
 		this.displayName = displayName;
-		this.source = source.orElse(null);
-		this.tags = unmodifiableSet(new LinkedHashSet<>(tags));
+		this.source = source;
+		this.tags = tags;
 		this.test = test;
 		this.container = container;
 		this.legacyReportingName = legacyReportingName;
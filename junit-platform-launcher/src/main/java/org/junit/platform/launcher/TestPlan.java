@@ -12,23 +12,34 @@ package org.junit.platform.launcher;
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestDescriptor;
-import org.junit.platform.engine.TestDescriptor.Visitor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
 
 /**
  * {@code TestPlan} describes the tree of tests and containers as discovered
@@ -41,12 +52,22 @@ import org.junit.platform.engine.TestDescriptor.Visitor;
  * {@linkplain #getParent(TestIdentifier) parent},
  * {@linkplain #getChildren(TestIdentifier) children}, and
  * {@linkplain #getDescendants(TestIdentifier) descendants} of an identifier.
+ * Large plans can be traversed iteratively via {@link #accept(Visitor)} and
+ * {@link #streamDescendants(TestIdentifier)}, and the numbers of tests and
+ * containers in a subtree are maintained as identifiers are added.
  *
  * <p>While the contained instances of {@link TestIdentifier} are immutable,
  * instances of this class contain mutable state. For example, when a dynamic
  * test is registered at runtime, it is added to the original test plan and
  * reported to {@link TestExecutionListener} implementations.
  *
+ * <p>Internally, identifiers are stored in a compact table indexed by
+ * {@code int} node IDs, with array-backed lists of child node IDs and an
+ * open-addressed hash table that maps unique IDs to node IDs. Identifiers
+ * added for {@link TestDescriptor TestDescriptors} share equal tag sets,
+ * sources, and the unique ID strings of their parents. The sets of roots and
+ * children returned by this class are unmodifiable views over that table.
+ *
  * @since 1.0
  * @see Launcher
  * @see TestExecutionListener
@@ -54,11 +75,68 @@ import org.junit.platform.engine.TestDescriptor.Visitor;
 @API(Experimental)
 public final class TestPlan {
 
-	private final Set<TestIdentifier> roots = Collections.synchronizedSet(new LinkedHashSet<>(4));
+	private static final int NO_PARENT = -1;
+
+	private static final int NO_NODE = -1;
+
+	private static final int[] NO_NODES = new int[0];
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * Guards all of the following fields.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * Open-addressed hash table from unique IDs to node IDs using linear
+	 * probing; empty slots contain {@link #NO_NODE}. Its length is a power of
+	 * two and at least twice the number of nodes.
+	 */
+	private int[] nodeIdSlots = newNodeIdSlots(2 * INITIAL_CAPACITY);
+
+	/**
+	 * The unique IDs by node ID, which are the keys of {@link #nodeIdSlots}.
+	 */
+	private String[] uniqueIds = new String[INITIAL_CAPACITY];
+
+	/**
+	 * The identifiers by node ID; {@code null} for nodes that have only been
+	 * referenced as the parent of another node so far.
+	 */
+	private TestIdentifier[] identifiers = new TestIdentifier[INITIAL_CAPACITY];
+
+	private int[] parents = new int[INITIAL_CAPACITY];
 
-	private final Map<String, Set<TestIdentifier>> children = new ConcurrentHashMap<>(32);
+	private int[][] children = new int[INITIAL_CAPACITY][];
 
-	private final Map<String, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>(32);
+	private int[] childCounts = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The number of tests in the subtree of each node, including the node.
+	 */
+	private int[] subtreeTestCounts = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The number of containers in the subtree of each node, including the node.
+	 */
+	private int[] subtreeContainerCounts = new int[INITIAL_CAPACITY];
+
+	private int nodeCount;
+
+	private int[] roots = new int[4];
+
+	private int rootCount;
+
+	/**
+	 * The identifiers of the descriptors added to this test plan, until they
+	 * are {@linkplain #releaseTestDescriptors() released}.
+	 */
+	private Map<TestDescriptor, TestIdentifier> descriptorIdentifiers = new IdentityHashMap<>();
+
+	private final Map<Set<TestTag>, Set<TestTag>> sharedTags = new HashMap<>();
+
+	private final Map<TestSource, TestSource> sharedSources = new HashMap<>();
 
 	/**
 	 * Construct a new {@code TestPlan} from the supplied collection of
@@ -75,7 +153,7 @@ public final class TestPlan {
 	public static TestPlan from(Collection<TestDescriptor> engineDescriptors) {
 		Preconditions.notNull(engineDescriptors, "Cannot create TestPlan from a null collection of TestDescriptors");
 		TestPlan testPlan = new TestPlan();
-		Visitor visitor = descriptor -> testPlan.add(TestIdentifier.from(descriptor));
+		TestDescriptor.Visitor visitor = testPlan::add;
 		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
 		return testPlan;
 	}
@@ -91,25 +169,205 @@ public final class TestPlan {
 	 */
 	public void add(TestIdentifier testIdentifier) {
 		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
-		allIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
-		if (testIdentifier.getParentId().isPresent()) {
-			String parentId = testIdentifier.getParentId().get();
-			Set<TestIdentifier> directChildren = children.computeIfAbsent(parentId,
-				key -> Collections.synchronizedSet(new LinkedHashSet<>(16)));
-			directChildren.add(testIdentifier);
+		synchronized (this.lock) {
+			addNode(testIdentifier);
+		}
+	}
+
+	/**
+	 * Add a {@link TestIdentifier} for the supplied {@link TestDescriptor} to
+	 * this test plan.
+	 *
+	 * @param testDescriptor the descriptor to add an identifier for; never
+	 * {@code null}
+	 * @return the added identifier
+	 */
+	@API(Internal)
+	public TestIdentifier add(TestDescriptor testDescriptor) {
+		Preconditions.notNull(testDescriptor, "testDescriptor must not be null");
+		TestIdentifier testIdentifier;
+		synchronized (this.lock) {
+			testIdentifier = createTestIdentifier(testDescriptor);
+			addNode(testIdentifier);
+			this.descriptorIdentifiers.put(testDescriptor, testIdentifier);
+		}
+		return testIdentifier;
+	}
+
+	/**
+	 * Release the {@link TestDescriptor TestDescriptors} added to this test
+	 * plan, which keeps them reachable in order to
+	 * {@linkplain #getTestIdentifier(TestDescriptor) look up} their
+	 * identifiers without formatting their unique IDs.
+	 *
+	 * <p>Intended to be called once the descriptors have been executed.
+	 */
+	@API(Internal)
+	public void releaseTestDescriptors() {
+		synchronized (this.lock) {
+			this.descriptorIdentifiers = new IdentityHashMap<>();
+		}
+	}
+
+	private TestIdentifier createTestIdentifier(TestDescriptor testDescriptor) {
+		String uniqueId = testDescriptor.getUniqueId().toString();
+		String displayName = testDescriptor.getDisplayName();
+		String legacyReportingName = testDescriptor.getLegacyReportingName();
+		if (displayName.equals(legacyReportingName)) {
+			legacyReportingName = displayName;
+		}
+		TestSource source = testDescriptor.getSource().map(this::share).orElse(null);
+		Set<TestTag> tags = share(testDescriptor.getTags());
+		boolean test = testDescriptor.isTest();
+		boolean container = !test || !testDescriptor.getChildren().isEmpty();
+		String parentId = testDescriptor.getParent().map(this::getUniqueId).orElse(null);
+		return new TestIdentifier(uniqueId, displayName, source, tags, test, container, parentId,
+			legacyReportingName);
+	}
+
+	/**
+	 * Get the unique ID of the supplied descriptor, reusing the unique ID of
+	 * its identifier if it has already been added to this test plan.
+	 */
+	private String getUniqueId(TestDescriptor testDescriptor) {
+		String uniqueId = testDescriptor.getUniqueId().toString();
+		int nodeId = findNodeId(uniqueId);
+		return (nodeId != NO_NODE ? this.uniqueIds[nodeId] : uniqueId);
+	}
+
+	private TestSource share(TestSource source) {
+		return this.sharedSources.computeIfAbsent(source, key -> key);
+	}
+
+	private Set<TestTag> share(Set<TestTag> tags) {
+		if (tags.isEmpty()) {
+			return emptySet();
+		}
+		return this.sharedTags.computeIfAbsent(tags, key -> unmodifiableSet(new LinkedHashSet<>(key)));
+	}
+
+	private void addNode(TestIdentifier testIdentifier) {
+		int nodeId = getOrCreateNodeId(testIdentifier.getUniqueId());
+		TestIdentifier previous = this.identifiers[nodeId];
+		this.identifiers[nodeId] = testIdentifier;
+		if (previous != null) {
+			addToSubtreeCounts(nodeId, count(testIdentifier.isTest()) - count(previous.isTest()),
+				count(testIdentifier.isContainer()) - count(previous.isContainer()));
+			return;
+		}
+		// The subtree of the node may already contain nodes added before it;
+		// their counts have only been propagated up to this node so far.
+		this.subtreeTestCounts[nodeId] += count(testIdentifier.isTest());
+		this.subtreeContainerCounts[nodeId] += count(testIdentifier.isContainer());
+		Optional<String> parentId = testIdentifier.getParentId();
+		if (parentId.isPresent()) {
+			int parent = getOrCreateNodeId(parentId.get());
+			int[] siblings = this.children[parent];
+			int count = this.childCounts[parent];
+			if (siblings.length == count) {
+				siblings = this.children[parent] = Arrays.copyOf(siblings, Math.max(4, count * 2));
+			}
+			siblings[count] = nodeId;
+			this.childCounts[parent] = count + 1;
+			this.parents[nodeId] = parent;
+			addToSubtreeCounts(parent, this.subtreeTestCounts[nodeId], this.subtreeContainerCounts[nodeId]);
 		}
 		else {
-			roots.add(testIdentifier);
+			if (this.roots.length == this.rootCount) {
+				this.roots = Arrays.copyOf(this.roots, this.rootCount * 2);
+			}
+			this.roots[this.rootCount++] = nodeId;
+			this.parents[nodeId] = NO_PARENT;
 		}
 	}
 
+	/**
+	 * Add the supplied deltas to the subtree counts of the supplied node and
+	 * of its ancestors, up to the first ancestor that has not been added yet.
+	 */
+	private void addToSubtreeCounts(int nodeId, int testDelta, int containerDelta) {
+		for (int current = nodeId;; current = this.parents[current]) {
+			this.subtreeTestCounts[current] += testDelta;
+			this.subtreeContainerCounts[current] += containerDelta;
+			if (this.identifiers[current] == null || this.parents[current] == NO_PARENT) {
+				return;
+			}
+		}
+	}
+
+	private static int count(boolean condition) {
+		return (condition ? 1 : 0);
+	}
+
+	private int findNodeId(String uniqueId) {
+		int mask = this.nodeIdSlots.length - 1;
+		for (int slot = hash(uniqueId) & mask;; slot = (slot + 1) & mask) {
+			int nodeId = this.nodeIdSlots[slot];
+			if (nodeId == NO_NODE || this.uniqueIds[nodeId].equals(uniqueId)) {
+				return nodeId;
+			}
+		}
+	}
+
+	private int getOrCreateNodeId(String uniqueId) {
+		int nodeId = findNodeId(uniqueId);
+		if (nodeId != NO_NODE) {
+			return nodeId;
+		}
+		if (this.nodeCount == this.identifiers.length) {
+			int capacity = this.nodeCount * 2;
+			this.uniqueIds = Arrays.copyOf(this.uniqueIds, capacity);
+			this.identifiers = Arrays.copyOf(this.identifiers, capacity);
+			this.parents = Arrays.copyOf(this.parents, capacity);
+			this.children = Arrays.copyOf(this.children, capacity);
+			this.childCounts = Arrays.copyOf(this.childCounts, capacity);
+			this.subtreeTestCounts = Arrays.copyOf(this.subtreeTestCounts, capacity);
+			this.subtreeContainerCounts = Arrays.copyOf(this.subtreeContainerCounts, capacity);
+		}
+		int newNodeId = this.nodeCount++;
+		this.uniqueIds[newNodeId] = uniqueId;
+		this.children[newNodeId] = NO_NODES;
+		if (2 * this.nodeCount > this.nodeIdSlots.length) {
+			this.nodeIdSlots = newNodeIdSlots(2 * this.nodeIdSlots.length);
+			for (int existing = 0; existing < newNodeId; existing++) {
+				insertNodeId(existing);
+			}
+		}
+		insertNodeId(newNodeId);
+		return newNodeId;
+	}
+
+	private void insertNodeId(int nodeId) {
+		int mask = this.nodeIdSlots.length - 1;
+		int slot = hash(this.uniqueIds[nodeId]) & mask;
+		while (this.nodeIdSlots[slot] != NO_NODE) {
+			slot = (slot + 1) & mask;
+		}
+		this.nodeIdSlots[slot] = nodeId;
+	}
+
+	private static int[] newNodeIdSlots(int length) {
+		int[] slots = new int[length];
+		Arrays.fill(slots, NO_NODE);
+		return slots;
+	}
+
+	/**
+	 * Spread the higher bits of the hash code of the supplied unique ID, since
+	 * only its lower bits select a slot.
+	 */
+	private static int hash(String uniqueId) {
+		int hash = uniqueId.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
 	/**
 	 * Get the root {@link TestIdentifier TestIdentifiers} for this test plan.
 	 *
 	 * @return an unmodifiable set of the root identifiers
 	 */
 	public Set<TestIdentifier> getRoots() {
-		return unmodifiableSet(roots);
+		return new NodeSet(NO_PARENT);
 	}
 
 	/**
@@ -149,7 +407,10 @@ public final class TestPlan {
 	 */
 	public Set<TestIdentifier> getChildren(String parentId) {
 		Preconditions.notBlank(parentId, "parent ID must not be null or blank");
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+		synchronized (this.lock) {
+			int parent = findNodeId(parentId);
+			return (parent != NO_NODE ? new NodeSet(parent) : emptySet());
+		}
 	}
 
 	/**
@@ -163,9 +424,43 @@ public final class TestPlan {
 	 */
 	public TestIdentifier getTestIdentifier(String uniqueId) throws PreconditionViolationException {
 		Preconditions.notBlank(uniqueId, "unique ID must not be null or blank");
-		Preconditions.condition(allIdentifiers.containsKey(uniqueId),
+		TestIdentifier testIdentifier = findTestIdentifier(uniqueId);
+		Preconditions.condition(testIdentifier != null,
 			() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
-		return allIdentifiers.get(uniqueId);
+		return testIdentifier;
+	}
+
+	/**
+	 * Get the {@link TestIdentifier} for the supplied {@link TestDescriptor}.
+	 *
+	 * <p>Identifiers of descriptors {@linkplain #add(TestDescriptor) added} to
+	 * this test plan are found by identity; all other identifiers are looked
+	 * up by the unique ID of the supplied descriptor.
+	 *
+	 * @param testDescriptor the descriptor to look up the identifier for;
+	 * never {@code null}
+	 * @return the identifier for the supplied descriptor; never {@code null}
+	 * @throws PreconditionViolationException if no {@code TestIdentifier}
+	 * for the supplied descriptor is present in this test plan
+	 */
+	@API(Internal)
+	public TestIdentifier getTestIdentifier(TestDescriptor testDescriptor) throws PreconditionViolationException {
+		Preconditions.notNull(testDescriptor, "testDescriptor must not be null");
+		TestIdentifier testIdentifier;
+		synchronized (this.lock) {
+			testIdentifier = this.descriptorIdentifiers.get(testDescriptor);
+		}
+		if (testIdentifier != null) {
+			return testIdentifier;
+		}
+		return getTestIdentifier(testDescriptor.getUniqueId().toString());
+	}
+
+	private TestIdentifier findTestIdentifier(String uniqueId) {
+		synchronized (this.lock) {
+			int nodeId = findNodeId(uniqueId);
+			return (nodeId != NO_NODE ? this.identifiers[nodeId] : null);
+		}
 	}
 
 	/**
@@ -178,7 +473,19 @@ public final class TestPlan {
 	 */
 	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
 		Preconditions.notNull(predicate, "Predicate must not be null");
-		return allIdentifiers.values().stream().filter(predicate).count();
+		TestIdentifier[] identifiers;
+		int nodeCount;
+		synchronized (this.lock) {
+			identifiers = this.identifiers;
+			nodeCount = this.nodeCount;
+		}
+		// Nodes that have only been referenced as parents have no identifier.
+		// @formatter:off
+		return Arrays.stream(identifiers, 0, nodeCount)
+				.filter(Objects::nonNull)
+				.filter(predicate)
+				.count();
+		// @formatter:on
 	}
 
 	/**
@@ -187,16 +494,242 @@ public final class TestPlan {
 	 *
 	 * @param parent the identifier to look up the descendants for; never {@code null}
 	 * @return an unmodifiable set of the parent's descendants, potentially empty
+	 * @see #streamDescendants(TestIdentifier)
 	 */
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
-		Set<TestIdentifier> result = new LinkedHashSet<>(16);
-		Set<TestIdentifier> children = getChildren(parent);
-		result.addAll(children);
-		for (TestIdentifier child : children) {
-			result.addAll(getDescendants(child));
-		}
+		Set<TestIdentifier> result = streamDescendants(parent).collect(toCollection(LinkedHashSet::new));
 		return unmodifiableSet(result);
 	}
 
+	/**
+	 * Stream all descendants of the supplied {@link TestIdentifier} in
+	 * depth-first pre-order without collecting them first.
+	 *
+	 * <p>Descendants added while the stream is being consumed may or may not
+	 * be included.
+	 *
+	 * @param parent the identifier to stream the descendants of; never {@code null}
+	 * @return a sequential stream of the parent's descendants, potentially empty
+	 * @see #getDescendants(TestIdentifier)
+	 */
+	@API(Experimental)
+	public Stream<TestIdentifier> streamDescendants(TestIdentifier parent) {
+		Preconditions.notNull(parent, "parent must not be null");
+		int nodeId;
+		synchronized (this.lock) {
+			nodeId = findNodeId(parent.getUniqueId());
+		}
+		if (nodeId == NO_NODE) {
+			return Stream.empty();
+		}
+		int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+		Iterator<TestIdentifier> descendants = new DescendantIterator(nodeId);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(descendants, characteristics), false);
+	}
+
+	/**
+	 * Accept the supplied {@link Visitor} for all identifiers in this test
+	 * plan, visiting each root followed by its descendants in depth-first
+	 * pre-order.
+	 *
+	 * @param visitor the {@code Visitor} to accept; never {@code null}
+	 */
+	@API(Experimental)
+	public void accept(Visitor visitor) {
+		Preconditions.notNull(visitor, "visitor must not be null");
+		for (TestIdentifier root : getRoots()) {
+			visitor.visit(root);
+			streamDescendants(root).forEach(visitor::visit);
+		}
+	}
+
+	/**
+	 * Count the {@linkplain TestIdentifier#isTest() tests} in the subtree of
+	 * the supplied {@link TestIdentifier}, including the identifier itself.
+	 *
+	 * <p>The number is maintained as identifiers are added and thus does not
+	 * require traversing the subtree.
+	 *
+	 * @param root the root of the subtree; never {@code null}
+	 * @return the number of tests in the subtree
+	 */
+	@API(Experimental)
+	public long countTestsInSubtree(TestIdentifier root) {
+		Preconditions.notNull(root, "root must not be null");
+		synchronized (this.lock) {
+			int nodeId = findNodeId(root.getUniqueId());
+			return (nodeId != NO_NODE ? this.subtreeTestCounts[nodeId] : count(root.isTest()));
+		}
+	}
+
+	/**
+	 * Count the {@linkplain TestIdentifier#isContainer() containers} in the
+	 * subtree of the supplied {@link TestIdentifier}, including the identifier
+	 * itself.
+	 *
+	 * <p>The number is maintained as identifiers are added and thus does not
+	 * require traversing the subtree.
+	 *
+	 * @param root the root of the subtree; never {@code null}
+	 * @return the number of containers in the subtree
+	 */
+	@API(Experimental)
+	public long countContainersInSubtree(TestIdentifier root) {
+		Preconditions.notNull(root, "root must not be null");
+		synchronized (this.lock) {
+			int nodeId = findNodeId(root.getUniqueId());
+			return (nodeId != NO_NODE ? this.subtreeContainerCounts[nodeId] : count(root.isContainer()));
+		}
+	}
+
+	/**
+	 * Visitor for the tree-like structure of a {@link TestPlan}.
+	 *
+	 * @see TestPlan#accept(Visitor)
+	 */
+	@FunctionalInterface
+	@API(Experimental)
+	public interface Visitor {
+
+		/**
+		 * Visit a {@link TestIdentifier}.
+		 *
+		 * @param testIdentifier the identifier to visit; never {@code null}
+		 */
+		void visit(TestIdentifier testIdentifier);
+
+	}
+
+	/**
+	 * Iterator over the descendants of a node in depth-first pre-order, which
+	 * keeps its position in an explicit stack of node IDs and child indexes.
+	 */
+	private final class DescendantIterator implements Iterator<TestIdentifier> {
+
+		private int[] nodeStack = new int[16];
+		private int[] indexStack = new int[16];
+		private int depth;
+		private TestIdentifier next;
+
+		DescendantIterator(int nodeId) {
+			this.nodeStack[0] = nodeId;
+			this.depth = 1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null) {
+				this.next = advance();
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public TestIdentifier next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			TestIdentifier result = this.next;
+			this.next = null;
+			return result;
+		}
+
+		private TestIdentifier advance() {
+			synchronized (TestPlan.this.lock) {
+				while (this.depth > 0) {
+					int top = this.depth - 1;
+					int node = this.nodeStack[top];
+					int index = this.indexStack[top];
+					if (index < TestPlan.this.childCounts[node]) {
+						this.indexStack[top] = index + 1;
+						int child = TestPlan.this.children[node][index];
+						push(child);
+						return TestPlan.this.identifiers[child];
+					}
+					this.depth--;
+				}
+				return null;
+			}
+		}
+
+		private void push(int nodeId) {
+			if (this.depth == this.nodeStack.length) {
+				this.nodeStack = Arrays.copyOf(this.nodeStack, this.depth * 2);
+				this.indexStack = Arrays.copyOf(this.indexStack, this.depth * 2);
+			}
+			this.nodeStack[this.depth] = nodeId;
+			this.indexStack[this.depth] = 0;
+			this.depth++;
+		}
+
+	}
+
+	/**
+	 * Unmodifiable, live view of the children of a node or of the roots.
+	 *
+	 * <p>Nodes are never removed from a test plan, so lists of node IDs are
+	 * only ever appended to, and their arrays are replaced rather than
+	 * modified when they grow. Hence, iterators snapshot the current array and
+	 * count, which describe a stable prefix of the list; nodes added later are
+	 * not included.
+	 */
+	private final class NodeSet extends AbstractSet<TestIdentifier> {
+
+		private final int parent;
+
+		NodeSet(int parent) {
+			this.parent = parent;
+		}
+
+		@Override
+		public int size() {
+			synchronized (TestPlan.this.lock) {
+				return (this.parent == NO_PARENT ? TestPlan.this.rootCount : TestPlan.this.childCounts[this.parent]);
+			}
+		}
+
+		@Override
+		public boolean contains(Object obj) {
+			if (!(obj instanceof TestIdentifier)) {
+				return false;
+			}
+			synchronized (TestPlan.this.lock) {
+				int nodeId = findNodeId(((TestIdentifier) obj).getUniqueId());
+				return nodeId != NO_NODE && TestPlan.this.identifiers[nodeId] != null
+						&& TestPlan.this.parents[nodeId] == this.parent;
+			}
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			int[] nodes;
+			int count;
+			TestIdentifier[] identifiers;
+			synchronized (TestPlan.this.lock) {
+				nodes = (this.parent == NO_PARENT ? TestPlan.this.roots : TestPlan.this.children[this.parent]);
+				count = size();
+				identifiers = TestPlan.this.identifiers;
+			}
+			return new Iterator<TestIdentifier>() {
+
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return this.index < count;
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return identifiers[nodes[this.index++]];
+				}
+			};
+		}
+
+	}
+
 }
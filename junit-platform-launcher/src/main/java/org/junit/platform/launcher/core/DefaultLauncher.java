@@ -10,8 +10,12 @@
 
 package org.junit.platform.launcher.core;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
 import org.junit.platform.commons.JUnitException;
@@ -43,6 +47,14 @@ class DefaultLauncher implements Launcher {
 	private final TestExecutionListenerRegistry listenerRegistry = new TestExecutionListenerRegistry();
 	private final Iterable<TestEngine> testEngines;
 
+	/**
+	 * Discovery results of test plans returned by {@link #discover} that have
+	 * not been executed yet. A discovery result is removed as soon as its test
+	 * plan is executed or is no longer reachable by the client, so that its
+	 * test descriptors can be garbage collected.
+	 */
+	private final Map<TestPlan, DiscoveryResult> discoveryResults = Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Construct a new {@code DefaultLauncher} with the supplied test engines.
 	 *
@@ -76,13 +88,45 @@ class DefaultLauncher implements Launcher {
 	@Override
 	public TestPlan discover(LauncherDiscoveryRequest discoveryRequest) {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
-		return TestPlan.from(discoverRoot(discoveryRequest, "discovery").getEngineDescriptors());
+		Root root = discoverRoot(discoveryRequest, "discovery");
+		TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
+		this.discoveryResults.put(testPlan, new DiscoveryResult(root, discoveryRequest.getConfigurationParameters()));
+		return testPlan;
 	}
 
 	@Override
 	public void execute(LauncherDiscoveryRequest discoveryRequest) {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
-		execute(discoverRoot(discoveryRequest, "execution"), discoveryRequest.getConfigurationParameters());
+		Root root = discoverRoot(discoveryRequest, "execution");
+		execute(TestPlan.from(root.getEngineDescriptors()), root, discoveryRequest.getConfigurationParameters());
+	}
+
+	@Override
+	public void execute(TestPlan testPlan) {
+		DiscoveryResult discoveryResult = takeDiscoveryResult(testPlan);
+		execute(testPlan, discoveryResult.root, discoveryResult.configurationParameters);
+	}
+
+	@Override
+	public void execute(TestPlan testPlan, Collection<String> uniqueIds) {
+		Preconditions.notNull(uniqueIds, "unique IDs must not be null");
+		Preconditions.containsNoNullElements(uniqueIds, "individual unique IDs must not be null");
+		DiscoveryResult discoveryResult = takeDiscoveryResult(testPlan);
+		testPlan.releaseTestDescriptors();
+		Root subset = discoveryResult.root.retainSubset(uniqueIds);
+		execute(TestPlan.from(subset.getEngineDescriptors()), subset, discoveryResult.configurationParameters);
+	}
+
+	/**
+	 * Remove and return the discovery result of the supplied test plan, which
+	 * hands its tree of test descriptors over to a single execution.
+	 */
+	private DiscoveryResult takeDiscoveryResult(TestPlan testPlan) {
+		Preconditions.notNull(testPlan, "TestPlan must not be null");
+		DiscoveryResult discoveryResult = this.discoveryResults.remove(testPlan);
+		Preconditions.notNull(discoveryResult,
+			"TestPlan must have been discovered by this Launcher and must not have been executed yet");
+		return discoveryResult;
 	}
 
 	TestExecutionListenerRegistry getTestExecutionListenerRegistry() {
@@ -122,17 +166,34 @@ class DefaultLauncher implements Launcher {
 		return root;
 	}
 
-	private void execute(Root root, ConfigurationParameters configurationParameters) {
-		TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
+	private void execute(TestPlan testPlan, Root root, ConfigurationParameters configurationParameters) {
 		TestExecutionListener testExecutionListener = this.listenerRegistry.getCompositeTestExecutionListener();
 		testExecutionListener.testPlanExecutionStarted(testPlan);
 		ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
 			testExecutionListener);
-		for (TestEngine testEngine : root.getTestEngines()) {
-			TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
-			testEngine.execute(new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
+		try {
+			for (TestEngine testEngine : root.getTestEngines()) {
+				TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
+				testEngine.execute(
+					new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
+			}
+		}
+		finally {
+			testPlan.releaseTestDescriptors();
 		}
 		testExecutionListener.testPlanExecutionFinished(testPlan);
 	}
 
+	private static class DiscoveryResult {
+
+		private final Root root;
+		private final ConfigurationParameters configurationParameters;
+
+		DiscoveryResult(Root root, ConfigurationParameters configurationParameters) {
+			this.root = root;
+			this.configurationParameters = configurationParameters;
+		}
+
+	}
+
 }
@@ -22,6 +22,10 @@ import org.junit.platform.launcher.TestPlan;
  * An {@code ExecutionListenerAdapter} adapts a {@link TestPlan} and a corresponding
  * {@link TestExecutionListener} to the {@link EngineExecutionListener} API.
  *
+ * <p>Identifiers are looked up by descriptor identity via
+ * {@link TestPlan#getTestIdentifier(TestDescriptor)}, so that events do not
+ * need to format the unique IDs of their descriptors.
+ *
  * @since 1.0
  */
 class ExecutionListenerAdapter implements EngineExecutionListener {
@@ -36,8 +40,7 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
-		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
-		this.testPlan.add(testIdentifier);
+		TestIdentifier testIdentifier = this.testPlan.add(testDescriptor);
 		this.testExecutionListener.dynamicTestRegistered(testIdentifier);
 	}
 
@@ -62,7 +65,7 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 	}
 
 	private TestIdentifier getTestIdentifier(TestDescriptor testDescriptor) {
-		return this.testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString());
+		return this.testPlan.getTestIdentifier(testDescriptor);
 	}
 
 }
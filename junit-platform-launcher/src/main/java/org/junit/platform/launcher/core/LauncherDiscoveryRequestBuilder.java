@@ -12,6 +12,7 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -27,6 +28,7 @@ import org.junit.platform.engine.Filter;
 import org.junit.platform.launcher.EngineFilter;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.ShardFilter;
 
 /**
  * The {@code LauncherDiscoveryRequestBuilder} provides a light-weight DSL for
@@ -65,6 +67,7 @@ import org.junit.platform.launcher.PostDiscoveryFilter;
  *        includeClassNamePatterns(".*Test[s]?")
  *        // includeClassNamePatterns("org\.example\.tests.*")
  *     )
+ *     .shard(0, 16)
  *     .configurationParameter("key1", "value1")
  *     .configurationParameters(configParameterMap)
  *     .build();
@@ -75,6 +78,7 @@ import org.junit.platform.launcher.PostDiscoveryFilter;
  * @see org.junit.platform.engine.discovery.ClassNameFilter
  * @see org.junit.platform.launcher.EngineFilter
  * @see org.junit.platform.launcher.TagFilter
+ * @see org.junit.platform.launcher.ShardFilter
  */
 @API(Experimental)
 public final class LauncherDiscoveryRequestBuilder {
@@ -169,6 +173,40 @@ public final class LauncherDiscoveryRequestBuilder {
 		return this;
 	}
 
+	/**
+	 * Only include the tests of the supplied shard in the request.
+	 *
+	 * <p>Tests are assigned to shards based on a hash of the name of their
+	 * outermost class.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include
+	 * @param shardCount the total number of shards
+	 * @return this builder for method chaining
+	 * @see ShardFilter#includeShard(int, int)
+	 */
+	public LauncherDiscoveryRequestBuilder shard(int shardIndex, int shardCount) {
+		storeFilter(ShardFilter.includeShard(shardIndex, shardCount));
+		return this;
+	}
+
+	/**
+	 * Only include the tests of the supplied shard in the request.
+	 *
+	 * <p>Tests are assigned to shards such that the total historical duration
+	 * read from the supplied {@code durationsFile} is balanced across shards.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include
+	 * @param shardCount the total number of shards
+	 * @param durationsFile the file containing the durations of test classes;
+	 * never {@code null}
+	 * @return this builder for method chaining
+	 * @see ShardFilter#includeShard(int, int, Path)
+	 */
+	public LauncherDiscoveryRequestBuilder shard(int shardIndex, int shardCount, Path durationsFile) {
+		storeFilter(ShardFilter.includeShard(shardIndex, shardCount, durationsFile));
+		return this;
+	}
+
 	private void storeFilter(Filter<?> filter) {
 		if (filter instanceof EngineFilter) {
 			this.engineFilters.add((EngineFilter) filter);
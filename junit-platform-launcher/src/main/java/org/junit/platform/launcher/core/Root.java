@@ -12,10 +12,18 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.engine.Filter.composeFilters;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
@@ -85,4 +93,78 @@ class Root {
 		this.testEngineDescriptors.values().forEach(descriptor -> descriptor.accept(visitor));
 	}
 
+	/**
+	 * Create a new {@code Root} for the subset of the tree of {@link TestDescriptor
+	 * TestDescriptors} identified by the supplied unique IDs.
+	 *
+	 * <p>Selected descriptors are retained along with all of their descendants
+	 * and ancestors; all other children of their ancestors are <em>removed</em>
+	 * from the tree. Engines without selected descriptors are not part of the
+	 * returned {@code Root}. This {@code Root} must therefore not be executed
+	 * afterwards.
+	 *
+	 * @param uniqueIds the unique IDs of the descriptors to retain
+	 */
+	Root retainSubset(Collection<String> uniqueIds) {
+		Set<String> unresolvedUniqueIds = new HashSet<>(uniqueIds);
+		Set<TestDescriptor> selected = newIdentitySet();
+		forEachDescriptor(descriptor -> {
+			if (unresolvedUniqueIds.remove(descriptor.getUniqueId().toString())) {
+				selected.add(descriptor);
+			}
+		});
+		Preconditions.condition(unresolvedUniqueIds.isEmpty(),
+			() -> "TestPlan does not contain test identifiers with unique IDs: " + unresolvedUniqueIds);
+
+		Set<TestDescriptor> ancestors = newIdentitySet();
+		for (TestDescriptor descriptor : selected) {
+			TestDescriptor parent = descriptor.getParent().orElse(null);
+			while (parent != null && ancestors.add(parent)) {
+				parent = parent.getParent().orElse(null);
+			}
+		}
+
+		Root subset = new Root();
+		this.testEngineDescriptors.forEach((testEngine, engineDescriptor) -> {
+			if (selected.contains(engineDescriptor)) {
+				subset.add(testEngine, engineDescriptor);
+			}
+			else if (ancestors.contains(engineDescriptor)) {
+				removeUnselectedChildren(engineDescriptor, selected, ancestors);
+				subset.add(testEngine, engineDescriptor);
+			}
+		});
+		return subset;
+	}
+
+	private static void removeUnselectedChildren(TestDescriptor engineDescriptor, Set<TestDescriptor> selected,
+			Set<TestDescriptor> ancestors) {
+
+		Deque<TestDescriptor> stack = new ArrayDeque<>();
+		stack.push(engineDescriptor);
+		while (!stack.isEmpty()) {
+			for (TestDescriptor child : new ArrayList<>(stack.pop().getChildren())) {
+				if (ancestors.contains(child)) {
+					stack.push(child);
+				}
+				else if (!selected.contains(child)) {
+					child.getParent().ifPresent(parent -> parent.removeChild(child));
+				}
+			}
+		}
+	}
+
+	private void forEachDescriptor(TestDescriptor.Visitor visitor) {
+		Deque<TestDescriptor> stack = new ArrayDeque<>(getEngineDescriptors());
+		while (!stack.isEmpty()) {
+			TestDescriptor descriptor = stack.pop();
+			visitor.visit(descriptor);
+			descriptor.getChildren().forEach(stack::push);
+		}
+	}
+
+	private static Set<TestDescriptor> newIdentitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that delivers all events to a delegate
+ * listener on a dedicated thread so that a slow listener does not delay
+ * the execution of tests.
+ *
+ * <p>Events are queued in a bounded ring buffer and delivered in the order
+ * in which they were received, in batches of up to a configurable size.
+ * The {@link BackPressure} policy determines what happens to an event that
+ * is received while the buffer is full. All queued events are delivered
+ * before {@link #testPlanExecutionFinished(TestPlan)} returns; the first
+ * exception thrown by the delegate, if any, is rethrown at that point.
+ *
+ * @since 1.0
+ */
+@API(Experimental)
+public class AsyncTestExecutionListener implements TestExecutionListener {
+
+	/**
+	 * Default capacity of the event buffer: {@value}
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * Default maximum number of events delivered per batch: {@value}
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 64;
+
+	/**
+	 * Policy for events that are received while the event buffer is full.
+	 */
+	public enum BackPressure {
+
+		/**
+		 * Block the calling thread until the delegate has caught up.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard the event; the delegate may then observe an incomplete
+		 * sequence of events.
+		 *
+		 * <p>The start and end of the test plan execution are never discarded.
+		 *
+		 * @see AsyncTestExecutionListener#getDiscardedEventCount()
+		 */
+		DISCARD
+
+	}
+
+	private final TestExecutionListener delegate;
+	private final int batchSize;
+	private final BackPressure backPressure;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = this.lock.newCondition();
+	private final Condition notFull = this.lock.newCondition();
+	private final Condition drained = this.lock.newCondition();
+
+	private final Object[] events;
+	private int head;
+	private int count;
+	private Thread dispatcher;
+	private boolean finishing;
+	private Throwable failure;
+	private long discardedEventCount;
+
+	/**
+	 * Create a new {@code AsyncTestExecutionListener} for the supplied delegate
+	 * using the {@linkplain #DEFAULT_CAPACITY default capacity}, the
+	 * {@linkplain #DEFAULT_BATCH_SIZE default batch size}, and the
+	 * {@link BackPressure#BLOCK BLOCK} policy.
+	 *
+	 * @param delegate the listener to deliver events to; never {@code null}
+	 */
+	public AsyncTestExecutionListener(TestExecutionListener delegate) {
+		this(delegate, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, BackPressure.BLOCK);
+	}
+
+	/**
+	 * Create a new {@code AsyncTestExecutionListener} for the supplied delegate.
+	 *
+	 * @param delegate the listener to deliver events to; never {@code null}
+	 * @param capacity the maximum number of queued events; must be positive
+	 * @param batchSize the maximum number of events delivered per batch; must
+	 * be positive
+	 * @param backPressure the policy for events that are received while the
+	 * buffer is full; never {@code null}
+	 */
+	public AsyncTestExecutionListener(TestExecutionListener delegate, int capacity, int batchSize,
+			BackPressure backPressure) {
+		Preconditions.condition(capacity > 0, "capacity must be greater than 0");
+		Preconditions.condition(batchSize > 0, "batchSize must be greater than 0");
+		this.delegate = Preconditions.notNull(delegate, "delegate must not be null");
+		this.backPressure = Preconditions.notNull(backPressure, "backPressure must not be null");
+		this.batchSize = batchSize;
+		this.events = new Object[capacity];
+	}
+
+	/**
+	 * Get the number of events that have been discarded because the event
+	 * buffer was full.
+	 *
+	 * @see BackPressure#DISCARD
+	 */
+	public long getDiscardedEventCount() {
+		this.lock.lock();
+		try {
+			return this.discardedEventCount;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		enqueue(listener -> listener.testPlanExecutionStarted(testPlan), true);
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		enqueue(listener -> listener.testPlanExecutionFinished(testPlan), true);
+		Throwable failure;
+		this.lock.lock();
+		try {
+			this.finishing = true;
+			this.notEmpty.signal();
+			while (this.dispatcher != null) {
+				this.drained.awaitUninterruptibly();
+			}
+			this.finishing = false;
+			failure = this.failure;
+			this.failure = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		enqueue(listener -> listener.dynamicTestRegistered(testIdentifier), false);
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		enqueue(listener -> listener.executionSkipped(testIdentifier, reason), false);
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		enqueue(listener -> listener.executionStarted(testIdentifier), false);
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		enqueue(listener -> listener.executionFinished(testIdentifier, testExecutionResult), false);
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		enqueue(listener -> listener.reportingEntryPublished(testIdentifier, entry), false);
+	}
+
+	private void enqueue(Consumer<TestExecutionListener> event, boolean required) {
+		this.lock.lock();
+		try {
+			while (this.count == this.events.length) {
+				if (!required && this.backPressure == BackPressure.DISCARD) {
+					this.discardedEventCount++;
+					return;
+				}
+				this.notFull.awaitUninterruptibly();
+			}
+			this.events[(this.head + this.count) % this.events.length] = event;
+			this.count++;
+			if (this.dispatcher == null) {
+				this.dispatcher = new Thread(this::dispatch, "junit-platform-async-listener");
+				this.dispatcher.setDaemon(true);
+				this.dispatcher.start();
+			}
+			else if (this.count == 1) {
+				this.notEmpty.signal();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void dispatch() {
+		List<Consumer<TestExecutionListener>> batch = new ArrayList<>(Math.min(this.batchSize, this.events.length));
+		while (takeBatch(batch)) {
+			for (Consumer<TestExecutionListener> event : batch) {
+				deliver(event);
+			}
+			batch.clear();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean takeBatch(List<Consumer<TestExecutionListener>> batch) {
+		this.lock.lock();
+		try {
+			while (this.count == 0) {
+				if (this.finishing) {
+					this.dispatcher = null;
+					this.drained.signalAll();
+					return false;
+				}
+				this.notEmpty.awaitUninterruptibly();
+			}
+			boolean wasFull = this.count == this.events.length;
+			int size = Math.min(this.count, this.batchSize);
+			for (int i = 0; i < size; i++) {
+				batch.add((Consumer<TestExecutionListener>) this.events[this.head]);
+				this.events[this.head] = null;
+				this.head = (this.head + 1) % this.events.length;
+			}
+			this.count -= size;
+			if (wasFull) {
+				this.notFull.signalAll();
+			}
+			return true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void deliver(Consumer<TestExecutionListener> event) {
+		try {
+			event.accept(this.delegate);
+		}
+		catch (Throwable t) {
+			this.lock.lock();
+			try {
+				if (this.failure == null) {
+					this.failure = t;
+				}
+				else if (this.failure != t) {
+					this.failure.addSuppressed(t);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.CompositeTestSource;
+import org.junit.platform.engine.support.descriptor.DirectorySource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.descriptor.PackageSource;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Binary format of event logs written by {@link EventLogWritingListener} and
+ * read by {@link EventLogReader}.
+ *
+ * <p>A log starts with a {@linkplain #MAGIC magic number} and a
+ * {@linkplain #VERSION version}, followed by records. Each record consists of
+ * its length, its type, the value of {@link System#nanoTime()} when it was
+ * written and a type specific payload. Identifiers are referenced by the
+ * index in which they were written; strings are written as their length
+ * followed by their UTF-8 encoded bytes.
+ *
+ * @since 1.0
+ */
+final class EventLogFormat {
+
+	static final int MAGIC = 0x4A55454C; // "JUEL"
+	static final int VERSION = 1;
+
+	static final byte TEST_PLAN_EXECUTION_STARTED = 1;
+	static final byte DYNAMIC_TEST_REGISTERED = 2;
+	static final byte EXECUTION_STARTED = 3;
+	static final byte EXECUTION_SKIPPED = 4;
+	static final byte EXECUTION_FINISHED = 5;
+	static final byte REPORTING_ENTRY_PUBLISHED = 6;
+	static final byte TEST_PLAN_EXECUTION_FINISHED = 7;
+
+	static final int NO_PARENT = -1;
+	static final int UNKNOWN_PARENT = -2;
+
+	private static final byte FLAG_TEST = 1;
+	private static final byte FLAG_CONTAINER = 2;
+
+	private static final byte NO_SOURCE = 0;
+	private static final byte CLASS_SOURCE = 1;
+	private static final byte METHOD_SOURCE = 2;
+	private static final byte PACKAGE_SOURCE = 3;
+	private static final byte FILE_SOURCE = 4;
+	private static final byte DIRECTORY_SOURCE = 5;
+	private static final byte CLASSPATH_RESOURCE_SOURCE = 6;
+	private static final byte COMPOSITE_SOURCE = 7;
+	private static final byte SERIALIZED_SOURCE = 8;
+
+	private EventLogFormat() {
+		/* no-op */
+	}
+
+	/**
+	 * Encodes a single record into a reusable buffer.
+	 */
+	static class Encoder {
+
+		private final RecordBytes bytes = new RecordBytes();
+		private final DataOutputStream out = new DataOutputStream(bytes);
+
+		Encoder start(byte type, long nanoTime) throws IOException {
+			bytes.reset();
+			out.writeByte(type);
+			out.writeLong(nanoTime);
+			return this;
+		}
+
+		int size() {
+			return bytes.size();
+		}
+
+		void writeTo(ByteBuffer buffer) {
+			bytes.writeTo(buffer);
+		}
+
+		Encoder writeInt(int value) throws IOException {
+			out.writeInt(value);
+			return this;
+		}
+
+		Encoder writeLong(long value) throws IOException {
+			out.writeLong(value);
+			return this;
+		}
+
+		Encoder writeByte(int value) throws IOException {
+			out.writeByte(value);
+			return this;
+		}
+
+		Encoder writeString(String value) throws IOException {
+			if (value == null) {
+				out.writeInt(-1);
+			}
+			else {
+				byte[] encoded = value.getBytes(UTF_8);
+				out.writeInt(encoded.length);
+				out.write(encoded);
+			}
+			return this;
+		}
+
+		Encoder writeIdentifier(TestIdentifier identifier, int parentIndex) throws IOException {
+			writeString(identifier.getUniqueId());
+			writeInt(parentIndex);
+			if (parentIndex == UNKNOWN_PARENT) {
+				writeString(identifier.getParentId().get());
+			}
+			writeString(identifier.getDisplayName());
+			// the legacy reporting name is omitted if it equals the display name
+			boolean sameNames = identifier.getLegacyReportingName().equals(identifier.getDisplayName());
+			writeString(sameNames ? null : identifier.getLegacyReportingName());
+			writeByte((identifier.isTest() ? FLAG_TEST : 0) | (identifier.isContainer() ? FLAG_CONTAINER : 0));
+			writeInt(identifier.getTags().size());
+			for (TestTag tag : identifier.getTags()) {
+				writeString(tag.getName());
+			}
+			writeSource(identifier.getSource().orElse(null));
+			return this;
+		}
+
+		private void writeSource(TestSource source) throws IOException {
+			if (source == null) {
+				writeByte(NO_SOURCE);
+			}
+			else if (source.getClass() == ClassSource.class) {
+				ClassSource classSource = (ClassSource) source;
+				writeByte(CLASS_SOURCE).writeString(classSource.getClassName());
+				writePosition(classSource.getPosition());
+			}
+			else if (source.getClass() == MethodSource.class) {
+				MethodSource methodSource = (MethodSource) source;
+				writeByte(METHOD_SOURCE).writeString(methodSource.getClassName());
+				writeString(methodSource.getMethodName()).writeString(methodSource.getMethodParameterTypes());
+			}
+			else if (source.getClass() == PackageSource.class) {
+				writeByte(PACKAGE_SOURCE).writeString(((PackageSource) source).getPackageName());
+			}
+			else if (source.getClass() == FileSource.class) {
+				FileSource fileSource = (FileSource) source;
+				writeByte(FILE_SOURCE).writeString(fileSource.getFile().getPath());
+				writePosition(fileSource.getPosition());
+			}
+			else if (source.getClass() == DirectorySource.class) {
+				writeByte(DIRECTORY_SOURCE).writeString(((DirectorySource) source).getFile().getPath());
+			}
+			else if (source.getClass() == ClasspathResourceSource.class) {
+				ClasspathResourceSource resourceSource = (ClasspathResourceSource) source;
+				writeByte(CLASSPATH_RESOURCE_SOURCE).writeString(resourceSource.getClasspathResourceName());
+				writePosition(resourceSource.getPosition());
+			}
+			else if (source.getClass() == CompositeTestSource.class) {
+				List<TestSource> sources = ((CompositeTestSource) source).getSources();
+				writeByte(COMPOSITE_SOURCE).writeInt(sources.size());
+				for (TestSource each : sources) {
+					writeSource(each);
+				}
+			}
+			else {
+				writeByte(SERIALIZED_SOURCE);
+				writeSerialized(source);
+			}
+		}
+
+		private void writePosition(Optional<FilePosition> position) throws IOException {
+			writeByte(position.isPresent() ? 1 : 0);
+			if (position.isPresent()) {
+				writeInt(position.get().getLine()).writeInt(position.get().getColumn());
+			}
+		}
+
+		Encoder writeThrowable(Optional<Throwable> throwable) throws IOException {
+			writeByte(throwable.isPresent() ? 1 : 0);
+			if (throwable.isPresent()) {
+				Throwable t = throwable.get();
+				writeString(t.getClass().getName()).writeString(t.getMessage());
+				StackTraceElement[] stackTrace = t.getStackTrace();
+				writeInt(stackTrace.length);
+				for (StackTraceElement element : stackTrace) {
+					writeString(element.getClassName()).writeString(element.getMethodName());
+					writeString(element.getFileName()).writeInt(element.getLineNumber());
+				}
+				writeSerialized(t);
+			}
+			return this;
+		}
+
+		/**
+		 * Write the serialized form of the supplied object, or a length of
+		 * {@code -1} if it cannot be serialized.
+		 */
+		private void writeSerialized(Serializable object) throws IOException {
+			ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+			try (ObjectOutputStream objectOut = new ObjectOutputStream(serialized)) {
+				objectOut.writeObject(object);
+			}
+			catch (IOException e) {
+				writeInt(-1);
+				return;
+			}
+			writeInt(serialized.size());
+			out.write(serialized.toByteArray());
+		}
+
+	}
+
+	/**
+	 * Record buffer that can be copied without creating a new array.
+	 */
+	private static class RecordBytes extends ByteArrayOutputStream {
+
+		RecordBytes() {
+			super(256);
+		}
+
+		void writeTo(ByteBuffer buffer) {
+			buffer.put(this.buf, 0, this.count);
+		}
+
+	}
+
+	/**
+	 * Decodes the payload of a single record.
+	 */
+	static class Decoder {
+
+		private final ByteBuffer buffer;
+
+		Decoder(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		byte readByte() {
+			return buffer.get();
+		}
+
+		int readInt() {
+			return buffer.getInt();
+		}
+
+		long readLong() {
+			return buffer.getLong();
+		}
+
+		String readString() {
+			int length = buffer.getInt();
+			if (length < 0) {
+				return null;
+			}
+			String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+			buffer.position(buffer.position() + length);
+			return value;
+		}
+
+		TestIdentifier readIdentifier(List<TestIdentifier> identifiers) {
+			String uniqueId = readString();
+			int parentIndex = readInt();
+			String parentId = parentIndex == UNKNOWN_PARENT ? readString()
+					: parentIndex == NO_PARENT ? null : identifiers.get(parentIndex).getUniqueId();
+			String displayName = readString();
+			String legacyReportingName = readString();
+			byte flags = readByte();
+			int tagCount = readInt();
+			Set<TestTag> tags = new LinkedHashSet<>(tagCount);
+			for (int i = 0; i < tagCount; i++) {
+				tags.add(TestTag.create(readString()));
+			}
+			TestSource source = readSource();
+			return new TestIdentifier(uniqueId, displayName, Optional.ofNullable(source), tags,
+				(flags & FLAG_TEST) != 0, (flags & FLAG_CONTAINER) != 0, Optional.ofNullable(parentId),
+				legacyReportingName == null ? displayName : legacyReportingName);
+		}
+
+		private TestSource readSource() {
+			byte kind = readByte();
+			switch (kind) {
+				case NO_SOURCE:
+					return null;
+				case CLASS_SOURCE:
+					return new ClassSource(readString(), readPosition());
+				case METHOD_SOURCE:
+					return new MethodSource(readString(), readString(), readString());
+				case PACKAGE_SOURCE:
+					return new PackageSource(readString());
+				case FILE_SOURCE:
+					return new FileSource(new File(readString()), readPosition());
+				case DIRECTORY_SOURCE:
+					return new DirectorySource(new File(readString()));
+				case CLASSPATH_RESOURCE_SOURCE:
+					return new ClasspathResourceSource(readString(), readPosition());
+				case COMPOSITE_SOURCE:
+					int count = readInt();
+					List<TestSource> sources = new ArrayList<>(count);
+					for (int i = 0; i < count; i++) {
+						sources.add(readSource());
+					}
+					return new CompositeTestSource(sources);
+				case SERIALIZED_SOURCE:
+					return (TestSource) readSerialized();
+				default:
+					throw new JUnitException("Unknown test source kind in event log: " + kind);
+			}
+		}
+
+		private FilePosition readPosition() {
+			return readByte() == 0 ? null : new FilePosition(readInt(), readInt());
+		}
+
+		Optional<Throwable> readThrowable() {
+			if (readByte() == 0) {
+				return Optional.empty();
+			}
+			String className = readString();
+			String message = readString();
+			StackTraceElement[] stackTrace = new StackTraceElement[readInt()];
+			for (int i = 0; i < stackTrace.length; i++) {
+				stackTrace[i] = new StackTraceElement(readString(), readString(), readString(), readInt());
+			}
+			Object throwable = readSerialized();
+			if (throwable instanceof Throwable) {
+				return Optional.of((Throwable) throwable);
+			}
+			// the original throwable could not be serialized or its class is not available
+			JUnitException replacement = new JUnitException(
+				message == null ? className : className + ": " + message);
+			replacement.setStackTrace(stackTrace);
+			return Optional.of(replacement);
+		}
+
+		/**
+		 * Read a serialized object, or return {@code null} if it was not
+		 * serialized or cannot be deserialized.
+		 */
+		private Object readSerialized() {
+			int length = readInt();
+			if (length < 0) {
+				return null;
+			}
+			ByteArrayInputStream serialized = new ByteArrayInputStream(buffer.array(),
+				buffer.arrayOffset() + buffer.position(), length);
+			buffer.position(buffer.position() + length);
+			try (ObjectInputStream objectIn = new ObjectInputStream(serialized)) {
+				return objectIn.readObject();
+			}
+			catch (IOException | ClassNotFoundException e) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+import static org.junit.platform.launcher.listeners.EventLogFormat.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.EXECUTION_FINISHED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.EXECUTION_SKIPPED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.EXECUTION_STARTED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.TEST_PLAN_EXECUTION_FINISHED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.TEST_PLAN_EXECUTION_STARTED;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Replays an event log written by {@link EventLogWritingListener} into one or
+ * more {@link TestExecutionListener TestExecutionListeners}.
+ *
+ * <p>Listeners that measure durations may use the {@linkplain #getClock()
+ * clock} of the reader, which reports the recorded time of the event that
+ * is currently being replayed. A log that ends with an incomplete record,
+ * for example, because the recording JVM crashed, is replayed up to the
+ * last complete record.
+ *
+ * @since 1.0
+ * @see EventLogWritingListener
+ */
+@API(Experimental)
+public class EventLogReader {
+
+	private final Path logFile;
+
+	private List<TestIdentifier> identifiers = new ArrayList<>();
+	private TestPlan testPlan;
+	private long startEpochMillis;
+	private long startNanoTime;
+	private long currentNanoTime;
+
+	/**
+	 * Create a new {@code EventLogReader} for the supplied log file.
+	 *
+	 * @param logFile the log file to read; never {@code null}
+	 */
+	public EventLogReader(Path logFile) {
+		this.logFile = Preconditions.notNull(logFile, "logFile must not be null");
+	}
+
+	/**
+	 * Get a {@link Clock} that reports the recorded time of the event that is
+	 * currently being replayed.
+	 */
+	public Clock getClock() {
+		return new ReplayClock(ZoneId.systemDefault());
+	}
+
+	/**
+	 * Replay all events of the log into the supplied listeners, in the order
+	 * in which they were recorded.
+	 *
+	 * @param listeners the listeners to notify; never {@code null} or empty
+	 */
+	public void replay(TestExecutionListener... listeners) {
+		Preconditions.notEmpty(listeners, "listeners array must not be null or empty");
+		Preconditions.containsNoNullElements(listeners, "individual listeners must not be null");
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.logFile)))) {
+			if (in.readInt() != EventLogFormat.MAGIC) {
+				throw new JUnitException("Not an event log: " + this.logFile);
+			}
+			int version = in.readInt();
+			if (version != EventLogFormat.VERSION) {
+				throw new JUnitException("Unsupported event log version " + version + ": " + this.logFile);
+			}
+			byte[] record;
+			while ((record = readRecord(in)) != null) {
+				replayRecord(ByteBuffer.wrap(record), listeners);
+			}
+		}
+		catch (IOException e) {
+			throw new JUnitException("Failed to read event log: " + this.logFile, e);
+		}
+	}
+
+	private static byte[] readRecord(DataInputStream in) throws IOException {
+		try {
+			byte[] record = new byte[in.readInt()];
+			in.readFully(record);
+			return record;
+		}
+		catch (EOFException e) {
+			return null;
+		}
+	}
+
+	private void replayRecord(ByteBuffer record, TestExecutionListener[] listeners) {
+		EventLogFormat.Decoder decoder = new EventLogFormat.Decoder(record);
+		byte type = decoder.readByte();
+		this.currentNanoTime = decoder.readLong();
+		switch (type) {
+			case TEST_PLAN_EXECUTION_STARTED: {
+				this.startEpochMillis = decoder.readLong();
+				this.startNanoTime = this.currentNanoTime;
+				this.identifiers = new ArrayList<>();
+				this.testPlan = TestPlan.from(Collections.emptyList());
+				int count = decoder.readInt();
+				for (int i = 0; i < count; i++) {
+					addIdentifier(decoder.readIdentifier(this.identifiers));
+				}
+				notify(listeners, listener -> listener.testPlanExecutionStarted(this.testPlan));
+				break;
+			}
+			case DYNAMIC_TEST_REGISTERED: {
+				TestIdentifier testIdentifier = addIdentifier(decoder.readIdentifier(this.identifiers));
+				notify(listeners, listener -> listener.dynamicTestRegistered(testIdentifier));
+				break;
+			}
+			case EXECUTION_SKIPPED: {
+				TestIdentifier testIdentifier = this.identifiers.get(decoder.readInt());
+				String reason = decoder.readString();
+				notify(listeners, listener -> listener.executionSkipped(testIdentifier, reason));
+				break;
+			}
+			case EXECUTION_STARTED: {
+				TestIdentifier testIdentifier = this.identifiers.get(decoder.readInt());
+				notify(listeners, listener -> listener.executionStarted(testIdentifier));
+				break;
+			}
+			case EXECUTION_FINISHED: {
+				TestIdentifier testIdentifier = this.identifiers.get(decoder.readInt());
+				TestExecutionResult.Status status = TestExecutionResult.Status.values()[decoder.readByte()];
+				TestExecutionResult result = toResult(status, decoder.readThrowable());
+				notify(listeners, listener -> listener.executionFinished(testIdentifier, result));
+				break;
+			}
+			case REPORTING_ENTRY_PUBLISHED: {
+				TestIdentifier testIdentifier = this.identifiers.get(decoder.readInt());
+				int count = decoder.readInt();
+				Map<String, String> keyValuePairs = new LinkedHashMap<>(count);
+				for (int i = 0; i < count; i++) {
+					keyValuePairs.put(decoder.readString(), decoder.readString());
+				}
+				ReportEntry entry = ReportEntry.from(keyValuePairs);
+				notify(listeners, listener -> listener.reportingEntryPublished(testIdentifier, entry));
+				break;
+			}
+			case TEST_PLAN_EXECUTION_FINISHED: {
+				TestPlan finishedTestPlan = this.testPlan;
+				notify(listeners, listener -> listener.testPlanExecutionFinished(finishedTestPlan));
+				break;
+			}
+			default:
+				// records of unknown types are skipped for forward compatibility
+				break;
+		}
+	}
+
+	private TestIdentifier addIdentifier(TestIdentifier testIdentifier) {
+		this.identifiers.add(testIdentifier);
+		this.testPlan.add(testIdentifier);
+		return testIdentifier;
+	}
+
+	private static TestExecutionResult toResult(TestExecutionResult.Status status, Optional<Throwable> throwable) {
+		switch (status) {
+			case ABORTED:
+				return TestExecutionResult.aborted(throwable.orElse(null));
+			case FAILED:
+				return TestExecutionResult.failed(throwable.orElse(null));
+			default:
+				return TestExecutionResult.successful();
+		}
+	}
+
+	private static void notify(TestExecutionListener[] listeners, Consumer<TestExecutionListener> event) {
+		for (TestExecutionListener listener : listeners) {
+			event.accept(listener);
+		}
+	}
+
+	private class ReplayClock extends Clock {
+
+		private final ZoneId zone;
+
+		ReplayClock(ZoneId zone) {
+			this.zone = zone;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return this.zone;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return new ReplayClock(zone);
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(startEpochMillis).plusNanos(currentNanoTime - startNanoTime);
+		}
+
+	}
+
+}
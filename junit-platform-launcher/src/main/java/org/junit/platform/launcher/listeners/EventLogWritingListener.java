@@ -0,0 +1,317 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+import static org.junit.platform.launcher.listeners.EventLogFormat.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.EXECUTION_FINISHED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.EXECUTION_SKIPPED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.EXECUTION_STARTED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.NO_PARENT;
+import static org.junit.platform.launcher.listeners.EventLogFormat.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.TEST_PLAN_EXECUTION_FINISHED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.TEST_PLAN_EXECUTION_STARTED;
+import static org.junit.platform.launcher.listeners.EventLogFormat.UNKNOWN_PARENT;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that records all events of a test run in a
+ * compact binary event log, which can be {@linkplain EventLogReader replayed}
+ * into any other {@code TestExecutionListener} after the fact.
+ *
+ * <p>Records are appended to a buffered {@link FileChannel}. The buffer is
+ * drained whenever a container has finished, at least once per second, and
+ * when the execution of a {@link TestPlan} has finished. The log file is
+ * overwritten by the first test plan executed and appended to by subsequent
+ * ones. If the log file cannot be written, the error is logged and no further
+ * events of the current test plan are recorded. Events for test identifiers
+ * that are not part of the test plan and have not been registered as dynamic
+ * tests are logged and skipped.
+ *
+ * @since 1.0
+ * @see EventLogReader
+ */
+@API(Experimental)
+public class EventLogWritingListener implements TestExecutionListener {
+
+	private static final Logger LOG = Logger.getLogger(EventLogWritingListener.class.getName());
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private static final int UNKNOWN_INDEX = -1;
+
+	private final Path logFile;
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+	private final EventLogFormat.Encoder encoder = new EventLogFormat.Encoder();
+	private final Map<String, Integer> indexes = new HashMap<>();
+
+	private FileChannel channel;
+	private boolean truncate = true;
+	private int nextIndex;
+	private long lastFlushNanos;
+
+	/**
+	 * Create a new {@code EventLogWritingListener} that writes to the
+	 * supplied log file.
+	 *
+	 * @param logFile the log file to write to; never {@code null}
+	 */
+	public EventLogWritingListener(Path logFile) {
+		this.logFile = Preconditions.notNull(logFile, "logFile must not be null");
+	}
+
+	@Override
+	public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+		this.indexes.clear();
+		this.nextIndex = 0;
+		this.lastFlushNanos = System.nanoTime();
+		try {
+			this.channel = FileChannel.open(this.logFile, CREATE, WRITE, this.truncate ? TRUNCATE_EXISTING : APPEND);
+			this.truncate = false;
+			if (this.channel.size() == 0) {
+				this.buffer.putInt(EventLogFormat.MAGIC).putInt(EventLogFormat.VERSION);
+			}
+			this.encoder.start(TEST_PLAN_EXECUTION_STARTED, System.nanoTime()).writeLong(System.currentTimeMillis());
+			// @formatter:off
+			List<TestIdentifier> identifiers = testPlan.getRoots().stream()
+					.flatMap(root -> Stream.concat(Stream.of(root), testPlan.streamDescendants(root)))
+					.collect(toList());
+			// @formatter:on
+			this.encoder.writeInt(identifiers.size());
+			for (TestIdentifier identifier : identifiers) {
+				writeIdentifier(identifier);
+			}
+			writeRecord();
+		}
+		catch (IOException e) {
+			disable(e);
+		}
+	}
+
+	@Override
+	public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+		if (this.channel == null) {
+			return;
+		}
+		try {
+			this.encoder.start(TEST_PLAN_EXECUTION_FINISHED, System.nanoTime());
+			writeRecord();
+			flush();
+			this.channel.close();
+			this.channel = null;
+		}
+		catch (IOException e) {
+			disable(e);
+		}
+		finally {
+			this.buffer.clear();
+		}
+	}
+
+	@Override
+	public synchronized void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		if (this.channel == null) {
+			return;
+		}
+		try {
+			this.encoder.start(DYNAMIC_TEST_REGISTERED, System.nanoTime());
+			writeIdentifier(testIdentifier);
+			writeRecord();
+		}
+		catch (IOException e) {
+			disable(e);
+		}
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		if (this.channel == null) {
+			return;
+		}
+		int index = indexOf(testIdentifier);
+		if (index == UNKNOWN_INDEX) {
+			return;
+		}
+		try {
+			this.encoder.start(EXECUTION_SKIPPED, System.nanoTime()).writeInt(index);
+			this.encoder.writeString(reason);
+			writeRecord();
+		}
+		catch (IOException e) {
+			disable(e);
+		}
+	}
+
+	@Override
+	public synchronized void executionStarted(TestIdentifier testIdentifier) {
+		if (this.channel == null) {
+			return;
+		}
+		int index = indexOf(testIdentifier);
+		if (index == UNKNOWN_INDEX) {
+			return;
+		}
+		try {
+			this.encoder.start(EXECUTION_STARTED, System.nanoTime()).writeInt(index);
+			writeRecord();
+		}
+		catch (IOException e) {
+			disable(e);
+		}
+	}
+
+	@Override
+	public synchronized void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (this.channel == null) {
+			return;
+		}
+		int index = indexOf(testIdentifier);
+		if (index == UNKNOWN_INDEX) {
+			return;
+		}
+		try {
+			this.encoder.start(EXECUTION_FINISHED, System.nanoTime()).writeInt(index);
+			this.encoder.writeByte(testExecutionResult.getStatus().ordinal());
+			this.encoder.writeThrowable(testExecutionResult.getThrowable());
+			writeRecord();
+			if (testIdentifier.isContainer()) {
+				flush();
+			}
+		}
+		catch (IOException e) {
+			disable(e);
+		}
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		if (this.channel == null) {
+			return;
+		}
+		int index = indexOf(testIdentifier);
+		if (index == UNKNOWN_INDEX) {
+			return;
+		}
+		try {
+			this.encoder.start(REPORTING_ENTRY_PUBLISHED, System.nanoTime()).writeInt(index);
+			Map<String, String> keyValuePairs = entry.getKeyValuePairs();
+			this.encoder.writeInt(keyValuePairs.size());
+			for (Map.Entry<String, String> keyValuePair : keyValuePairs.entrySet()) {
+				this.encoder.writeString(keyValuePair.getKey()).writeString(keyValuePair.getValue());
+			}
+			writeRecord();
+		}
+		catch (IOException e) {
+			disable(e);
+		}
+	}
+
+	private void writeIdentifier(TestIdentifier testIdentifier) throws IOException {
+		Optional<String> parentId = testIdentifier.getParentId();
+		int parentIndex = parentId.map(id -> this.indexes.getOrDefault(id, UNKNOWN_PARENT)).orElse(NO_PARENT);
+		this.encoder.writeIdentifier(testIdentifier, parentIndex);
+		this.indexes.put(testIdentifier.getUniqueId(), this.nextIndex++);
+	}
+
+	/**
+	 * Get the index of the supplied identifier in the current log, or
+	 * {@link #UNKNOWN_INDEX} if it has never been written, in which case the
+	 * event is logged and skipped rather than failing the execution.
+	 */
+	private int indexOf(TestIdentifier testIdentifier) {
+		Integer index = this.indexes.get(testIdentifier.getUniqueId());
+		if (index == null) {
+			LOG.warning(() -> "Skipping event for unknown test identifier: " + testIdentifier.getUniqueId());
+			return UNKNOWN_INDEX;
+		}
+		return index;
+	}
+
+	private void writeRecord() throws IOException {
+		int size = this.encoder.size();
+		if (this.buffer.remaining() < Integer.BYTES + size) {
+			flush();
+		}
+		if (this.buffer.remaining() < Integer.BYTES + size) {
+			ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + size);
+			record.putInt(size);
+			this.encoder.writeTo(record);
+			record.flip();
+			writeFully(record);
+		}
+		else {
+			this.buffer.putInt(size);
+			this.encoder.writeTo(this.buffer);
+		}
+		if (System.nanoTime() - this.lastFlushNanos >= FLUSH_INTERVAL_NANOS) {
+			flush();
+		}
+	}
+
+	private void flush() throws IOException {
+		this.buffer.flip();
+		writeFully(this.buffer);
+		this.buffer.clear();
+		this.lastFlushNanos = System.nanoTime();
+	}
+
+	private void writeFully(ByteBuffer source) throws IOException {
+		while (source.hasRemaining()) {
+			this.channel.write(source);
+		}
+	}
+
+	/**
+	 * Log the supplied exception and stop recording the events of the current
+	 * test plan.
+	 */
+	private void disable(IOException exception) {
+		LOG.log(Level.WARNING, exception, () -> "Could not write event log: " + this.logFile);
+		this.buffer.clear();
+		if (this.channel != null) {
+			try {
+				this.channel.close();
+			}
+			catch (IOException ignored) {
+				// the channel has already failed
+			}
+			this.channel = null;
+		}
+	}
+
+}
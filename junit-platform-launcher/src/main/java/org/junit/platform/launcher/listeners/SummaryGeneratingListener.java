@@ -10,11 +10,8 @@
 
 package org.junit.platform.launcher.listeners;
 
-import static java.util.stream.Stream.concat;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 
-import java.util.stream.Stream;
-
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.engine.TestExecutionResult;
@@ -65,16 +62,8 @@ public class SummaryGeneratingListener implements TestExecutionListener {
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-		// @formatter:off
-		long skippedContainers = concat(Stream.of(testIdentifier), testPlan.getDescendants(testIdentifier).stream())
-				.filter(TestIdentifier::isContainer)
-				.count();
-		long skippedTests = concat(Stream.of(testIdentifier), testPlan.getDescendants(testIdentifier).stream())
-				.filter(TestIdentifier::isTest)
-				.count();
-		// @formatter:on
-		this.summary.containersSkipped.addAndGet(skippedContainers);
-		this.summary.testsSkipped.addAndGet(skippedTests);
+		this.summary.containersSkipped.addAndGet(testPlan.countContainersInSubtree(testIdentifier));
+		this.summary.testsSkipped.addAndGet(testPlan.countTestsInSubtree(testIdentifier));
 	}
 
 	@Override
@@ -20,9 +20,12 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -37,10 +40,13 @@ import org.apache.maven.surefire.suite.RunResult;
 import org.apache.maven.surefire.testset.TestSetFailedException;
 import org.apache.maven.surefire.util.TestsToRun;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.ShardFilter;
 import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherFactory;
 
 /**
@@ -54,6 +60,14 @@ public class JUnitPlatformProvider extends AbstractProvider {
 	static final String INCLUDE_GROUPS = "groups";
 	static final String INCLUDE_TAGS = "includeTags";
 
+	// Parameter name processed to determine whether all test classes are executed by a single launcher run.
+	static final String BATCH_EXECUTION = "batchExecution";
+
+	// Parameter names processed to determine which shard of the test classes should be executed.
+	static final String SHARD_INDEX = "shardIndex";
+	static final String SHARD_COUNT = "shardCount";
+	static final String SHARD_DURATIONS = "shardDurations";
+
 	static final String EXCEPTION_MESSAGE_BOTH_NOT_ALLOWED = "The " + INCLUDE_GROUPS + " and " + INCLUDE_TAGS
 			+ " parameters (or the " + EXCLUDE_GROUPS + " and " + EXCLUDE_TAGS + " parameters) are synonyms - "
 			+ "only one of each is allowed (though neither is required).";
@@ -61,6 +75,8 @@ public class JUnitPlatformProvider extends AbstractProvider {
 	private final ProviderParameters parameters;
 	private final Launcher launcher;
 	final Filter<?>[] includeAndExcludeFilters;
+	final boolean batchExecution;
+	private final Map<Class<?>, TestPlan> scannedTestPlans = new HashMap<>();
 
 	public JUnitPlatformProvider(ProviderParameters parameters) {
 		this(parameters, LauncherFactory.create());
@@ -70,12 +86,14 @@ public class JUnitPlatformProvider extends AbstractProvider {
 		this.parameters = parameters;
 		this.launcher = launcher;
 		this.includeAndExcludeFilters = getIncludeAndExcludeFilters();
+		this.batchExecution = Boolean.parseBoolean(parameters.getProviderProperties().get(BATCH_EXECUTION));
 		Logger.getLogger("org.junit").setLevel(Level.WARNING);
 	}
 
 	@Override
 	public Iterable<Class<?>> getSuites() {
-		return scanClasspath();
+		// The suites are executed by forked providers; their test plans are not kept.
+		return scanClasspath(new TestPlanScannerFilter(launcher, includeAndExcludeFilters));
 	}
 
 	@Override
@@ -88,16 +106,17 @@ public class JUnitPlatformProvider extends AbstractProvider {
 			return invokeAllTests(TestsToRun.fromClass((Class<?>) forkTestSet));
 		}
 		else if (forkTestSet == null) {
-			return invokeAllTests(scanClasspath());
+			return invokeAllTests(
+				scanClasspath(new TestPlanScannerFilter(launcher, includeAndExcludeFilters, scannedTestPlans)));
 		}
 		else {
 			throw new IllegalArgumentException("Unexpected value of forkTestSet: " + forkTestSet);
 		}
 	}
 
-	private TestsToRun scanClasspath() {
-		TestsToRun scannedClasses = parameters.getScanResult().applyFilter(
-			new TestPlanScannerFilter(launcher, includeAndExcludeFilters), parameters.getTestClassLoader());
+	private TestsToRun scanClasspath(TestPlanScannerFilter scannerFilter) {
+		TestsToRun scannedClasses = parameters.getScanResult().applyFilter(scannerFilter,
+			parameters.getTestClassLoader());
 		return parameters.getRunOrderCalculator().orderTestClasses(scannedClasses);
 	}
 
@@ -106,10 +125,15 @@ public class JUnitPlatformProvider extends AbstractProvider {
 		ReporterFactory reporterFactory = parameters.getReporterFactory();
 		try {
 			RunListener runListener = reporterFactory.createReporter();
-			launcher.registerTestExecutionListeners(new RunListenerAdapter(runListener));
+			launcher.registerTestExecutionListeners(new RunListenerAdapter(runListener, batchExecution));
 
-			for (Class<?> testClass : testsToRun) {
-				invokeSingleClass(testClass, runListener);
+			if (batchExecution) {
+				invokeAllClasses(testsToRun);
+			}
+			else {
+				for (Class<?> testClass : testsToRun) {
+					invokeSingleClass(testClass, runListener);
+				}
 			}
 		}
 		finally {
@@ -122,13 +146,34 @@ public class JUnitPlatformProvider extends AbstractProvider {
 		SimpleReportEntry classEntry = new SimpleReportEntry(getClass().getName(), testClass.getName());
 		runListener.testSetStarting(classEntry);
 
-		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).filters(
-			includeAndExcludeFilters).build();
-		launcher.execute(discoveryRequest);
+		// Test classes scanned by this provider have already been discovered.
+		TestPlan testPlan = scannedTestPlans.remove(testClass);
+		if (testPlan != null) {
+			launcher.execute(testPlan);
+		}
+		else {
+			LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).filters(
+				includeAndExcludeFilters).build();
+			launcher.execute(discoveryRequest);
+		}
 
 		runListener.testSetCompleted(classEntry);
 	}
 
+	/**
+	 * Execute all test classes by a single launcher run; test sets are reported
+	 * per class by the {@link RunListenerAdapter}.
+	 */
+	private void invokeAllClasses(TestsToRun testsToRun) {
+		List<DiscoverySelector> selectors = new ArrayList<>();
+		for (Class<?> testClass : testsToRun) {
+			selectors.add(selectClass(testClass));
+		}
+		if (!selectors.isEmpty()) {
+			launcher.execute(request().selectors(selectors).filters(includeAndExcludeFilters).build());
+		}
+	}
+
 	private Filter<?>[] getIncludeAndExcludeFilters() {
 		List<Filter<?>> filters = new ArrayList<>();
 
@@ -140,9 +185,29 @@ public class JUnitPlatformProvider extends AbstractProvider {
 			getPropertiesList(EXCLUDE_TAGS));
 		excludes.map(TagFilter::excludeTags).ifPresent(filters::add);
 
+		getShardFilter().ifPresent(filters::add);
+
 		return filters.toArray(new Filter<?>[filters.size()]);
 	}
 
+	private Optional<Filter<?>> getShardFilter() {
+		Map<String, String> properties = parameters.getProviderProperties();
+		String shardIndex = properties.get(SHARD_INDEX);
+		String shardCount = properties.get(SHARD_COUNT);
+		String shardDurations = properties.get(SHARD_DURATIONS);
+		if (shardIndex == null && shardCount == null && shardDurations == null) {
+			return Optional.empty();
+		}
+		Preconditions.condition(shardIndex != null && shardCount != null,
+			"The " + SHARD_INDEX + " and " + SHARD_COUNT + " parameters must be supplied together.");
+		int index = Integer.parseInt(shardIndex.trim());
+		int count = Integer.parseInt(shardCount.trim());
+		if (shardDurations != null) {
+			return Optional.of(ShardFilter.includeShard(index, count, Paths.get(shardDurations.trim())));
+		}
+		return Optional.of(ShardFilter.includeShard(index, count));
+	}
+
 	private Optional<List<String>> getPropertiesList(String key) {
 		List<String> compoundProperties = null;
 		String property = parameters.getProviderProperties().get(key);
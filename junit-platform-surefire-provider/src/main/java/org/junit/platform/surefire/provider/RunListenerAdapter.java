@@ -40,10 +40,21 @@ import org.junit.platform.launcher.TestPlan;
 final class RunListenerAdapter implements TestExecutionListener {
 
 	private final RunListener runListener;
+	private final boolean reportTestSetsPerClass;
 	private Optional<TestPlan> testPlan = Optional.empty();
 
 	public RunListenerAdapter(RunListener runListener) {
+		this(runListener, false);
+	}
+
+	/**
+	 * Create an adapter that optionally reports each top-level class container
+	 * as a separate test set, which is required when the tests of multiple
+	 * classes are executed by a single launcher run.
+	 */
+	RunListenerAdapter(RunListener runListener, boolean reportTestSetsPerClass) {
 		this.runListener = runListener;
+		this.reportTestSetsPerClass = reportTestSetsPerClass;
 	}
 
 	@Override
@@ -61,16 +72,33 @@ final class RunListenerAdapter implements TestExecutionListener {
 		if (testIdentifier.isTest()) {
 			runListener.testStarting(createReportEntry(testIdentifier, Optional.empty()));
 		}
+		else if (isTestSet(testIdentifier)) {
+			runListener.testSetStarting(createTestSetReportEntry(testIdentifier));
+		}
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		boolean testSet = isTestSet(testIdentifier);
+		if (testSet) {
+			runListener.testSetStarting(createTestSetReportEntry(testIdentifier));
+		}
 		String source = sourceLegacyReportingName(testIdentifier);
 		runListener.testSkipped(ignored(source, testIdentifier.getLegacyReportingName(), reason));
+		if (testSet) {
+			runListener.testSetCompleted(createTestSetReportEntry(testIdentifier));
+		}
 	}
 
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		reportExecutionFinished(testIdentifier, testExecutionResult);
+		if (isTestSet(testIdentifier)) {
+			runListener.testSetCompleted(createTestSetReportEntry(testIdentifier));
+		}
+	}
+
+	private void reportExecutionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
 		if (testExecutionResult.getStatus() == ABORTED) {
 			runListener.testAssumptionFailure(createReportEntry(testIdentifier, testExecutionResult.getThrowable()));
 		}
@@ -82,6 +110,37 @@ final class RunListenerAdapter implements TestExecutionListener {
 		}
 	}
 
+	/**
+	 * Determine whether the supplied identifier is reported as a test set, i.e.
+	 * whether it is a container for a class without an enclosing class container.
+	 */
+	private boolean isTestSet(TestIdentifier testIdentifier) {
+		if (!reportTestSetsPerClass || !testIdentifier.isContainer() || !isClassSource(testIdentifier)) {
+			return false;
+		}
+		if (!testPlan.isPresent()) {
+			return true;
+		}
+		TestPlan plan = testPlan.get();
+		Optional<TestIdentifier> parent = plan.getParent(testIdentifier);
+		while (parent.isPresent()) {
+			if (isClassSource(parent.get())) {
+				return false;
+			}
+			parent = plan.getParent(parent.get());
+		}
+		return true;
+	}
+
+	private static boolean isClassSource(TestIdentifier testIdentifier) {
+		return testIdentifier.getSource().filter(ClassSource.class::isInstance).isPresent();
+	}
+
+	private SimpleReportEntry createTestSetReportEntry(TestIdentifier testIdentifier) {
+		String className = getClassName(testIdentifier).orElseGet(testIdentifier::getLegacyReportingName);
+		return new SimpleReportEntry(JUnitPlatformProvider.class.getName(), className);
+	}
+
 	private SimpleReportEntry createReportEntry(TestIdentifier testIdentifier, Optional<Throwable> throwable) {
 		Optional<String> className = getClassName(testIdentifier);
 
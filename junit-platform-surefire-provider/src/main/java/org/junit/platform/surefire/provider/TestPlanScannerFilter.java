@@ -19,6 +19,8 @@ package org.junit.platform.surefire.provider;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.apache.maven.surefire.util.ScannerFilter;
@@ -38,10 +40,22 @@ final class TestPlanScannerFilter implements ScannerFilter {
 
 	private final Launcher launcher;
 	private final Filter<?>[] includeAndExcludeFilters;
+	private final Map<Class<?>, TestPlan> acceptedTestPlans;
 
 	public TestPlanScannerFilter(Launcher launcher, Filter<?>[] includeAndExcludeFilters) {
+		this(launcher, includeAndExcludeFilters, new HashMap<>());
+	}
+
+	/**
+	 * @param acceptedTestPlans map to which the discovered test plans of all
+	 * accepted test classes are added, so that they can be executed without
+	 * discovering their tests again
+	 */
+	TestPlanScannerFilter(Launcher launcher, Filter<?>[] includeAndExcludeFilters,
+			Map<Class<?>, TestPlan> acceptedTestPlans) {
 		this.launcher = launcher;
 		this.includeAndExcludeFilters = includeAndExcludeFilters;
+		this.acceptedTestPlans = acceptedTestPlans;
 	}
 
 	@Override
@@ -50,7 +64,11 @@ final class TestPlanScannerFilter implements ScannerFilter {
 		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).filters(
 			includeAndExcludeFilters).build();
 		TestPlan testPlan = launcher.discover(discoveryRequest);
-		return testPlan.countTestIdentifiers(hasTests) > 0;
+		if (testPlan.countTestIdentifiers(hasTests) > 0) {
+			acceptedTestPlans.put(testClass, testPlan);
+			return true;
+		}
+		return false;
 	}
 
 }
@@ -22,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,6 +31,7 @@ import static org.mockito.Mockito.when;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -41,11 +44,13 @@ import org.apache.maven.surefire.report.RunListener;
 import org.apache.maven.surefire.testset.TestSetFailedException;
 import org.apache.maven.surefire.util.RunOrderCalculator;
 import org.apache.maven.surefire.util.ScanResult;
+import org.apache.maven.surefire.util.ScannerFilter;
 import org.apache.maven.surefire.util.TestsToRun;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherFactory;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
@@ -91,6 +96,35 @@ class JUnitPlatformProviderTests {
 		TestClass2.verifyExecutionSummary(executionListener.summaries.get(1));
 	}
 
+	@Test
+	void allGivenTestsToRunAreInvokedInSingleLauncherRunInBatchMode() throws Exception {
+		Launcher launcher = LauncherFactory.create();
+		ProviderParameters providerParameters = providerParametersMock();
+		when(providerParameters.getProviderProperties()).thenReturn(
+			Collections.singletonMap(JUnitPlatformProvider.BATCH_EXECUTION, "true"));
+		JUnitPlatformProvider provider = new JUnitPlatformProvider(providerParameters, launcher);
+
+		TestPlanSummaryListener executionListener = new TestPlanSummaryListener();
+		launcher.registerTestExecutionListeners(executionListener);
+
+		provider.invoke(newTestsToRun(TestClass1.class, TestClass2.class));
+
+		assertThat(executionListener.summaries).hasSize(1);
+		TestExecutionSummary summary = executionListener.summaries.get(0);
+		assertEquals(7, summary.getTestsFoundCount());
+		assertEquals(2, summary.getTestsFailedCount());
+
+		RunListener reporter = providerParameters.getReporterFactory().createReporter();
+		ArgumentCaptor<ReportEntry> startedCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		ArgumentCaptor<ReportEntry> completedCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(reporter, times(2)).testSetStarting(startedCaptor.capture());
+		verify(reporter, times(2)).testSetCompleted(completedCaptor.capture());
+		assertThat(startedCaptor.getAllValues()).extracting(ReportEntry::getName).containsExactly(
+			TestClass1.class.getName(), TestClass2.class.getName());
+		assertThat(completedCaptor.getAllValues()).extracting(ReportEntry::getName).containsExactly(
+			TestClass1.class.getName(), TestClass2.class.getName());
+	}
+
 	@Test
 	void singleTestClassIsInvoked() throws Exception {
 		Launcher launcher = LauncherFactory.create();
@@ -121,6 +155,29 @@ class JUnitPlatformProviderTests {
 		TestClass2.verifyExecutionSummary(executionListener.summaries.get(1));
 	}
 
+	@Test
+	void scannedTestClassesAreNotDiscoveredAgainForNullArgument() throws Exception {
+		ProviderParameters providerParameters = providerParametersMock(TestClass1.class, TestClass2.class);
+		TestsToRun testsToRun = providerParameters.getScanResult().applyFilter(null, null);
+		when(providerParameters.getScanResult().applyFilter(any(), any())).thenAnswer(invocation -> {
+			ScannerFilter scannerFilter = invocation.getArgument(0);
+			testsToRun.forEach(scannerFilter::accept);
+			return testsToRun;
+		});
+		Launcher launcher = spy(LauncherFactory.create());
+		JUnitPlatformProvider provider = new JUnitPlatformProvider(providerParameters, launcher);
+
+		TestPlanSummaryListener executionListener = new TestPlanSummaryListener();
+		launcher.registerTestExecutionListeners(executionListener);
+
+		provider.invoke(null);
+
+		verify(launcher, times(2)).discover(any(LauncherDiscoveryRequest.class));
+		verify(launcher, times(2)).execute(any(TestPlan.class));
+		verify(launcher, never()).execute(any(LauncherDiscoveryRequest.class));
+		assertThat(executionListener.summaries).hasSize(2);
+	}
+
 	@Test
 	void bothGroupsAndIncludeTagsThrowsException() {
 		Map<String, String> properties = new HashMap<>();
@@ -177,6 +234,34 @@ class JUnitPlatformProviderTests {
 		assertEquals(2, provider.includeAndExcludeFilters.length);
 	}
 
+	@Test
+	void shardFilterIsCreatedForShardIndexAndShardCount() throws Exception {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(JUnitPlatformProvider.SHARD_INDEX, "1");
+		properties.put(JUnitPlatformProvider.SHARD_COUNT, "4");
+
+		ProviderParameters providerParameters = providerParametersMock(TestClass1.class);
+		when(providerParameters.getProviderProperties()).thenReturn(properties);
+
+		JUnitPlatformProvider provider = new JUnitPlatformProvider(providerParameters);
+
+		assertEquals(1, provider.includeAndExcludeFilters.length);
+	}
+
+	@Test
+	void shardIndexWithoutShardCountThrowsException() {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(JUnitPlatformProvider.SHARD_INDEX, "1");
+
+		ProviderParameters providerParameters = providerParametersMock(TestClass1.class);
+		when(providerParameters.getProviderProperties()).thenReturn(properties);
+
+		Throwable throwable = assertThrows(PreconditionViolationException.class,
+			() -> new JUnitPlatformProvider(providerParameters));
+
+		assertEquals("The shardIndex and shardCount parameters must be supplied together.", throwable.getMessage());
+	}
+
 	@Test
 	void noFiltersAreCreatedIfNoPropertiesAreDeclared() throws Exception {
 		ProviderParameters providerParameters = providerParametersMock(TestClass1.class);
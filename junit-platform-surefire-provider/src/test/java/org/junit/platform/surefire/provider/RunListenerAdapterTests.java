@@ -83,6 +83,7 @@ class RunListenerAdapterTests {
 	void notNotifiedWhenClassExecutionStarted() throws Exception {
 		adapter.executionStarted(newClassIdentifier());
 		verify(listener, never()).testStarting(any());
+		verify(listener, never()).testSetStarting(any());
 	}
 
 	@Test
@@ -199,6 +200,42 @@ class RunListenerAdapterTests {
 		assertEquals("myNamedTestMethod()", value.getName());
 	}
 
+	@Test
+	void notifiedOfTestSetsForTopLevelClassesWhenReportingTestSetsPerClass() throws Exception {
+		RunListenerAdapter batchAdapter = new RunListenerAdapter(listener, true);
+		TestPlan testPlan = TestPlan.from(Collections.singletonList(new EngineDescriptor(newId(), "Luke's Plan")));
+		batchAdapter.testPlanExecutionStarted(testPlan);
+		TestDescriptor classDescriptor = newClassDescriptor();
+		TestIdentifier classIdentifier = identifiersAsParentOnTestPlan(testPlan, newEngineDescriptor(),
+			classDescriptor);
+		TestIdentifier nestedClassIdentifier = identifiersAsParentOnTestPlan(testPlan, classDescriptor,
+			new ClassTestDescriptor(UniqueId.forEngine("nested"), MyTestClass.class));
+
+		batchAdapter.executionStarted(classIdentifier);
+		batchAdapter.executionStarted(nestedClassIdentifier);
+		batchAdapter.executionFinished(nestedClassIdentifier, TestExecutionResult.successful());
+		batchAdapter.executionFinished(classIdentifier, TestExecutionResult.successful());
+
+		ArgumentCaptor<ReportEntry> startedCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		ArgumentCaptor<ReportEntry> completedCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(listener).testSetStarting(startedCaptor.capture());
+		verify(listener).testSetCompleted(completedCaptor.capture());
+		assertEquals(MyTestClass.class.getName(), startedCaptor.getValue().getName());
+		assertEquals(JUnitPlatformProvider.class.getName(), startedCaptor.getValue().getSourceName());
+		assertEquals(MyTestClass.class.getName(), completedCaptor.getValue().getName());
+	}
+
+	@Test
+	void skippedTopLevelClassIsReportedAsTestSetWhenReportingTestSetsPerClass() throws Exception {
+		RunListenerAdapter batchAdapter = new RunListenerAdapter(listener, true);
+
+		batchAdapter.executionSkipped(newClassIdentifier(), "disabled");
+
+		verify(listener).testSetStarting(any());
+		verify(listener).testSkipped(any());
+		verify(listener).testSetCompleted(any());
+	}
+
 	private static TestIdentifier newMethodIdentifier() throws Exception {
 		return TestIdentifier.from(newMethodDescriptor());
 	}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.vintage.engine;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * Collection of constants related to the {@link VintageTestEngine}.
+ *
+ * @since 4.12
+ */
+@API(Experimental)
+public final class Constants {
+
+	/**
+	 * Property name used to set the number of worker threads used to execute
+	 * the runners of different test classes concurrently: {@value}
+	 *
+	 * <p>If the value is greater than {@code 1}, each runner is executed on
+	 * one of the worker threads with its own listener, and all events are
+	 * reported to the platform one at a time. By default, runners are
+	 * executed sequentially.
+	 *
+	 * @see #SEQUENTIAL_EXECUTION_PATTERN_PROPERTY_NAME
+	 * @see #SEQUENTIAL_EXECUTION_ANNOTATION_NAME
+	 */
+	public static final String PARALLELISM_PROPERTY_NAME = "junit.vintage.execution.parallelism";
+
+	/**
+	 * Property name used to provide a comma-separated list of patterns for
+	 * test classes whose runners must not be executed concurrently: {@value}
+	 *
+	 * <p>Any dot ({@code .}) in a pattern will match against a dot ({@code .})
+	 * or a dollar sign ({@code $}) in the fully qualified class name. Any
+	 * asterisk ({@code *}) will match against one or more characters. All
+	 * other characters will be matched one-to-one. The runners of matching
+	 * classes are executed sequentially after all other runners have finished.
+	 *
+	 * @see #PARALLELISM_PROPERTY_NAME
+	 */
+	public static final String SEQUENTIAL_EXECUTION_PATTERN_PROPERTY_NAME = "junit.vintage.execution.sequential";
+
+	/**
+	 * Simple name of annotations that mark test classes whose runners must not
+	 * be executed concurrently, for example, {@code @net.jcip.annotations.NotThreadSafe}:
+	 * {@value}
+	 *
+	 * <p>Any annotation type with this simple name is honored, so that test
+	 * classes do not need to depend on the JUnit Vintage engine.
+	 *
+	 * @see #PARALLELISM_PROPERTY_NAME
+	 */
+	public static final String SEQUENTIAL_EXECUTION_ANNOTATION_NAME = "NotThreadSafe";
+
+	/**
+	 * Property name used to set the number of worker threads used to create
+	 * the runners of different test classes concurrently during discovery:
+	 * {@value}
+	 *
+	 * <p>Regardless of this setting, runner descriptors are always added to
+	 * the engine descriptor in the order in which their test classes were
+	 * discovered. By default, runners are created sequentially.
+	 */
+	public static final String DISCOVERY_PARALLELISM_PROPERTY_NAME = "junit.vintage.discovery.parallelism";
+
+	/**
+	 * Property name used to enable caching of the {@link org.junit.runner.Description
+	 * Description} trees of test classes across discoveries within the same
+	 * JVM: {@value}
+	 *
+	 * <p>If set to {@code true}, the structure of test classes run with the
+	 * default JUnit 4 runner is cached once it has been discovered without
+	 * filters. Subsequent discoveries of such classes, for example, in an IDE
+	 * or a long-running launcher, reuse the cached structure and only create
+	 * the runner when it is executed. Classes loaded by a different class
+	 * loader are treated as different classes. Defaults to {@code false}.
+	 */
+	public static final String DISCOVERY_CACHE_PROPERTY_NAME = "junit.vintage.discovery.cache.enabled";
+
+	private Constants() {
+		/* no-op */
+	}
+
+}
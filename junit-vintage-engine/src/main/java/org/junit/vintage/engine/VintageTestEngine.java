@@ -10,14 +10,26 @@
 
 package org.junit.vintage.engine;
 
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.vintage.engine.Constants.PARALLELISM_PROPERTY_NAME;
+import static org.junit.vintage.engine.Constants.SEQUENTIAL_EXECUTION_PATTERN_PROPERTY_NAME;
 import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.ENGINE_ID;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
@@ -27,6 +39,7 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 import org.junit.vintage.engine.discovery.JUnit4DiscoveryRequestResolver;
+import org.junit.vintage.engine.execution.ConcurrentRunnerExecutor;
 import org.junit.vintage.engine.execution.RunnerExecutor;
 
 /**
@@ -70,11 +83,74 @@ public class VintageTestEngine implements TestEngine {
 		EngineExecutionListener engineExecutionListener = request.getEngineExecutionListener();
 		TestDescriptor engineTestDescriptor = request.getRootTestDescriptor();
 		engineExecutionListener.executionStarted(engineTestDescriptor);
-		RunnerExecutor runnerExecutor = new RunnerExecutor(engineExecutionListener, LOG);
-		executeAllChildren(runnerExecutor, engineTestDescriptor);
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+		int parallelism = getParallelism(configurationParameters);
+		if (parallelism > 1) {
+			// @formatter:off
+			List<RunnerTestDescriptor> runnerTestDescriptors = engineTestDescriptor.getChildren()
+				.stream()
+				.map(RunnerTestDescriptor.class::cast)
+				.collect(toList());
+			// @formatter:on
+			new ConcurrentRunnerExecutor(engineExecutionListener, LOG, parallelism,
+				getSequentialClasses(configurationParameters)).execute(runnerTestDescriptors);
+		}
+		else {
+			RunnerExecutor runnerExecutor = new RunnerExecutor(engineExecutionListener, LOG);
+			executeAllChildren(runnerExecutor, engineTestDescriptor);
+		}
 		engineExecutionListener.executionFinished(engineTestDescriptor, successful());
 	}
 
+	/**
+	 * Returns the value of the {@value Constants#PARALLELISM_PROPERTY_NAME}
+	 * configuration parameter, or {@code 1} if it is absent or invalid.
+	 */
+	private static int getParallelism(ConfigurationParameters configurationParameters) {
+		// @formatter:off
+		return configurationParameters.get(PARALLELISM_PROPERTY_NAME)
+				.filter(StringUtils::isNotBlank)
+				.map(String::trim)
+				.map(VintageTestEngine::parseParallelism)
+				.orElse(1);
+		// @formatter:on
+	}
+
+	private static int parseParallelism(String value) {
+		try {
+			return Math.max(1, Integer.parseInt(value));
+		}
+		catch (NumberFormatException ex) {
+			LOG.warning(() -> format("Ignoring invalid value [%s] for configuration parameter [%s]", value,
+				PARALLELISM_PROPERTY_NAME));
+			return 1;
+		}
+	}
+
+	/**
+	 * See {@link Constants#SEQUENTIAL_EXECUTION_PATTERN_PROPERTY_NAME} for
+	 * details on the pattern matching syntax.
+	 */
+	private static Predicate<Class<?>> getSequentialClasses(ConfigurationParameters configurationParameters) {
+		// @formatter:off
+		List<Pattern> patterns = configurationParameters.get(SEQUENTIAL_EXECUTION_PATTERN_PROPERTY_NAME)
+				.map(value -> Arrays.stream(value.split(",")))
+				.orElseGet(Stream::empty)
+				.map(String::trim)
+				.filter(StringUtils::isNotBlank)
+				.map(pattern -> Pattern.compile(convertToRegEx(pattern)))
+				.collect(toList());
+		// @formatter:on
+		return testClass -> patterns.stream().anyMatch(pattern -> pattern.matcher(testClass.getName()).matches());
+	}
+
+	private static String convertToRegEx(String pattern) {
+		pattern = Matcher.quoteReplacement(pattern);
+		pattern = pattern.replace(".", "[.$]");
+		pattern = pattern.replace("*", ".+");
+		return pattern;
+	}
+
 	private void executeAllChildren(RunnerExecutor runnerExecutor, TestDescriptor engineTestDescriptor) {
 		// @formatter:off
 		engineTestDescriptor.getChildren()
@@ -13,10 +13,12 @@ package org.junit.vintage.engine.descriptor;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.runner.Description;
 import org.junit.runner.Request;
 import org.junit.runner.Runner;
 
@@ -26,17 +28,31 @@ import org.junit.runner.Runner;
 @API(Internal)
 public class RunnerTestDescriptor extends VintageTestDescriptor {
 
-	private final Runner runner;
 	private final Class<?> testClass;
+	private final Supplier<Runner> runnerFactory;
+	private Runner runner;
 
 	public RunnerTestDescriptor(TestDescriptor parent, Class<?> testClass, Runner runner) {
-		super(parent, SEGMENT_TYPE_RUNNER, testClass.getName(), runner.getDescription(), testClass.getName(),
+		this(parent, testClass, runner.getDescription(), () -> runner);
+	}
+
+	/**
+	 * Create a {@code RunnerTestDescriptor} for a previously discovered
+	 * {@link Description} whose {@link Runner} is only created when it is
+	 * first requested.
+	 */
+	public RunnerTestDescriptor(TestDescriptor parent, Class<?> testClass, Description description,
+			Supplier<Runner> runnerFactory) {
+		super(parent, SEGMENT_TYPE_RUNNER, testClass.getName(), description, testClass.getName(),
 			Optional.of(new ClassSource(testClass)));
 		this.testClass = testClass;
-		this.runner = runner;
+		this.runnerFactory = runnerFactory;
 	}
 
-	public Runner getRunner() {
+	public synchronized Runner getRunner() {
+		if (this.runner == null) {
+			this.runner = this.runnerFactory.get();
+		}
 		return this.runner;
 	}
 
@@ -45,7 +61,7 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 	}
 
 	public Request toRequest() {
-		return new RunnerRequest(this.runner);
+		return new RunnerRequest(getRunner());
 	}
 
 }
@@ -10,11 +10,14 @@
 
 package org.junit.vintage.engine.discovery;
 
+import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 import static org.junit.platform.engine.Filter.adaptFilter;
 import static org.junit.platform.engine.Filter.composeFilters;
 import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.buildClassNamePredicate;
+import static org.junit.vintage.engine.Constants.DISCOVERY_CACHE_PROPERTY_NAME;
+import static org.junit.vintage.engine.Constants.DISCOVERY_PARALLELISM_PROPERTY_NAME;
 
 import java.util.List;
 import java.util.Set;
@@ -22,12 +25,15 @@ import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.engine.support.filter.ExclusionReasonConsumingFilter;
+import org.junit.vintage.engine.Constants;
 
 /**
  * @since 4.12
@@ -46,7 +52,7 @@ public class JUnit4DiscoveryRequestResolver {
 	public void resolve(EngineDiscoveryRequest discoveryRequest) {
 		TestClassCollector collector = collectTestClasses(discoveryRequest);
 		Set<TestClassRequest> requests = filterAndConvertToTestClassRequests(discoveryRequest, collector);
-		populateEngineDescriptor(requests);
+		populateEngineDescriptor(requests, discoveryRequest.getConfigurationParameters());
 	}
 
 	private TestClassCollector collectTestClasses(EngineDiscoveryRequest discoveryRequest) {
@@ -84,7 +90,37 @@ public class JUnit4DiscoveryRequestResolver {
 		return collector.toRequests(classFilter.toPredicate());
 	}
 
-	private void populateEngineDescriptor(Set<TestClassRequest> requests) {
-		new TestClassRequestResolver(engineDescriptor, logger).populateEngineDescriptorFrom(requests);
+	private void populateEngineDescriptor(Set<TestClassRequest> requests,
+			ConfigurationParameters configurationParameters) {
+		int parallelism = getParallelism(configurationParameters);
+		boolean cacheDescriptions = configurationParameters.get(DISCOVERY_CACHE_PROPERTY_NAME).map(
+			value -> Boolean.parseBoolean(value.trim())).orElse(false);
+		new TestClassRequestResolver(engineDescriptor, logger, parallelism,
+			cacheDescriptions).populateEngineDescriptorFrom(requests);
+	}
+
+	/**
+	 * Returns the value of the {@value Constants#DISCOVERY_PARALLELISM_PROPERTY_NAME}
+	 * configuration parameter, or {@code 1} if it is absent or invalid.
+	 */
+	private int getParallelism(ConfigurationParameters configurationParameters) {
+		// @formatter:off
+		return configurationParameters.get(DISCOVERY_PARALLELISM_PROPERTY_NAME)
+				.filter(StringUtils::isNotBlank)
+				.map(String::trim)
+				.map(this::parseParallelism)
+				.orElse(1);
+		// @formatter:on
+	}
+
+	private int parseParallelism(String value) {
+		try {
+			return Math.max(1, Integer.parseInt(value));
+		}
+		catch (NumberFormatException ex) {
+			logger.warning(() -> format("Ignoring invalid value [%s] for configuration parameter [%s]", value,
+				DISCOVERY_PARALLELISM_PROPERTY_NAME));
+			return 1;
+		}
 	}
 }
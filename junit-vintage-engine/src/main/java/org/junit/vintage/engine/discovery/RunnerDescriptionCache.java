@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.vintage.engine.discovery;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.JUnit4;
+
+/**
+ * JVM-wide cache of the {@link Description} trees of test classes whose
+ * structure is stable.
+ *
+ * <p>Only runners of the default JUnit 4 runner types are cached since their
+ * {@code Description} trees solely depend on the test class itself. Trees
+ * that contain equal {@code Description Descriptions} are not cached either
+ * since events for them can only be matched by identity, which would not
+ * hold for a runner that is created lazily at execution time.
+ *
+ * <p>Entries are stored in a {@link ClassValue} so that they do not prevent
+ * test classes and their class loaders from being garbage collected.
+ *
+ * @since 4.12
+ * @see org.junit.vintage.engine.Constants#DISCOVERY_CACHE_PROPERTY_NAME
+ */
+class RunnerDescriptionCache {
+
+	private static final ClassValue<AtomicReference<Description>> descriptions = new CachedDescriptions();
+
+	private RunnerDescriptionCache() {
+		/* no-op */
+	}
+
+	static Optional<Description> get(Class<?> testClass) {
+		return Optional.ofNullable(descriptions.get(testClass).get());
+	}
+
+	static void putIfStable(Class<?> testClass, Runner runner, Description description) {
+		if (isStable(runner, description)) {
+			descriptions.get(testClass).compareAndSet(null, description);
+		}
+	}
+
+	private static boolean isStable(Runner runner, Description description) {
+		Class<?> runnerClass = runner.getClass();
+		if (runnerClass != BlockJUnit4ClassRunner.class && runnerClass != JUnit4.class) {
+			return false;
+		}
+		Set<Description> seen = new HashSet<>();
+		Deque<Description> stack = new ArrayDeque<>();
+		stack.push(description);
+		while (!stack.isEmpty()) {
+			Description current = stack.pop();
+			if (!seen.add(current)) {
+				return false;
+			}
+			current.getChildren().forEach(stack::push);
+		}
+		return true;
+	}
+
+	private static class CachedDescriptions extends ClassValue<AtomicReference<Description>> {
+
+		@Override
+		protected AtomicReference<Description> computeValue(Class<?> testClass) {
+			return new AtomicReference<>();
+		}
+
+	}
+
+}
@@ -12,13 +12,16 @@ package org.junit.vintage.engine.discovery;
 
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.IntFunction;
 import java.util.logging.Logger;
 
@@ -30,6 +33,7 @@ import org.junit.runner.manipulation.Filterable;
 import org.junit.runners.model.RunnerBuilder;
 import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 import org.junit.vintage.engine.descriptor.VintageTestDescriptor;
+import org.junit.vintage.engine.support.WorkerPool;
 
 /**
  * @since 4.12
@@ -38,31 +42,75 @@ class TestClassRequestResolver {
 
 	private final TestDescriptor engineDescriptor;
 	private final Logger logger;
+	private final int parallelism;
+	private final boolean cacheDescriptions;
 
 	private final UniqueIdReader uniqueIdReader;
 	private final UniqueIdStringifier uniqueIdStringifier = new UniqueIdStringifier();
 
 	TestClassRequestResolver(TestDescriptor engineDescriptor, Logger logger) {
+		this(engineDescriptor, logger, 1, false);
+	}
+
+	TestClassRequestResolver(TestDescriptor engineDescriptor, Logger logger, int parallelism,
+			boolean cacheDescriptions) {
 		this.engineDescriptor = engineDescriptor;
 		this.logger = logger;
+		this.parallelism = parallelism;
+		this.cacheDescriptions = cacheDescriptions;
 		this.uniqueIdReader = new UniqueIdReader(logger);
 	}
 
 	void populateEngineDescriptorFrom(Set<TestClassRequest> requests) {
-		RunnerBuilder runnerBuilder = new DefensiveAllDefaultPossibilitiesBuilder();
+		List<Optional<RunnerTestDescriptor>> runnerTestDescriptors;
+		if (parallelism > 1 && requests.size() > 1) {
+			runnerTestDescriptors = resolveConcurrently(requests);
+		}
+		else {
+			RunnerBuilder runnerBuilder = new DefensiveAllDefaultPossibilitiesBuilder();
+			runnerTestDescriptors = requests.stream().map(request -> resolve(request, runnerBuilder)).collect(toList());
+		}
+		// Children are always added on this thread and in the order of the requests.
+		for (Optional<RunnerTestDescriptor> runnerTestDescriptor : runnerTestDescriptors) {
+			runnerTestDescriptor.ifPresent(engineDescriptor::addChild);
+		}
+	}
+
+	private List<Optional<RunnerTestDescriptor>> resolveConcurrently(Set<TestClassRequest> requests) {
+		List<Callable<Optional<RunnerTestDescriptor>>> tasks = new ArrayList<>(requests.size());
 		for (TestClassRequest request : requests) {
-			Class<?> testClass = request.getTestClass();
-			Runner runner = runnerBuilder.safeRunnerForClass(testClass);
-			if (runner != null) {
-				addRunnerTestDescriptor(request, testClass, runner);
+			// JUnit 4 runner builders keep track of the classes they are building runners for.
+			tasks.add(() -> resolve(request, new DefensiveAllDefaultPossibilitiesBuilder()));
+		}
+		return WorkerPool.invokeAll("discovery", parallelism, tasks);
+	}
+
+	private Optional<RunnerTestDescriptor> resolve(TestClassRequest request, RunnerBuilder runnerBuilder) {
+		Class<?> testClass = request.getTestClass();
+		List<RunnerTestDescriptorAwareFilter> filters = request.getFilters();
+		boolean cacheable = cacheDescriptions && filters.isEmpty();
+		if (cacheable) {
+			Optional<Description> cachedDescription = RunnerDescriptionCache.get(testClass);
+			if (cachedDescription.isPresent()) {
+				return Optional.of(createCachedRunnerTestDescriptor(testClass, cachedDescription.get()));
 			}
 		}
+		Runner runner = runnerBuilder.safeRunnerForClass(testClass);
+		if (runner == null) {
+			return Optional.empty();
+		}
+		RunnerTestDescriptor runnerTestDescriptor = determineRunnerTestDescriptor(testClass, runner, filters);
+		if (cacheable) {
+			RunnerDescriptionCache.putIfStable(testClass, runner, runnerTestDescriptor.getDescription());
+		}
+		return Optional.of(runnerTestDescriptor);
 	}
 
-	private void addRunnerTestDescriptor(TestClassRequest request, Class<?> testClass, Runner runner) {
-		RunnerTestDescriptor runnerTestDescriptor = determineRunnerTestDescriptor(testClass, runner,
-			request.getFilters());
-		engineDescriptor.addChild(runnerTestDescriptor);
+	private RunnerTestDescriptor createCachedRunnerTestDescriptor(Class<?> testClass, Description description) {
+		RunnerTestDescriptor runnerTestDescriptor = new RunnerTestDescriptor(engineDescriptor, testClass,
+			description, () -> new DefensiveAllDefaultPossibilitiesBuilder().safeRunnerForClass(testClass));
+		addChildrenRecursively(runnerTestDescriptor);
+		return runnerTestDescriptor;
 	}
 
 	private RunnerTestDescriptor determineRunnerTestDescriptor(Class<?> testClass, Runner runner,
@@ -122,4 +170,5 @@ class TestClassRequestResolver {
 		}
 		return index -> uniqueId + "[" + index + "]";
 	}
+
 }
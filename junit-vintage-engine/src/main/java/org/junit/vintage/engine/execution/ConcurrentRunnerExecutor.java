@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.vintage.engine.execution;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+import static org.junit.vintage.engine.Constants.SEQUENTIAL_EXECUTION_ANNOTATION_NAME;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.support.hierarchical.SynchronizedEngineExecutionListener;
+import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
+import org.junit.vintage.engine.support.WorkerPool;
+
+/**
+ * Executes the runners of different test classes concurrently on a bounded
+ * pool of worker threads.
+ *
+ * <p>Each runner is executed with its own {@link TestRun} and
+ * {@link RunListenerAdapter}, and all events are reported to the
+ * {@link EngineExecutionListener} one at a time. Runners of test classes
+ * that must not be executed concurrently are executed sequentially after
+ * all other runners have finished.
+ *
+ * @since 4.12
+ * @see org.junit.vintage.engine.Constants#PARALLELISM_PROPERTY_NAME
+ */
+@API(Internal)
+public class ConcurrentRunnerExecutor {
+
+	private final RunnerExecutor concurrentExecutor;
+	private final RunnerExecutor sequentialExecutor;
+	private final int parallelism;
+	private final Predicate<Class<?>> sequentialClasses;
+
+	/**
+	 * @param sequentialClasses predicate for test classes whose runners must
+	 * not be executed concurrently in addition to classes annotated with an
+	 * annotation named {@value org.junit.vintage.engine.Constants#SEQUENTIAL_EXECUTION_ANNOTATION_NAME}
+	 */
+	public ConcurrentRunnerExecutor(EngineExecutionListener engineExecutionListener, Logger logger, int parallelism,
+			Predicate<Class<?>> sequentialClasses) {
+		this.concurrentExecutor = new RunnerExecutor(new SynchronizedEngineExecutionListener(engineExecutionListener),
+			logger);
+		this.sequentialExecutor = new RunnerExecutor(engineExecutionListener, logger);
+		this.parallelism = parallelism;
+		this.sequentialClasses = sequentialClasses;
+	}
+
+	public void execute(Collection<RunnerTestDescriptor> runnerTestDescriptors) {
+		List<RunnerTestDescriptor> sequentialRunners = new ArrayList<>();
+		List<Callable<Void>> tasks = new ArrayList<>(runnerTestDescriptors.size());
+		for (RunnerTestDescriptor runnerTestDescriptor : runnerTestDescriptors) {
+			if (isSequential(runnerTestDescriptor.getTestClass())) {
+				sequentialRunners.add(runnerTestDescriptor);
+			}
+			else {
+				tasks.add(() -> {
+					this.concurrentExecutor.execute(runnerTestDescriptor);
+					return null;
+				});
+			}
+		}
+		if (!tasks.isEmpty()) {
+			WorkerPool.invokeAll("execution", this.parallelism, tasks);
+		}
+		sequentialRunners.forEach(this.sequentialExecutor::execute);
+	}
+
+	private boolean isSequential(Class<?> testClass) {
+		for (Annotation annotation : testClass.getAnnotations()) {
+			if (SEQUENTIAL_EXECUTION_ANNOTATION_NAME.equals(annotation.annotationType().getSimpleName())) {
+				return true;
+			}
+		}
+		return this.sequentialClasses.test(testClass);
+	}
+
+}
@@ -11,22 +11,21 @@
 package org.junit.vintage.engine.execution;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
-import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
@@ -36,28 +35,62 @@ import org.junit.vintage.engine.descriptor.VintageTestDescriptor;
 import org.opentest4j.MultipleFailuresError;
 
 /**
+ * Bookkeeping for the execution of a single {@link RunnerTestDescriptor}.
+ *
+ * <p>Every descriptor of the runner's subtree is assigned an index in
+ * pre-order with the runner itself at index {@code 0}. Skipped, started and
+ * finished states are tracked in {@link BitSet BitSets} and execution
+ * results in a single array, so that runners with tens of thousands of
+ * children (e.g. theories or parameterized tests) do not require a set or
+ * map entry per descriptor and state.
+ *
  * @since 4.12
  */
 class TestRun {
 
+	private static final int UNKNOWN = -1;
+
 	private final RunnerTestDescriptor runnerTestDescriptor;
 	private final Logger logger;
-	private final Set<? extends TestDescriptor> runnerDescendants;
-	private final Map<Description, List<VintageTestDescriptor>> descriptionToDescriptors;
-	private final Map<TestDescriptor, List<TestExecutionResult>> executionResults = new LinkedHashMap<>();
-	private final Set<TestDescriptor> skippedDescriptors = new LinkedHashSet<>();
-	private final Set<TestDescriptor> startedDescriptors = new LinkedHashSet<>();
-	private final Set<TestDescriptor> finishedDescriptors = new LinkedHashSet<>();
+	private final VintageTestDescriptor[] descriptors;
+	private final Map<TestDescriptor, Integer> descriptorIndexes;
+	private final Map<Description, Integer> descriptionIndexes;
+	private final BitSet skipped;
+	private final BitSet started;
+	private final BitSet finished;
+	private final TestExecutionResult[] results;
+	private Map<Description, Integer> equalDescriptionIndexes;
+	private Map<Integer, List<TestExecutionResult>> additionalResults;
 
 	TestRun(RunnerTestDescriptor runnerTestDescriptor, Logger logger) {
 		this.runnerTestDescriptor = runnerTestDescriptor;
 		this.logger = logger;
-		runnerDescendants = runnerTestDescriptor.getDescendants();
-		// @formatter:off
-		descriptionToDescriptors = concat(Stream.of(runnerTestDescriptor), runnerDescendants.stream())
-			.map(VintageTestDescriptor.class::cast)
-			.collect(groupingBy(VintageTestDescriptor::getDescription));
-		// @formatter:on
+		this.descriptors = collectDescriptorsInPreOrder(runnerTestDescriptor);
+		this.descriptorIndexes = new IdentityHashMap<>(descriptors.length);
+		this.descriptionIndexes = new IdentityHashMap<>(descriptors.length);
+		for (int index = 0; index < descriptors.length; index++) {
+			descriptorIndexes.put(descriptors[index], index);
+			descriptionIndexes.putIfAbsent(descriptors[index].getDescription(), index);
+		}
+		this.skipped = new BitSet(descriptors.length);
+		this.started = new BitSet(descriptors.length);
+		this.finished = new BitSet(descriptors.length);
+		this.results = new TestExecutionResult[descriptors.length];
+	}
+
+	private static VintageTestDescriptor[] collectDescriptorsInPreOrder(RunnerTestDescriptor runnerTestDescriptor) {
+		List<VintageTestDescriptor> result = new ArrayList<>();
+		Deque<TestDescriptor> stack = new ArrayDeque<>();
+		stack.push(runnerTestDescriptor);
+		while (!stack.isEmpty()) {
+			TestDescriptor current = stack.pop();
+			result.add((VintageTestDescriptor) current);
+			List<TestDescriptor> children = new ArrayList<>(current.getChildren());
+			for (int i = children.size() - 1; i >= 0; i--) {
+				stack.push(children.get(i));
+			}
+		}
+		return result.toArray(new VintageTestDescriptor[result.size()]);
 	}
 
 	RunnerTestDescriptor getRunnerTestDescriptor() {
@@ -65,7 +98,7 @@ class TestRun {
 	}
 
 	boolean isDescendantOfRunnerTestDescriptor(TestDescriptor testDescriptor) {
-		return runnerDescendants.contains(testDescriptor);
+		return indexOf(testDescriptor) > 0;
 	}
 
 	/**
@@ -93,22 +126,42 @@ class TestRun {
 	}
 
 	private Optional<? extends TestDescriptor> lookupInternal(Description description) {
-		List<VintageTestDescriptor> descriptors = descriptionToDescriptors.get(description);
-		if (descriptors == null) {
+		Integer index = descriptionIndexes.get(description);
+		if (index == null) {
+			// Runners are free to report equal but not identical Descriptions.
+			index = getEqualDescriptionIndexes().get(description);
+		}
+		if (index == null || index == UNKNOWN) {
 			return Optional.empty();
 		}
-		if (descriptors.size() == 1) {
-			return Optional.of(getOnlyElement(descriptors));
+		return Optional.of(descriptors[index]);
+	}
+
+	/**
+	 * Lazily creates the equality-based index which is only needed for
+	 * runners that do not report the {@link Description Descriptions} they
+	 * were discovered with.
+	 *
+	 * <p>Descriptions that are equal to those of multiple descriptors are
+	 * mapped to {@link #UNKNOWN} since they can only be resolved by identity.
+	 */
+	private Map<Description, Integer> getEqualDescriptionIndexes() {
+		if (equalDescriptionIndexes == null) {
+			equalDescriptionIndexes = new HashMap<>();
+			for (int index = 0; index < descriptors.length; index++) {
+				equalDescriptionIndexes.merge(descriptors[index].getDescription(), index, (a, b) -> UNKNOWN);
+			}
 		}
-		// @formatter:off
-		return descriptors.stream()
-				.filter(testDescriptor -> description == testDescriptor.getDescription())
-				.findFirst();
-		// @formatter:on
+		return equalDescriptionIndexes;
+	}
+
+	private int indexOf(TestDescriptor testDescriptor) {
+		Integer index = descriptorIndexes.get(testDescriptor);
+		return index == null ? UNKNOWN : index;
 	}
 
 	void markSkipped(TestDescriptor testDescriptor) {
-		skippedDescriptors.add(testDescriptor);
+		set(skipped, testDescriptor);
 	}
 
 	boolean isNotSkipped(TestDescriptor testDescriptor) {
@@ -116,19 +169,19 @@ class TestRun {
 	}
 
 	boolean isSkipped(TestDescriptor testDescriptor) {
-		return skippedDescriptors.contains(testDescriptor);
+		return get(skipped, testDescriptor);
 	}
 
 	void markStarted(TestDescriptor testDescriptor) {
-		startedDescriptors.add(testDescriptor);
+		set(started, testDescriptor);
 	}
 
 	boolean isNotStarted(TestDescriptor testDescriptor) {
-		return !startedDescriptors.contains(testDescriptor);
+		return !get(started, testDescriptor);
 	}
 
 	void markFinished(TestDescriptor testDescriptor) {
-		finishedDescriptors.add(testDescriptor);
+		set(finished, testDescriptor);
 	}
 
 	boolean isNotFinished(TestDescriptor testDescriptor) {
@@ -136,7 +189,7 @@ class TestRun {
 	}
 
 	boolean isFinished(TestDescriptor testDescriptor) {
-		return finishedDescriptors.contains(testDescriptor);
+		return get(finished, testDescriptor);
 	}
 
 	boolean areAllFinishedOrSkipped(Set<? extends TestDescriptor> testDescriptors) {
@@ -144,24 +197,49 @@ class TestRun {
 	}
 
 	boolean isFinishedOrSkipped(TestDescriptor testDescriptor) {
-		return isFinished(testDescriptor) || isSkipped(testDescriptor);
+		int index = indexOf(testDescriptor);
+		return index != UNKNOWN && (finished.get(index) || skipped.get(index));
+	}
+
+	private void set(BitSet bitSet, TestDescriptor testDescriptor) {
+		int index = indexOf(testDescriptor);
+		if (index != UNKNOWN) {
+			bitSet.set(index);
+		}
+	}
+
+	private boolean get(BitSet bitSet, TestDescriptor testDescriptor) {
+		int index = indexOf(testDescriptor);
+		return index != UNKNOWN && bitSet.get(index);
 	}
 
 	void storeResult(TestDescriptor testDescriptor, TestExecutionResult result) {
-		List<TestExecutionResult> testExecutionResults = executionResults.computeIfAbsent(testDescriptor,
-			key -> new ArrayList<>());
-		testExecutionResults.add(result);
+		int index = indexOf(testDescriptor);
+		if (index == UNKNOWN) {
+			return;
+		}
+		if (results[index] == null) {
+			results[index] = result;
+			return;
+		}
+		if (additionalResults == null) {
+			additionalResults = new HashMap<>();
+		}
+		additionalResults.computeIfAbsent(index, key -> new ArrayList<>()).add(result);
 	}
 
 	TestExecutionResult getStoredResultOrSuccessful(TestDescriptor testDescriptor) {
-		List<TestExecutionResult> testExecutionResults = executionResults.get(testDescriptor);
-
-		if (testExecutionResults == null) {
+		int index = indexOf(testDescriptor);
+		if (index == UNKNOWN || results[index] == null) {
 			return successful();
 		}
-		if (testExecutionResults.size() == 1) {
-			return testExecutionResults.get(0);
+		List<TestExecutionResult> furtherResults = additionalResults == null ? null : additionalResults.get(index);
+		if (furtherResults == null) {
+			return results[index];
 		}
+		List<TestExecutionResult> testExecutionResults = new ArrayList<>();
+		testExecutionResults.add(results[index]);
+		testExecutionResults.addAll(furtherResults);
 		// @formatter:off
 		List<Throwable> failures = testExecutionResults
 				.stream()
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.vintage.engine.support;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * Bounded pool of daemon worker threads used to run tasks of the JUnit
+ * Vintage test engine concurrently.
+ *
+ * @since 4.12
+ */
+@API(Internal)
+public final class WorkerPool {
+
+	private static final AtomicInteger poolNumber = new AtomicInteger();
+
+	private WorkerPool() {
+		/* no-op */
+	}
+
+	/**
+	 * Run all supplied tasks on a new pool of at most {@code parallelism}
+	 * worker threads and wait for all of them to complete.
+	 *
+	 * <p>If any task fails, the failure of the first such task is rethrown
+	 * after all tasks have completed.
+	 *
+	 * @param name the name used for the worker threads, e.g. {@code discovery}
+	 * @param parallelism the maximum number of worker threads
+	 * @param tasks the tasks to run
+	 * @return the results of the tasks in the order of the supplied tasks
+	 */
+	public static <T> List<T> invokeAll(String name, int parallelism, List<? extends Callable<T>> tasks) {
+		ExecutorService workerPool = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, tasks.size())),
+			new WorkerThreadFactory(name));
+		try {
+			List<Future<T>> futures = new ArrayList<>(tasks.size());
+			for (Callable<T> task : tasks) {
+				futures.add(workerPool.submit(task));
+			}
+			return awaitAll(name, futures);
+		}
+		finally {
+			workerPool.shutdownNow();
+		}
+	}
+
+	private static <T> List<T> awaitAll(String name, List<Future<T>> futures) {
+		List<T> results = new ArrayList<>(futures.size());
+		Throwable throwable = null;
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			}
+			catch (ExecutionException e) {
+				results.add(null);
+				if (throwable == null) {
+					throwable = e.getCause();
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new JUnitException("Interrupted while waiting for JUnit 4 " + name + " tasks", e);
+			}
+		}
+		if (throwable != null) {
+			throw ExceptionUtils.throwAsUncheckedException(throwable);
+		}
+		return results;
+	}
+
+	private static class WorkerThreadFactory implements ThreadFactory {
+
+		private final String namePrefix;
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		WorkerThreadFactory(String name) {
+			this.namePrefix = "junit-vintage-" + name + "-" + poolNumber.incrementAndGet() + "-worker-";
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, this.namePrefix + this.threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
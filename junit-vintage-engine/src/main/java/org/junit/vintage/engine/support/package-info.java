@@ -0,0 +1,16 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+/**
+ * Internal support classes shared by test discovery and test execution
+ * within the JUnit Vintage test engine.
+ */
+
+package org.junit.vintage.engine.support;
@@ -17,6 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.commons.util.FunctionUtils.where;
@@ -27,6 +29,8 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMetho
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.vintage.engine.Constants.DISCOVERY_CACHE_PROPERTY_NAME;
+import static org.junit.vintage.engine.Constants.DISCOVERY_PARALLELISM_PROPERTY_NAME;
 
 import java.lang.reflect.Method;
 import java.net.URL;
@@ -48,7 +52,10 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.runner.Description;
 import org.junit.runner.manipulation.Filter;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 import org.junit.vintage.engine.samples.PlainOldJavaClassWithoutAnyTest;
 import org.junit.vintage.engine.samples.junit3.JUnit3SuiteWithSingleTestCaseWithSingleTestWhichFails;
 import org.junit.vintage.engine.samples.junit3.PlainJUnit3TestCaseWithSingleTestWhichFails;
@@ -619,6 +626,66 @@ class VintageTestEngineDiscoveryTests {
 		assertMethodSource(testClass.getMethod("test"), testMethodDescriptor);
 	}
 
+	@Test
+	void createsRunnersConcurrentlyInDeterministicOrder() throws Exception {
+		String packageName = PlainJUnit4TestCaseWithTwoTestMethods.class.getPackage().getName();
+		LauncherDiscoveryRequest sequentialRequest = request().selectors(selectPackage(packageName)).build();
+		LauncherDiscoveryRequest concurrentRequest = request().selectors(selectPackage(packageName)) //
+				.configurationParameter(DISCOVERY_PARALLELISM_PROPERTY_NAME, "4") //
+				.build();
+
+		List<UniqueId> sequentialUniqueIds = collectUniqueIds(discoverTests(sequentialRequest));
+		List<UniqueId> concurrentUniqueIds = collectUniqueIds(discoverTests(concurrentRequest));
+
+		assertThat(concurrentUniqueIds).hasSize(sequentialUniqueIds.size());
+		assertEquals(sequentialUniqueIds, concurrentUniqueIds);
+	}
+
+	@Test
+	void reusesCachedDescriptionsOfStableRunners() throws Exception {
+		Class<?> testClass = PlainJUnit4TestCaseWithTwoTestMethods.class;
+		LauncherDiscoveryRequest request = request().selectors(selectClass(testClass)) //
+				.configurationParameter(DISCOVERY_CACHE_PROPERTY_NAME, "true") //
+				.build();
+
+		RunnerTestDescriptor first = (RunnerTestDescriptor) getOnlyElement(discoverTests(request).getChildren());
+		RunnerTestDescriptor second = (RunnerTestDescriptor) getOnlyElement(discoverTests(request).getChildren());
+
+		assertSame(first.getDescription(), second.getDescription());
+		assertEquals(collectUniqueIds(first), collectUniqueIds(second));
+		assertThat(second.getRunner()).isInstanceOf(BlockJUnit4ClassRunner.class);
+		assertEquals(second.getDescription(), second.getRunner().getDescription());
+	}
+
+	@Test
+	void doesNotCacheDescriptionsOfFilteredOrUnstableRunners() throws Exception {
+		Class<?> overloadedTestClass = JUnit4TestCaseWithOverloadedMethod.class;
+		Class<?> filteredTestClass = PlainJUnit4TestCaseWithFiveTestMethods.class;
+		// @formatter:off
+		LauncherDiscoveryRequest request = request()
+				.selectors(selectClass(overloadedTestClass), selectMethod(filteredTestClass, "failingTest"))
+				.configurationParameter(DISCOVERY_CACHE_PROPERTY_NAME, "true")
+				.build();
+		// @formatter:on
+
+		List<TestDescriptor> first = new ArrayList<>(discoverTests(request).getChildren());
+		List<TestDescriptor> second = new ArrayList<>(discoverTests(request).getChildren());
+
+		assertThat(first).hasSize(2);
+		for (int i = 0; i < first.size(); i++) {
+			Description firstDescription = ((RunnerTestDescriptor) first.get(i)).getDescription();
+			Description secondDescription = ((RunnerTestDescriptor) second.get(i)).getDescription();
+			assertEquals(firstDescription, secondDescription);
+			assertNotSame(firstDescription, secondDescription);
+		}
+	}
+
+	private static List<UniqueId> collectUniqueIds(TestDescriptor testDescriptor) {
+		List<UniqueId> uniqueIds = new ArrayList<>();
+		testDescriptor.accept(descriptor -> uniqueIds.add(descriptor.getUniqueId()));
+		return uniqueIds;
+	}
+
 	private TestDescriptor findChildByDisplayName(TestDescriptor runnerDescriptor, String displayName) {
 		// @formatter:off
 		Set<? extends TestDescriptor> children = runnerDescriptor.getChildren();
@@ -11,6 +11,7 @@
 package org.junit.vintage.engine;
 
 import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.abortedWithReason;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.assertRecordedExecutionEventsContainsExactly;
@@ -28,8 +29,11 @@ import static org.junit.platform.engine.test.event.TestExecutionResultConditions
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.runner.Description.createSuiteDescription;
 import static org.junit.runner.Description.createTestDescription;
+import static org.junit.vintage.engine.Constants.PARALLELISM_PROPERTY_NAME;
+import static org.junit.vintage.engine.Constants.SEQUENTIAL_EXECUTION_PATTERN_PROPERTY_NAME;
 
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
 
 import org.assertj.core.api.Condition;
 import org.junit.AssumptionViolatedException;
@@ -42,6 +46,7 @@ import org.junit.runner.RunWith;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.vintage.engine.samples.junit3.PlainJUnit3TestCaseWithSingleTestWhichFails;
+import org.junit.vintage.engine.samples.junit4.ConcurrentJUnit4TestCases;
 import org.junit.vintage.engine.samples.junit4.EnclosedJUnit4TestCase;
 import org.junit.vintage.engine.samples.junit4.IgnoredJUnit4TestCase;
 import org.junit.vintage.engine.samples.junit4.JUnit4SuiteOfSuiteWithIgnoredJUnit4TestCase;
@@ -479,6 +484,46 @@ class VintageTestEngineExecutionTests {
 			event(engine(), finishedSuccessfully()));
 	}
 
+	@Test
+	void executesRunnersConcurrentlyWhenParallelismIsConfigured() {
+		ConcurrentJUnit4TestCases.reset(new CyclicBarrier(2));
+		LauncherDiscoveryRequest discoveryRequest = request() //
+				.selectors(selectClass(ConcurrentJUnit4TestCases.FirstTestCase.class),
+					selectClass(ConcurrentJUnit4TestCases.SecondTestCase.class),
+					selectClass(ConcurrentJUnit4TestCases.NotThreadSafeTestCase.class)) //
+				.configurationParameter(PARALLELISM_PROPERTY_NAME, "2") //
+				.build();
+
+		List<ExecutionEvent> executionEvents = ExecutionEventRecorder.execute(new VintageTestEngine(),
+			discoveryRequest);
+
+		assertThat(executionEvents).filteredOn(allOf(test(), finishedSuccessfully())).hasSize(3);
+		assertThat(ConcurrentJUnit4TestCases.threadNames.get("FirstTestCase")).startsWith("junit-vintage-");
+		assertThat(ConcurrentJUnit4TestCases.threadNames.get("SecondTestCase")).startsWith("junit-vintage-");
+		assertThat(ConcurrentJUnit4TestCases.threadNames.get("NotThreadSafeTestCase")).isEqualTo(
+			Thread.currentThread().getName());
+	}
+
+	@Test
+	void executesRunnersOfClassesMatchingSequentialPatternOnCallingThread() {
+		ConcurrentJUnit4TestCases.reset(null);
+		LauncherDiscoveryRequest discoveryRequest = request() //
+				.selectors(selectClass(ConcurrentJUnit4TestCases.FirstTestCase.class),
+					selectClass(ConcurrentJUnit4TestCases.SecondTestCase.class)) //
+				.configurationParameter(PARALLELISM_PROPERTY_NAME, "2") //
+				.configurationParameter(SEQUENTIAL_EXECUTION_PATTERN_PROPERTY_NAME,
+					"org.example.*, *.SecondTestCase") //
+				.build();
+
+		List<ExecutionEvent> executionEvents = ExecutionEventRecorder.execute(new VintageTestEngine(),
+			discoveryRequest);
+
+		assertThat(executionEvents).filteredOn(allOf(test(), finishedSuccessfully())).hasSize(2);
+		assertThat(ConcurrentJUnit4TestCases.threadNames.get("FirstTestCase")).startsWith("junit-vintage-");
+		assertThat(ConcurrentJUnit4TestCases.threadNames.get("SecondTestCase")).isEqualTo(
+			Thread.currentThread().getName());
+	}
+
 	private static List<ExecutionEvent> execute(Class<?> testClass) {
 		VintageTestEngine engine = new VintageTestEngine();
 		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).build();
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.vintage.engine.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.runner.Description.createTestDescription;
+import static org.junit.vintage.engine.VintageUniqueIdBuilder.engineId;
+
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.runner.Description;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.vintage.engine.RecordCollectingLogger;
+import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
+import org.junit.vintage.engine.descriptor.VintageTestDescriptor;
+import org.junit.vintage.engine.samples.junit4.PlainJUnit4TestCaseWithSingleTestWhichFails;
+import org.opentest4j.MultipleFailuresError;
+
+/**
+ * @since 5.0
+ */
+class TestRunTests {
+
+	private static final Class<?> testClass = PlainJUnit4TestCaseWithSingleTestWhichFails.class;
+
+	private final Logger logger = new RecordCollectingLogger();
+	private RunnerTestDescriptor runnerTestDescriptor;
+
+	@BeforeEach
+	void createRunnerTestDescriptor() throws Exception {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(engineId(), "JUnit 4");
+		runnerTestDescriptor = new RunnerTestDescriptor(engineDescriptor, testClass,
+			new BlockJUnit4ClassRunner(testClass));
+	}
+
+	@Test
+	void looksUpDescriptorsByIdentityAndFallsBackToEquality() {
+		Description unique = createTestDescription(testClass, "unique");
+		Description overloaded1 = createTestDescription(testClass, "overloaded");
+		Description overloaded2 = createTestDescription(testClass, "overloaded");
+		VintageTestDescriptor uniqueDescriptor = addChild("unique", unique);
+		VintageTestDescriptor overloadedDescriptor1 = addChild("overloaded", overloaded1);
+		VintageTestDescriptor overloadedDescriptor2 = addChild("overloaded-2", overloaded2);
+
+		TestRun testRun = new TestRun(runnerTestDescriptor, logger);
+
+		assertSame(runnerTestDescriptor, testRun.lookupTestDescriptor(runnerTestDescriptor.getDescription()).get());
+		assertSame(uniqueDescriptor, testRun.lookupTestDescriptor(unique).get());
+		assertSame(uniqueDescriptor, testRun.lookupTestDescriptor(createTestDescription(testClass, "unique")).get());
+		assertSame(overloadedDescriptor1, testRun.lookupTestDescriptor(overloaded1).get());
+		assertSame(overloadedDescriptor2, testRun.lookupTestDescriptor(overloaded2).get());
+		assertThat(testRun.lookupTestDescriptor(createTestDescription(testClass, "overloaded"))).isEmpty();
+	}
+
+	@Test
+	void tracksStatePerDescriptor() {
+		VintageTestDescriptor first = addChild("first", createTestDescription(testClass, "first"));
+		VintageTestDescriptor second = addChild("second", createTestDescription(testClass, "second"));
+
+		TestRun testRun = new TestRun(runnerTestDescriptor, logger);
+
+		assertFalse(testRun.isDescendantOfRunnerTestDescriptor(runnerTestDescriptor));
+		assertTrue(testRun.isDescendantOfRunnerTestDescriptor(first));
+		assertFalse(testRun.areAllFinishedOrSkipped(runnerTestDescriptor.getChildren()));
+
+		testRun.markStarted(first);
+		testRun.markFinished(first);
+		testRun.markSkipped(second);
+
+		assertFalse(testRun.isNotStarted(first));
+		assertTrue(testRun.isNotStarted(second));
+		assertTrue(testRun.isFinished(first));
+		assertTrue(testRun.isSkipped(second));
+		assertTrue(testRun.isNotSkipped(first));
+		assertTrue(testRun.areAllFinishedOrSkipped(runnerTestDescriptor.getChildren()));
+	}
+
+	@Test
+	void combinesMultipleStoredResults() {
+		VintageTestDescriptor first = addChild("first", createTestDescription(testClass, "first"));
+		VintageTestDescriptor second = addChild("second", createTestDescription(testClass, "second"));
+		AssertionError failure1 = new AssertionError("1");
+		AssertionError failure2 = new AssertionError("2");
+		TestExecutionResult single = TestExecutionResult.aborted(new RuntimeException());
+
+		TestRun testRun = new TestRun(runnerTestDescriptor, logger);
+		testRun.storeResult(first, TestExecutionResult.failed(failure1));
+		testRun.storeResult(first, TestExecutionResult.failed(failure2));
+		testRun.storeResult(second, single);
+
+		TestExecutionResult result = testRun.getStoredResultOrSuccessful(first);
+		assertEquals(TestExecutionResult.Status.FAILED, result.getStatus());
+		assertThat(result.getThrowable().get()).isInstanceOf(MultipleFailuresError.class);
+		assertThat(((MultipleFailuresError) result.getThrowable().get()).getFailures()).containsExactly(failure1,
+			failure2);
+		assertSame(single, testRun.getStoredResultOrSuccessful(second));
+		assertEquals(TestExecutionResult.successful().getStatus(),
+			testRun.getStoredResultOrSuccessful(runnerTestDescriptor).getStatus());
+	}
+
+	private VintageTestDescriptor addChild(String segmentValue, Description description) {
+		VintageTestDescriptor child = new VintageTestDescriptor(runnerTestDescriptor,
+			VintageTestDescriptor.SEGMENT_TYPE_TEST, segmentValue, description);
+		runnerTestDescriptor.addChild(child);
+		return child;
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.vintage.engine.samples.junit4;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Test classes that record the threads they are executed on and optionally
+ * wait for each other in order to verify that they are executed concurrently.
+ *
+ * @since 4.12
+ */
+public class ConcurrentJUnit4TestCases {
+
+	public static final Map<String, String> threadNames = new ConcurrentHashMap<>();
+
+	public static volatile CyclicBarrier barrier;
+
+	public static void reset(CyclicBarrier barrier) {
+		threadNames.clear();
+		ConcurrentJUnit4TestCases.barrier = barrier;
+	}
+
+	static void record(Class<?> testClass) throws Exception {
+		threadNames.put(testClass.getSimpleName(), Thread.currentThread().getName());
+		CyclicBarrier barrier = ConcurrentJUnit4TestCases.barrier;
+		if (barrier != null) {
+			barrier.await(5, TimeUnit.SECONDS);
+		}
+	}
+
+	public static class FirstTestCase {
+
+		@Test
+		public void test() throws Exception {
+			record(getClass());
+		}
+
+	}
+
+	public static class SecondTestCase {
+
+		@Test
+		public void test() throws Exception {
+			record(getClass());
+		}
+
+	}
+
+	@NotThreadSafe
+	public static class NotThreadSafeTestCase {
+
+		@Test
+		public void test() throws Exception {
+			threadNames.put(getClass().getSimpleName(), Thread.currentThread().getName());
+		}
+
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface NotThreadSafe {
+	}
+
+}
@@ -14,11 +14,27 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.junit.platform.commons.util.StringUtils.isBlank;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.jupiter.engine.Constants;
 
 /**
  * @since 1.0
@@ -54,4 +70,121 @@ class ConsoleLauncherIntegrationTests {
 		);
 	}
 
+	@Test
+	void executeWithConcurrentDynamicTestsPrintsTreeByParent() {
+		String[] args = { "-e", "junit-jupiter", "--details", "tree", "--details-theme", "ascii",
+				"--disable-ansi-colors", "true", "--include-classname", ".*",
+				"--select-method", ConcurrentDynamicTestCase.class.getName() + "#concurrentTests" };
+		String output = executeWithDynamicTestParallelism(args).out;
+
+		List<String> lines = Arrays.asList(output.split("\\R"));
+		int factory = indexOfLineContaining(lines, "concurrentTests()");
+		String childPrefix = lines.get(factory + 1).substring(0, lines.get(factory + 1).indexOf('+'));
+		assertAll("concurrently executed dynamic tests are printed as children of their factory:\n" + output, //
+			() -> assertTrue(lines.get(factory + 1).matches(".*\\+-- (first|second) \\[OK\\]")), //
+			() -> assertTrue(lines.get(factory + 2).matches(".*'-- (first|second) \\[OK\\]")), //
+			() -> assertTrue(lines.get(factory + 2).startsWith(childPrefix + "'")) //
+		);
+	}
+
+	@Test
+	void executeWithConcurrentDynamicTestsPrintsVerboseDetailsByParent() {
+		String[] args = { "-e", "junit-jupiter", "--details", "verbose", "--details-theme", "ascii",
+				"--disable-ansi-colors", "true", "--include-classname", ".*",
+				"--select-method", ConcurrentDynamicTestCase.class.getName() + "#concurrentTests" };
+		String output = executeWithDynamicTestParallelism(args).out;
+
+		List<String> lines = Arrays.asList(output.split("\\R"));
+		String first = lines.get(indexOfLineContaining(lines, "+-- first"));
+		String second = lines.get(indexOfLineContaining(lines, "+-- second"));
+		String factory = lines.get(indexOfLineContaining(lines, "+-- concurrentTests()"));
+		assertAll("concurrently executed dynamic tests are indented below their factory:\n" + output, //
+			() -> assertEquals(first.indexOf('+'), second.indexOf('+')), //
+			() -> assertTrue(first.indexOf('+') > factory.indexOf('+')), //
+			() -> assertTrue(output.contains("'-- concurrentTests() finished after")) //
+		);
+	}
+
+	@Test
+	void executeWithConcurrentTestTemplateInvocationsPrintsTreeByParent() {
+		String[] args = { "-e", "junit-jupiter", "--details", "tree", "--details-theme", "ascii",
+				"--disable-ansi-colors", "true", "--include-classname", ".*",
+				"--select-method", ConcurrentTestTemplateCase.class.getName() + "#concurrentInvocations" };
+		String output = executeWithDynamicTestParallelism(args).out;
+
+		List<String> lines = Arrays.asList(output.split("\\R"));
+		int template = indexOfLineContaining(lines, "concurrentInvocations()");
+		String childPrefix = lines.get(template + 1).substring(0, lines.get(template + 1).indexOf('+'));
+		assertAll("concurrently executed invocations are printed as children of their template:\n" + output, //
+			() -> assertTrue(lines.get(template + 1).matches(".*\\+-- \\[[12]\\] \\[OK\\]")), //
+			() -> assertTrue(lines.get(template + 2).matches(".*'-- \\[[12]\\] \\[OK\\]")), //
+			() -> assertTrue(lines.get(template + 2).startsWith(childPrefix + "'")) //
+		);
+	}
+
+	private static ConsoleLauncherWrapperResult executeWithDynamicTestParallelism(String... args) {
+		System.setProperty(Constants.DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME, "2");
+		try {
+			return new ConsoleLauncherWrapper().execute(args);
+		}
+		finally {
+			System.clearProperty(Constants.DYNAMIC_TEST_PARALLELISM_PROPERTY_NAME);
+		}
+	}
+
+	private static int indexOfLineContaining(List<String> lines, String text) {
+		for (int i = 0; i < lines.size(); i++) {
+			if (lines.get(i).contains(text)) {
+				return i;
+			}
+		}
+		throw new AssertionError("no line containing '" + text + "' in: " + lines);
+	}
+
+	private static class ConcurrentDynamicTestCase {
+
+		@TestFactory
+		Stream<DynamicTest> concurrentTests() {
+			// both tests only finish once they have been started concurrently
+			CyclicBarrier barrier = new CyclicBarrier(2);
+			return Stream.of("first", "second").map(
+				name -> dynamicTest(name, () -> barrier.await(10, TimeUnit.SECONDS)));
+		}
+
+	}
+
+	private static class ConcurrentTestTemplateCase {
+
+		private static CyclicBarrier barrier;
+
+		@BeforeAll
+		static void createBarrier() {
+			// both invocations only finish once they have been started concurrently
+			barrier = new CyclicBarrier(2);
+		}
+
+		@TestTemplate
+		@ExtendWith(TwoInvocationsContextProvider.class)
+		void concurrentInvocations() throws Exception {
+			barrier.await(10, TimeUnit.SECONDS);
+		}
+
+	}
+
+	private static class TwoInvocationsContextProvider implements TestTemplateInvocationContextProvider {
+
+		@Override
+		public boolean supports(ContainerExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Iterator<TestTemplateInvocationContext> provide(ContainerExtensionContext context) {
+			TestTemplateInvocationContext invocationContext = new TestTemplateInvocationContext() {
+			};
+			return Arrays.asList(invocationContext, invocationContext).iterator();
+		}
+
+	}
+
 }
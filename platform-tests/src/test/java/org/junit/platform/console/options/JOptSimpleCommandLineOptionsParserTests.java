@@ -49,6 +49,7 @@ class JOptSimpleCommandLineOptionsParserTests {
 		assertAll(
 			() -> assertFalse(options.isAnsiColorOutputDisabled()),
 			() -> assertFalse(options.isDisplayHelp()),
+			() -> assertFalse(options.isDetailsProgress()),
 			() -> assertEquals(CommandLineOptions.DEFAULT_DETAILS, options.getDetails()),
 			() -> assertFalse(options.isScanClasspath()),
 			() -> assertEquals(singletonList(STANDARD_INCLUDE_PATTERN), options.getIncludedClassNamePatterns()),
@@ -57,8 +58,16 @@ class JOptSimpleCommandLineOptionsParserTests {
 			() -> assertEquals(emptyList(), options.getExcludedPackages()),
 			() -> assertEquals(emptyList(), options.getIncludedTags()),
 			() -> assertEquals(emptyList(), options.getExcludedTags()),
+			() -> assertEquals(Optional.empty(), options.getShardIndex()),
+			() -> assertEquals(Optional.empty(), options.getShardCount()),
+			() -> assertEquals(Optional.empty(), options.getShardDurations()),
 			() -> assertEquals(emptyList(), options.getAdditionalClasspathEntries()),
 			() -> assertEquals(Optional.empty(), options.getReportsDir()),
+			() -> assertFalse(options.isReportsPerClass()),
+			() -> assertEquals(ReportsProperties.ALL, options.getReportsProperties()),
+			() -> assertEquals(emptyList(), options.getIncludedReportsPropertiesPatterns()),
+			() -> assertEquals(Optional.empty(), options.getEventLog()),
+			() -> assertEquals(Optional.empty(), options.getEventStream()),
 			() -> assertEquals(emptyList(), options.getSelectedUris()),
 			() -> assertEquals(emptyList(), options.getSelectedFiles()),
 			() -> assertEquals(emptyList(), options.getSelectedDirectories()),
@@ -73,6 +82,7 @@ class JOptSimpleCommandLineOptionsParserTests {
 		assertAll(
 			() -> assertParses("disable ansi", CommandLineOptions::isAnsiColorOutputDisabled, "--disable-ansi-colors"),
 			() -> assertParses("help", CommandLineOptions::isDisplayHelp, "-h", "--help"),
+			() -> assertParses("details progress", CommandLineOptions::isDetailsProgress, "--details-progress"),
 			() -> assertParses("scan class path", CommandLineOptions::isScanClasspath, "--scan-class-path")
 		);
 		// @formatter:on
@@ -246,6 +256,24 @@ class JOptSimpleCommandLineOptionsParserTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("-E", "--exclude-engine");
 	}
 
+	@Test
+	public void parseValidShardOptions() {
+		CommandLineOptions options = parseArgLine("--shard-index 2 --shard-count 16 --shard-durations build/durations");
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of(2), options.getShardIndex()),
+			() -> assertEquals(Optional.of(16), options.getShardCount()),
+			() -> assertEquals(Optional.of(Paths.get("build", "durations")), options.getShardDurations())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	public void parseInvalidShardOptions() throws Exception {
+		assertOptionWithMissingRequiredArgumentThrowsException("--shard-index", "--shard-count", "--shard-durations");
+		assertThrows(JUnitException.class, () -> parseArgLine("--shard-index first"));
+	}
+
 	@Test
 	public void parseValidAdditionalClasspathEntries() {
 		Path dir = Paths.get(".");
@@ -281,6 +309,41 @@ class JOptSimpleCommandLineOptionsParserTests {
 		// @formatter:on
 	}
 
+	@Test
+	public void parseValidReportsPerClass() {
+		assertTrue(parseArgLine("--reports-dir build/test-results --reports-per-class").isReportsPerClass());
+	}
+
+	@Test
+	public void parseValidReportsProperties() {
+		CommandLineOptions options = parseArgLine(
+			"--reports-properties run --reports-properties-include java\\..* --reports-properties-include os\\..*");
+		assertEquals(ReportsProperties.RUN, options.getReportsProperties());
+		assertEquals(asList("java\\..*", "os\\..*"), options.getIncludedReportsPropertiesPatterns());
+	}
+
+	@Test
+	public void parseValidEventLog() {
+		Path logFile = Paths.get("build", "events.log");
+		assertEquals(Optional.of(logFile), parseArgLine("--event-log build/events.log").getEventLog());
+	}
+
+	@Test
+	public void parseInvalidEventLog() throws Exception {
+		assertOptionWithMissingRequiredArgumentThrowsException("--event-log");
+	}
+
+	@Test
+	public void parseValidEventStream() {
+		Path file = Paths.get("build", "events.jsonl");
+		assertEquals(Optional.of(file), parseArgLine("--event-stream build/events.jsonl").getEventStream());
+	}
+
+	@Test
+	public void parseInvalidEventStream() throws Exception {
+		assertOptionWithMissingRequiredArgumentThrowsException("--event-stream");
+	}
+
 	@Test
 	public void parseInvalidXmlReportsDirs() throws Exception {
 		assertOptionWithMissingRequiredArgumentThrowsException("--reports-dir");
@@ -178,6 +178,27 @@ public class DiscoveryRequestCreatorTests {
 		assertThat(engineFilters.get(1).toString()).contains("excludes", "[engine2]");
 	}
 
+	@Test
+	public void convertsShardOptions() {
+		options.setScanClasspath(true);
+		options.setShardIndex(1);
+		options.setShardCount(4);
+
+		LauncherDiscoveryRequest request = convert();
+
+		assertThat(request.getPostDiscoveryFilters()).hasSize(1);
+	}
+
+	@Test
+	public void requiresShardIndexAndShardCount() {
+		options.setScanClasspath(true);
+		options.setShardCount(4);
+
+		Throwable cause = assertThrows(PreconditionViolationException.class, this::convert);
+
+		assertThat(cause).hasMessageContaining("--shard-index and --shard-count");
+	}
+
 	@Test
 	public void convertsUriSelectors() {
 		options.setSelectedUris(asList(URI.create("a"), URI.create("b")));
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * @since 1.0
+ */
+@ExtendWith(TempDirectory.class)
+class JsonLinesWritingListenerTests {
+
+	private final Clock clock = Clock.fixed(Instant.ofEpochMilli(42), ZoneId.systemDefault());
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	void streamsOneJsonObjectPerEvent(@Root Path tempDirectory) throws Exception {
+		Path file = tempDirectory.resolve("events.jsonl");
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("succeeding", () -> nanoTime.addAndGet(1000));
+		engine.addTest("skipped", () -> {
+		}).markSkipped("should be skipped");
+		engine.addTest("failing", () -> {
+			throw new AssertionError("expected to fail");
+		});
+
+		Launcher launcher = createLauncher(engine);
+		launcher.registerTestExecutionListeners(
+			new JsonLinesWritingListener(file, new PrintWriter(new StringWriter()), clock, nanoTime::get));
+		launcher.execute(request().selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))).build());
+
+		String thread = Thread.currentThread().getName();
+		String prefix = "\"timestamp\":42,\"thread\":\"" + thread + "\",";
+		String engineFields = "\"uniqueId\":\"[engine:dummy]\",\"parentId\":null,\"type\":\"container\"";
+		String testFields = ",\"parentId\":\"[engine:dummy]\",\"type\":\"test\"";
+		assertThat(Files.readAllLines(file, UTF_8)).containsExactly( //
+			"{\"event\":\"testPlanExecutionStarted\",\"timestamp\":42,\"tests\":3}", //
+			"{\"event\":\"executionStarted\"," + prefix + engineFields + ",\"displayName\":\"dummy\"}", //
+			"{\"event\":\"executionStarted\"," + prefix + "\"uniqueId\":\"[engine:dummy]/[test:succeeding]\""
+					+ testFields + ",\"displayName\":\"succeeding\"}", //
+			"{\"event\":\"executionFinished\"," + prefix + "\"uniqueId\":\"[engine:dummy]/[test:succeeding]\""
+					+ testFields + ",\"status\":\"SUCCESSFUL\",\"durationNanos\":1000}", //
+			"{\"event\":\"executionSkipped\"," + prefix + "\"uniqueId\":\"[engine:dummy]/[test:skipped]\""
+					+ testFields + ",\"status\":\"SKIPPED\",\"reason\":\"should be skipped\"}", //
+			"{\"event\":\"executionStarted\"," + prefix + "\"uniqueId\":\"[engine:dummy]/[test:failing]\""
+					+ testFields + ",\"displayName\":\"failing\"}", //
+			"{\"event\":\"executionFinished\"," + prefix + "\"uniqueId\":\"[engine:dummy]/[test:failing]\""
+					+ testFields + ",\"status\":\"FAILED\",\"durationNanos\":0"
+					+ ",\"throwable\":\"java.lang.AssertionError: expected to fail\"}", //
+			"{\"event\":\"executionFinished\"," + prefix + engineFields
+					+ ",\"status\":\"SUCCESSFUL\",\"durationNanos\":1000}", //
+			"{\"event\":\"testPlanExecutionFinished\",\"timestamp\":42}");
+	}
+
+	@Test
+	void escapesStringsAndWritesReportEntries(@Root Path tempDirectory) throws Exception {
+		Path file = tempDirectory.resolve("events.jsonl");
+		TestIdentifier test = TestIdentifier.from(
+			new TestDescriptorStub(UniqueId.root("test", "1"), "\"quoted\"\\ \n\t\u0001"));
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
+		JsonLinesWritingListener listener = new JsonLinesWritingListener(file, new PrintWriter(new StringWriter()),
+			clock, nanoTime::get);
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.dynamicTestRegistered(test);
+		listener.reportingEntryPublished(test, ReportEntry.from("key", "a \"value\""));
+		listener.testPlanExecutionFinished(testPlan);
+
+		List<String> lines = Files.readAllLines(file, UTF_8);
+		assertThat(lines).hasSize(4);
+		assertThat(lines.get(1)).endsWith("\"displayName\":\"\\\"quoted\\\"\\\\ \\n\\t\\u0001\"}");
+		assertThat(lines.get(2)).startsWith("{\"event\":\"reportingEntryPublished\",").endsWith(
+			"\"type\":\"test\",\"entries\":{\"key\":\"a \\\"value\\\"\"}}");
+	}
+
+	@Test
+	void printsExceptionWhenStreamCannotBeOpened(@Root Path tempDirectory) throws Exception {
+		Path file = tempDirectory.resolve("missing").resolve("events.jsonl");
+		StringWriter out = new StringWriter();
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
+		JsonLinesWritingListener listener = new JsonLinesWritingListener(file, new PrintWriter(out), clock,
+			nanoTime::get);
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionSkipped(TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", "1"), "test")),
+			"skipped");
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(out.toString()).startsWith("Could not open event stream: " + file);
+	}
+
+}
@@ -71,6 +71,49 @@ class TreePrinterTests {
 			actual());
 	}
 
+	@Test
+	void collapsedSuccessfulTests() {
+		TreeNode engine = new TreeNode(createEngineId("e-0", "engine zero"));
+		TreeNode test0 = new TreeNode(createEngineId("t-0", "test zero")).setResult(successful());
+		engine.addChild(test0).collapseChild(test0);
+		TreeNode test1 = new TreeNode(createEngineId("t-1", "test one")).setResult(successful());
+		engine.addChild(test1).collapseChild(test1);
+		engine.addChild(new TreeNode(createEngineId("t-2", "test two")).setResult(failed(null)));
+		TreeNode test3 = new TreeNode(createEngineId("t-3", "test three")).setResult(successful());
+		engine.addChild(test3).collapseChild(test3);
+		assertCollapsedTree(engine);
+	}
+
+	@Test
+	void collapsedSuccessfulTestsFinishedOutOfOrder() {
+		TreeNode engine = new TreeNode(createEngineId("e-0", "engine zero"));
+		TreeNode test0 = new TreeNode(createEngineId("t-0", "test zero"));
+		TreeNode test1 = new TreeNode(createEngineId("t-1", "test one"));
+		TreeNode test2 = new TreeNode(createEngineId("t-2", "test two"));
+		TreeNode test3 = new TreeNode(createEngineId("t-3", "test three"));
+		engine.addChild(test0).addChild(test1).addChild(test2).addChild(test3);
+		engine.collapseChild(test1.setResult(successful()));
+		engine.collapseChild(test0.setResult(successful()));
+		engine.collapseChild(test3.setResult(successful()));
+		test2.setResult(failed(null));
+		assertCollapsedTree(engine);
+	}
+
+	private void assertCollapsedTree(TreeNode engine) {
+		engine.setResult(successful());
+		TreeNode root = new TreeNode("<root>");
+		root.addChild(engine);
+		new TreePrinter(out, Theme.UNICODE, true).print(root);
+		assertIterableEquals(
+			Arrays.asList( //
+				"╷", //
+				"└─ engine zero ✔", //
+				"   ├─ ✔ 2 tests successful", //
+				"   ├─ test two ✘", //
+				"   └─ ✔ 1 tests successful"), //
+			actual());
+	}
+
 	private TestIdentifier createEngineId(String uniqueId, String displayName) {
 		return TestIdentifier.from(new AbstractTestDescriptor(UniqueId.forEngine(uniqueId), displayName) {
 			@Override
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.TestExecutionResult.failed;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.console.options.Theme;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * @since 1.0
+ */
+class VerboseTreePrintingListenerTests {
+
+	private final StringWriter stringWriter = new StringWriter();
+	private final PrintWriter out = new PrintWriter(stringWriter);
+	private final TestPlan testPlan = TestPlan.from(Collections.emptyList());
+	private final TestIdentifier container = createContainerIdentifier("container");
+
+	@Test
+	void progressModeCollapsesSuccessfulTests() {
+		VerboseTreePrintingListener listener = createProgressListener(Clock.systemDefaultZone());
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(container);
+		executeTest(listener, "first", successful());
+		executeTest(listener, "second", successful());
+		executeTest(listener, "failing", failed(new AssertionError("boom")));
+		TestIdentifier reporting = createTestIdentifier("reporting");
+		listener.executionStarted(reporting);
+		listener.reportingEntryPublished(reporting, ReportEntry.from("key", "value"));
+		listener.executionFinished(reporting, successful());
+		executeTest(listener, "third", successful());
+		listener.executionFinished(container, successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		String output = stringWriter.toString();
+		assertThat(output).doesNotContain("first").doesNotContain("second").doesNotContain("third");
+		assertContainsInOrder(output, //
+			"[OK] 2 tests successful", //
+			"failing", //
+			"java.lang.AssertionError: boom", //
+			"reporting", //
+			"[OK] 1 tests successful", //
+			"container finished after");
+	}
+
+	@Test
+	void progressModeWritesOutputOnlyWhenFlushIsDue() {
+		VerboseTreePrintingListener listener = createProgressListener(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(container);
+		executeTest(listener, "failing", failed(new AssertionError("boom")));
+		assertEquals("", stringWriter.toString());
+
+		listener.executionFinished(container, successful());
+		listener.testPlanExecutionFinished(testPlan);
+		assertThat(stringWriter.toString()).contains("failing", "Test plan execution finished");
+	}
+
+	@Test
+	void progressModePrintsProgressLineWhenFlushIntervalHasElapsed() {
+		VerboseTreePrintingListener listener = createProgressListener(
+			new IncrementingClock(0, Duration.ofSeconds(1)));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(container);
+		executeTest(listener, "first", successful());
+		assertThat(stringWriter.toString()).endsWith("[OK] 1 tests successful" + System.lineSeparator());
+
+		executeTest(listener, "second", successful());
+		assertContainsInOrder(stringWriter.toString(), "[OK] 1 tests successful", "[OK] 1 tests successful");
+	}
+
+	private static void assertContainsInOrder(String output, String... fragments) {
+		int index = 0;
+		for (String fragment : fragments) {
+			index = output.indexOf(fragment, index);
+			assertThat(index).as("index of '%s' in:%n%s", fragment, output).isNotNegative();
+			index += fragment.length();
+		}
+	}
+
+	private VerboseTreePrintingListener createProgressListener(Clock clock) {
+		ThrottledOutput output = new ThrottledOutput(out, ThrottledOutput.DEFAULT_FLUSH_SIZE,
+			ThrottledOutput.DEFAULT_FLUSH_INTERVAL_MILLIS, clock);
+		return new VerboseTreePrintingListener(output, true, 16, Theme.ASCII);
+	}
+
+	private static void executeTest(VerboseTreePrintingListener listener, String name,
+			TestExecutionResult result) {
+		TestIdentifier test = createTestIdentifier(name);
+		listener.executionStarted(test);
+		listener.executionFinished(test, result);
+	}
+
+	private static TestIdentifier createTestIdentifier(String name) {
+		return TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", name), name));
+	}
+
+	private static TestIdentifier createContainerIdentifier(String name) {
+		return TestIdentifier.from(new TestDescriptorStub(UniqueId.root("container", name), name) {
+
+			@Override
+			public boolean isContainer() {
+				return true;
+			}
+
+			@Override
+			public boolean isTest() {
+				return false;
+			}
+		});
+	}
+
+}
@@ -11,9 +11,12 @@
 package org.junit.platform.console.tasks;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
@@ -44,10 +47,13 @@ import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.extensions.TempDirectory;
 import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.console.options.ReportsProperties;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalContainerDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.engine.test.TestDescriptorStub;
@@ -311,6 +317,40 @@ class XmlReportsWritingListenerTests {
 		//@formatter:on
 	}
 
+	@Test
+	void writesSystemPropertiesOncePerRunWhenRequested(@Root Path tempDirectory) throws Exception {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("test", () -> {
+		});
+
+		executeTests(engine, tempDirectory, Clock.systemDefaultZone(), false,
+			new XmlReportProperties(ReportsProperties.RUN, singletonList("path\\..*")));
+
+		String content = readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml"));
+		assertThat(content).containsSequence("<properties>",
+			"<property name=\"system-properties-file\" value=\"system-properties.xml\"/>", "</properties>");
+		assertThat(content).doesNotContain("path.separator");
+
+		String properties = new String(Files.readAllBytes(tempDirectory.resolve("system-properties.xml")), UTF_8);
+		assertThat(properties).containsSequence("<properties>",
+			"<property name=\"path.separator\" value=\"" + File.pathSeparator + "\"/>", "</properties>");
+		assertThat(properties).doesNotContain("file.separator");
+	}
+
+	@Test
+	void omitsSystemPropertiesWhenRequested(@Root Path tempDirectory) throws Exception {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("test", () -> {
+		});
+
+		executeTests(engine, tempDirectory, Clock.systemDefaultZone(), false,
+			new XmlReportProperties(ReportsProperties.NONE, emptyList()));
+
+		String content = readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml"));
+		assertThat(content).contains("<testcase").doesNotContain("<properties");
+		assertFalse(Files.exists(tempDirectory.resolve("system-properties.xml")));
+	}
+
 	@Test
 	void writesHostNameAndTimestamp(@Root Path tempDirectory) throws Exception {
 		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
@@ -405,13 +445,106 @@ class XmlReportsWritingListenerTests {
 		//@formatter:on
 	}
 
+	@Test
+	void writesSeparateFilesForClassesWhenReportingPerClass(@Root Path tempDirectory) throws Exception {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+		DemoHierarchicalContainerDescriptor container = engine.addContainer("classA", "ATests",
+			new ClassSource("com.example.ATests"));
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test1"),
+			"test1", null, () -> fail("failing in class")));
+		engine.addTest("outsideOfClass", () -> {
+		});
+
+		executeTests(engine, tempDirectory, Clock.systemDefaultZone(), true);
+
+		String classContent = readValidXmlFile(tempDirectory.resolve("TEST-com.example.ATests.xml"));
+		//@formatter:off
+		assertThat(classContent)
+			.containsSequence(
+				"<testsuite name=\"ATests\" tests=\"1\" skipped=\"0\" failures=\"1\" errors=\"0\"",
+				"<testcase name=\"test1\" classname=\"ATests\"",
+				"failing in class",
+				"</testcase>",
+				"</testsuite>")
+			.doesNotContain("outsideOfClass");
+		//@formatter:on
+
+		String engineContent = readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml"));
+		//@formatter:off
+		assertThat(engineContent)
+			.containsSequence(
+				"<testsuite name=\"dummy\" tests=\"1\" skipped=\"0\" failures=\"0\" errors=\"0\"",
+				"<testcase name=\"outsideOfClass\" classname=\"dummy\"")
+			.doesNotContain("test1");
+		//@formatter:on
+	}
+
+	@Test
+	void writesTestsOfClassesThatDidNotExecuteIntoEngineFileWhenReportingPerClass(@Root Path tempDirectory)
+			throws Exception {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+		DemoHierarchicalContainerDescriptor container = engine.addContainer("classA", "ATests",
+			new ClassSource("com.example.ATests"));
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test1"),
+			"test1", null, () -> fail("never called")));
+		engine.getEngineDescriptor().markSkipped("should be skipped");
+
+		executeTests(engine, tempDirectory, Clock.systemDefaultZone(), true);
+
+		assertFalse(Files.exists(tempDirectory.resolve("TEST-com.example.ATests.xml")));
+		String content = readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml"));
+		assertThat(content).containsSequence(
+			"<testsuite name=\"dummy\" tests=\"1\" skipped=\"1\" failures=\"0\" errors=\"0\"",
+			"<testcase name=\"test1\" classname=\"ATests\"", "parent was skipped: should be skipped");
+	}
+
+	@Test
+	void prefixesReportOfClassAlreadyReportedByAnotherEngineWithEngineIdWhenReportingPerClass(@Root Path tempDirectory)
+			throws Exception {
+		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
+		addClassWithTest(firstEngine, "com.example.ATests", "firstTest");
+		DemoHierarchicalTestEngine secondEngine = new DemoHierarchicalTestEngine("second");
+		addClassWithTest(secondEngine, "com.example.ATests", "secondTest");
+
+		PrintWriter out = new PrintWriter(new StringWriter());
+		XmlReportsWritingListener reportListener = new XmlReportsWritingListener(tempDirectory.toString(), out,
+			Clock.systemDefaultZone(), true, XmlReportProperties.all());
+		Launcher launcher = createLauncher(firstEngine, secondEngine);
+		launcher.registerTestExecutionListeners(reportListener);
+		launcher.execute(request().selectors(selectUniqueId(UniqueId.forEngine(firstEngine.getId())),
+			selectUniqueId(UniqueId.forEngine(secondEngine.getId()))).build());
+
+		assertThat(readValidXmlFile(tempDirectory.resolve("TEST-com.example.ATests.xml"))).contains(
+			"firstTest").doesNotContain("secondTest");
+		assertThat(readValidXmlFile(tempDirectory.resolve("TEST-second-com.example.ATests.xml"))).contains(
+			"secondTest").doesNotContain("firstTest");
+	}
+
+	private static void addClassWithTest(DemoHierarchicalTestEngine engine, String className, String testName) {
+		DemoHierarchicalContainerDescriptor container = engine.addContainer(className, className,
+			new ClassSource(className));
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", testName),
+			testName, null, () -> {
+			}));
+	}
+
 	private void executeTests(TestEngine engine, Path tempDirectory) {
 		executeTests(engine, tempDirectory, Clock.systemDefaultZone());
 	}
 
 	private void executeTests(TestEngine engine, Path tempDirectory, Clock clock) {
+		executeTests(engine, tempDirectory, clock, false);
+	}
+
+	private void executeTests(TestEngine engine, Path tempDirectory, Clock clock, boolean reportPerClass) {
+		executeTests(engine, tempDirectory, clock, reportPerClass, XmlReportProperties.all());
+	}
+
+	private void executeTests(TestEngine engine, Path tempDirectory, Clock clock, boolean reportPerClass,
+			XmlReportProperties properties) {
 		PrintWriter out = new PrintWriter(new StringWriter());
-		XmlReportsWritingListener reportListener = new XmlReportsWritingListener(tempDirectory.toString(), out, clock);
+		XmlReportsWritingListener reportListener = new XmlReportsWritingListener(tempDirectory.toString(), out, clock,
+			reportPerClass, properties);
 		Launcher launcher = createLauncher(engine);
 		launcher.registerTestExecutionListeners(reportListener);
 		launcher.execute(request().selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))).build());
@@ -25,6 +25,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.EngineExecutionListener;
@@ -364,6 +367,71 @@ public class HierarchicalTestExecutorTests {
 			TestExecutionResult.Status.SUCCESSFUL, TestExecutionResult.Status.SUCCESSFUL);
 	}
 
+	@Test
+	public void executesSubmittedDynamicTestDescriptorsConcurrently() throws Exception {
+
+		UniqueId leafUniqueId = UniqueId.root("leaf", "child leaf");
+		MyLeaf child = spy(new MyLeaf(leafUniqueId));
+		CountDownLatch dynamicTestsStarted = new CountDownLatch(2);
+		MyLeaf firstDynamicTestDescriptor = spy(new MyOverlappingLeaf(leafUniqueId.append("dynamic", "first"),
+			dynamicTestsStarted));
+		MyLeaf secondDynamicTestDescriptor = spy(new MyOverlappingLeaf(leafUniqueId.append("dynamic", "second"),
+			dynamicTestsStarted));
+
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			dynamicTestExecutor.submit(firstDynamicTestDescriptor);
+			dynamicTestExecutor.submit(secondDynamicTestDescriptor);
+			return invocation.getArgument(0);
+		});
+		root.addChild(child);
+
+		ExecutionRequest request = new ExecutionRequest(root, listener, null);
+		new HierarchicalTestExecutor<>(request, rootContext, 2).execute();
+
+		InOrder registrationOrder = inOrder(listener);
+		registrationOrder.verify(listener).dynamicTestRegistered(firstDynamicTestDescriptor);
+		registrationOrder.verify(listener).dynamicTestRegistered(secondDynamicTestDescriptor);
+
+		ArgumentCaptor<TestExecutionResult> aTestExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		InOrder firstOrder = inOrder(listener);
+		firstOrder.verify(listener).executionFinished(eq(firstDynamicTestDescriptor), aTestExecutionResult.capture());
+		firstOrder.verify(listener).executionFinished(eq(child), any(TestExecutionResult.class));
+		InOrder secondOrder = inOrder(listener);
+		secondOrder.verify(listener).executionFinished(eq(secondDynamicTestDescriptor),
+			aTestExecutionResult.capture());
+		secondOrder.verify(listener).executionFinished(eq(child), any(TestExecutionResult.class));
+
+		assertThat(aTestExecutionResult.getAllValues()).extracting(TestExecutionResult::getStatus).containsExactly(
+			TestExecutionResult.Status.SUCCESSFUL, TestExecutionResult.Status.SUCCESSFUL);
+	}
+
+	@Test
+	public void failureOfSubmittedDynamicTestIsSuppressedByFailureOfParent() throws Exception {
+
+		UniqueId leafUniqueId = UniqueId.root("leaf", "child leaf");
+		MyLeaf child = spy(new MyLeaf(leafUniqueId));
+		MyLeaf dynamicTestDescriptor = spy(new MyLeaf(leafUniqueId.append("dynamic", "child")));
+		RuntimeException listenerException = new RuntimeException("in listener");
+		AssertionError parentFailure = new AssertionError("in parent");
+
+		doThrow(listenerException).when(listener).executionStarted(dynamicTestDescriptor);
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			dynamicTestExecutor.submit(dynamicTestDescriptor);
+			throw parentFailure;
+		});
+		root.addChild(child);
+
+		ExecutionRequest request = new ExecutionRequest(root, listener, null);
+		new HierarchicalTestExecutor<>(request, rootContext, 2).execute();
+
+		ArgumentCaptor<TestExecutionResult> childExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		verify(listener).executionFinished(eq(child), childExecutionResult.capture());
+		assertSame(parentFailure, childExecutionResult.getValue().getThrowable().get());
+		assertThat(parentFailure.getSuppressed()).containsExactly(listenerException);
+	}
+
 	/**
 	 * Verifies support for blacklisted exceptions.
 	 */
@@ -448,6 +516,24 @@ public class HierarchicalTestExecutorTests {
 		}
 	}
 
+	private static class MyOverlappingLeaf extends MyLeaf {
+
+		private final CountDownLatch started;
+
+		protected MyOverlappingLeaf(UniqueId uniqueId, CountDownLatch started) {
+			super(uniqueId);
+			this.started = started;
+		}
+
+		@Override
+		public MyEngineExecutionContext execute(MyEngineExecutionContext context,
+				DynamicTestExecutor dynamicTestExecutor) throws Exception {
+			started.countDown();
+			assertTrue(started.await(10, TimeUnit.SECONDS), "dynamic tests are expected to overlap");
+			return context;
+		}
+	}
+
 	private static class MyExecutor extends HierarchicalTestExecutor<MyEngineExecutionContext> {
 
 		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext) {
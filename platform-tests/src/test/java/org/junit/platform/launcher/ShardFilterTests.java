@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.launcher.ShardFilter.includeShard;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+/**
+ * Unit tests for {@link ShardFilter}.
+ *
+ * @since 1.0
+ */
+@ExtendWith(TempDirectory.class)
+class ShardFilterTests {
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+
+	@Test
+	void includesEveryClassInExactlyOneShard() {
+		List<TestDescriptor> tests = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			tests.add(addTest(addClass(engineDescriptor, "com.example.Test" + i), "test"));
+		}
+		int shardCount = 4;
+		int[] testsPerShard = new int[shardCount];
+
+		for (TestDescriptor test : tests) {
+			int matchingShards = 0;
+			for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+				if (includeShard(shardIndex, shardCount).apply(test).included()) {
+					matchingShards++;
+					testsPerShard[shardIndex]++;
+				}
+			}
+			assertEquals(1, matchingShards, test.getUniqueId().toString());
+		}
+		for (int count : testsPerShard) {
+			assertThat(count).isGreaterThan(10);
+		}
+	}
+
+	@Test
+	void assignsAllTestsOfOutermostClassToSameShard() {
+		TestDescriptor outerClass = addClass(engineDescriptor, "com.example.OuterTests");
+		TestDescriptor outerTest = addTest(outerClass, "outer");
+		TestDescriptor nestedTest = addTest(addClass(outerClass, "com.example.OuterTests$NestedTests"), "nested");
+		TestDescriptor containerWithoutClass = addTest(engineDescriptor, "container");
+		TestDescriptor testWithoutClass = addTest(containerWithoutClass, "test");
+
+		assertEquals("com.example.OuterTests", ShardFilter.determinePartitionKey(outerTest));
+		assertEquals("com.example.OuterTests", ShardFilter.determinePartitionKey(nestedTest));
+		assertEquals(containerWithoutClass.getUniqueId().toString(),
+			ShardFilter.determinePartitionKey(testWithoutClass));
+
+		for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+			PostDiscoveryFilter filter = includeShard(shardIndex, 3);
+			assertEquals(filter.apply(outerTest).included(), filter.apply(nestedTest).included());
+		}
+	}
+
+	@Test
+	void balancesShardsByDuration() {
+		Map<String, Long> durations = new HashMap<>();
+		durations.put("com.example.A", 100L);
+		durations.put("com.example.B", 60L);
+		durations.put("com.example.C", 50L);
+		durations.put("com.example.D", 30L);
+		durations.put("com.example.E", 20L);
+
+		Map<String, Integer> shards = ShardFilter.assignShards(durations, 2);
+
+		// A=100 -> 0 (100), B=60 -> 1 (60), C=50 -> 1 (110), D=30 -> 0 (130), E=20 -> 1 (130)
+		assertEquals(Integer.valueOf(0), shards.get("com.example.A"));
+		assertEquals(Integer.valueOf(1), shards.get("com.example.B"));
+		assertEquals(Integer.valueOf(1), shards.get("com.example.C"));
+		assertEquals(Integer.valueOf(0), shards.get("com.example.D"));
+		assertEquals(Integer.valueOf(1), shards.get("com.example.E"));
+
+		TestDescriptor testOfB = addTest(addClass(engineDescriptor, "com.example.B"), "test");
+		assertTrue(includeShard(1, 2, durations).apply(testOfB).included());
+		assertTrue(includeShard(0, 2, durations).apply(testOfB).excluded());
+	}
+
+	@Test
+	void readsDurationsFromPropertiesFile(@Root Path tempDirectory) throws Exception {
+		Path durationsFile = tempDirectory.resolve("durations.properties");
+		Files.write(durationsFile, asList("# durations in ms", "com.example.A=100", "com.example.B = 60"),
+			StandardCharsets.UTF_8);
+		TestDescriptor testOfA = addTest(addClass(engineDescriptor, "com.example.A"), "test");
+		TestDescriptor testOfB = addTest(addClass(engineDescriptor, "com.example.B"), "test");
+
+		PostDiscoveryFilter filter = includeShard(1, 2, durationsFile);
+
+		assertTrue(filter.apply(testOfA).excluded());
+		assertTrue(filter.apply(testOfB).included());
+		assertThat(filter.apply(testOfA).getReason()).contains("com.example.A belongs to shard 0 instead of 1");
+
+		Files.write(durationsFile, asList("com.example.A=fast"), StandardCharsets.UTF_8);
+		JUnitException exception = assertThrows(JUnitException.class, () -> includeShard(0, 2, durationsFile));
+		assertThat(exception).hasMessageStartingWith("Invalid duration [fast] for class com.example.A");
+	}
+
+	@Test
+	void rejectsInvalidShards() {
+		assertThrows(PreconditionViolationException.class, () -> includeShard(0, 0));
+		assertThrows(PreconditionViolationException.class, () -> includeShard(-1, 2));
+		assertThrows(PreconditionViolationException.class, () -> includeShard(2, 2));
+	}
+
+	private static TestDescriptor addClass(TestDescriptor parent, String className) {
+		DescriptorStub descriptor = new DescriptorStub(parent.getUniqueId().append("class", className), className);
+		descriptor.setClassSource(className);
+		parent.addChild(descriptor);
+		return descriptor;
+	}
+
+	private static TestDescriptor addTest(TestDescriptor parent, String name) {
+		DescriptorStub descriptor = new DescriptorStub(parent.getUniqueId().append("test", name), name);
+		parent.addChild(descriptor);
+		return descriptor;
+	}
+
+	private static class DescriptorStub extends AbstractTestDescriptor {
+
+		DescriptorStub(UniqueId uniqueId, String displayName) {
+			super(uniqueId, displayName);
+		}
+
+		void setClassSource(String className) {
+			setSource(new ClassSource(className));
+		}
+
+		@Override
+		public boolean isContainer() {
+			return !getChildren().isEmpty();
+		}
+
+		@Override
+		public boolean isTest() {
+			return getChildren().isEmpty();
+		}
+
+	}
+
+}
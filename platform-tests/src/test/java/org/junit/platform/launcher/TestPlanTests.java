@@ -0,0 +1,245 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.test.TestDescriptorStub;
+
+/**
+ * @since 1.0
+ */
+class TestPlanTests {
+
+	private final UniqueId engineId = UniqueId.forEngine("engine");
+
+	@Test
+	void servesTreeFromDescriptors() {
+		TestDescriptor engine = new TestDescriptorStub(engineId, "engine");
+		TestDescriptor container = addChild(engine, new TestDescriptorStub(engineId.append("c", "1"), "container"));
+		for (int i = 0; i < 100; i++) {
+			addChild(container, new TestDescriptorStub(container.getUniqueId().append("t", "" + i), "test" + i));
+		}
+
+		TestPlan testPlan = TestPlan.from(singletonList(engine));
+
+		TestIdentifier engineIdentifier = testPlan.getTestIdentifier(engineId.toString());
+		assertThat(testPlan.getRoots()).containsExactly(engineIdentifier);
+		TestIdentifier containerIdentifier = testPlan.getChildren(engineIdentifier).iterator().next();
+		assertEquals("container", containerIdentifier.getDisplayName());
+		assertSame(engineIdentifier.getUniqueId(), containerIdentifier.getParentId().get());
+
+		Set<TestIdentifier> children = testPlan.getChildren(containerIdentifier);
+		assertEquals(100, children.size());
+		assertThat(children).extracting(TestIdentifier::getDisplayName).startsWith("test0", "test1").endsWith(
+			"test99");
+		UniqueId testId = container.getUniqueId().append("t", "42");
+		assertTrue(children.contains(testPlan.getTestIdentifier(testId.toString())));
+		assertFalse(children.contains(engineIdentifier));
+		assertThat(testPlan.getParent(children.iterator().next())).contains(containerIdentifier);
+		assertEquals(102, testPlan.countTestIdentifiers(identifier -> true));
+		assertEquals(101, testPlan.getDescendants(engineIdentifier).size());
+	}
+
+	@Test
+	void childrenAreUnmodifiableLiveViews() {
+		TestPlan testPlan = TestPlan.from(singletonList(new TestDescriptorStub(engineId, "engine")));
+		Set<TestIdentifier> children = testPlan.getChildren(engineId.toString());
+		assertTrue(children.isEmpty());
+
+		TestIdentifier child = identifier(engineId.append("t", "1"), engineId);
+		testPlan.add(child);
+
+		assertThat(children).containsExactly(child);
+		assertThrows(UnsupportedOperationException.class, () -> children.remove(child));
+		assertThrows(UnsupportedOperationException.class, () -> children.add(child));
+	}
+
+	@Test
+	void childrenCanBeAddedBeforeTheirParent() {
+		TestPlan testPlan = TestPlan.from(singletonList(new TestDescriptorStub(engineId, "engine")));
+		UniqueId parentId = engineId.append("c", "1");
+		TestIdentifier child = identifier(parentId.append("t", "1"), parentId);
+
+		testPlan.add(child);
+
+		assertThat(testPlan.getChildren(parentId.toString())).containsExactly(child);
+		assertEquals(2, testPlan.countTestIdentifiers(identifier -> true));
+		assertThrows(PreconditionViolationException.class, () -> testPlan.getTestIdentifier(parentId.toString()));
+
+		TestIdentifier parent = identifier(parentId, engineId);
+		testPlan.add(parent);
+
+		assertSame(parent, testPlan.getTestIdentifier(parentId.toString()));
+		assertThat(testPlan.getChildren(engineId.toString())).containsExactly(parent);
+		assertEquals(3, testPlan.countTestIdentifiers(identifier -> true));
+	}
+
+	@Test
+	void looksUpIdentifiersOfDescriptors() {
+		TestDescriptor engine = new TestDescriptorStub(engineId, "engine");
+		TestDescriptor test = addChild(engine, new TestDescriptorStub(engineId.append("t", "1"), "test"));
+		TestPlan testPlan = TestPlan.from(singletonList(engine));
+		TestIdentifier testIdentifier = testPlan.getTestIdentifier(test.getUniqueId().toString());
+		TestDescriptor dynamicTest = addChild(test, new TestDescriptorStub(test.getUniqueId().append("d", "1"), "d"));
+		TestIdentifier dynamicTestIdentifier = testPlan.add(dynamicTest);
+
+		assertSame(testIdentifier, testPlan.getTestIdentifier(test));
+		assertSame(dynamicTestIdentifier, testPlan.getTestIdentifier(dynamicTest));
+
+		testPlan.releaseTestDescriptors();
+
+		assertSame(testIdentifier, testPlan.getTestIdentifier(test));
+		assertSame(dynamicTestIdentifier, testPlan.getTestIdentifier(dynamicTest));
+		TestDescriptor unknown = new TestDescriptorStub(engineId.append("t", "2"), "unknown");
+		assertThrows(PreconditionViolationException.class, () -> testPlan.getTestIdentifier(unknown));
+	}
+
+	@Test
+	void distinguishesUniqueIdsWithEqualHashCodes() {
+		UniqueId firstId = engineId.append("t", "Aa");
+		UniqueId secondId = engineId.append("t", "BB");
+		assertEquals(firstId.toString().hashCode(), secondId.toString().hashCode());
+		TestPlan testPlan = TestPlan.from(singletonList(new TestDescriptorStub(engineId, "engine")));
+		TestIdentifier first = identifier(firstId, engineId);
+		TestIdentifier second = identifier(secondId, engineId);
+
+		testPlan.add(first);
+		testPlan.add(second);
+
+		assertSame(first, testPlan.getTestIdentifier(firstId.toString()));
+		assertSame(second, testPlan.getTestIdentifier(secondId.toString()));
+		assertThat(testPlan.getChildren(engineId.toString())).containsExactly(first, second);
+		assertThrows(PreconditionViolationException.class,
+			() -> testPlan.getTestIdentifier(engineId.append("t", "C#").toString()));
+	}
+
+	@Test
+	void equalTagsAndSourcesAreShared() {
+		TestDescriptor engine = new TestDescriptorStub(engineId, "engine");
+		TestDescriptor first = addChild(engine, new TaggedTestDescriptor(engineId.append("t", "1")));
+		TestDescriptor second = addChild(engine, new TaggedTestDescriptor(engineId.append("t", "2")));
+
+		TestPlan testPlan = TestPlan.from(singletonList(engine));
+
+		TestIdentifier firstIdentifier = testPlan.getTestIdentifier(first.getUniqueId().toString());
+		TestIdentifier secondIdentifier = testPlan.getTestIdentifier(second.getUniqueId().toString());
+		assertEquals(singleton(TestTag.create("tag")), firstIdentifier.getTags());
+		assertSame(firstIdentifier.getTags(), secondIdentifier.getTags());
+		assertSame(firstIdentifier.getSource().get(), secondIdentifier.getSource().get());
+		assertSame(firstIdentifier.getDisplayName(), firstIdentifier.getLegacyReportingName());
+		assertThrows(UnsupportedOperationException.class, () -> firstIdentifier.getTags().clear());
+	}
+
+	@Test
+	void traversesDeepTreesIterativelyInPreOrder() {
+		TestDescriptor engine = new TestDescriptorStub(engineId, "engine");
+		TestPlan testPlan = TestPlan.from(singletonList(engine));
+		// flat unique IDs keep the memory footprint of the deep tree linear
+		String current = engineId.toString();
+		for (int i = 0; i < 10_000; i++) {
+			String child = "c" + i;
+			testPlan.add(new TestIdentifier(child, child, Optional.empty(), new LinkedHashSet<>(), false, true,
+				Optional.of(current), child));
+			testPlan.add(new TestIdentifier("t" + i, "t" + i, Optional.empty(), new LinkedHashSet<>(), true, false,
+				Optional.of(child), "t" + i));
+			current = child;
+		}
+		TestIdentifier engineIdentifier = testPlan.getTestIdentifier(engine.getUniqueId().toString());
+
+		assertThat(testPlan.streamDescendants(engineIdentifier).limit(4)).extracting(
+			TestIdentifier::getDisplayName).containsExactly("c0", "t0", "c1", "t1");
+		assertEquals(20_000, testPlan.streamDescendants(engineIdentifier).count());
+		assertEquals(10_000, testPlan.countTestsInSubtree(testPlan.getTestIdentifier("c0")));
+
+		List<String> visited = new ArrayList<>();
+		testPlan.accept(testIdentifier -> visited.add(testIdentifier.getDisplayName()));
+		assertEquals(20_001, visited.size());
+		assertThat(visited).startsWith("engine", "c0", "t0").endsWith("c9999", "t9999");
+	}
+
+	@Test
+	void maintainsSubtreeCounts() {
+		TestDescriptor engine = new TestDescriptorStub(engineId, "engine");
+		TestDescriptor container = addChild(engine, new TestDescriptorStub(engineId.append("c", "1"), "container"));
+		addChild(container, new TestDescriptorStub(container.getUniqueId().append("t", "1"), "test"));
+		addChild(engine, new TestDescriptorStub(engineId.append("t", "2"), "test"));
+		TestPlan testPlan = TestPlan.from(singletonList(engine));
+		TestIdentifier engineIdentifier = testPlan.getTestIdentifier(engine.getUniqueId().toString());
+		TestIdentifier containerIdentifier = testPlan.getTestIdentifier(container.getUniqueId().toString());
+
+		assertEquals(2, testPlan.countTestsInSubtree(engineIdentifier));
+		assertEquals(2, testPlan.countContainersInSubtree(engineIdentifier));
+		assertEquals(1, testPlan.countTestsInSubtree(containerIdentifier));
+		assertEquals(1, testPlan.countContainersInSubtree(containerIdentifier));
+
+		// a dynamic container whose test is registered before the container
+		UniqueId dynamicContainerId = container.getUniqueId().append("d", "1");
+		testPlan.add(identifier(dynamicContainerId.append("t", "1"), dynamicContainerId));
+		assertEquals(2, testPlan.countTestsInSubtree(engineIdentifier));
+		testPlan.add(new TestIdentifier(dynamicContainerId.toString(), "dynamic", Optional.empty(),
+			new LinkedHashSet<>(), false, true, Optional.of(container.getUniqueId().toString()), "dynamic"));
+
+		assertEquals(3, testPlan.countTestsInSubtree(engineIdentifier));
+		assertEquals(3, testPlan.countContainersInSubtree(engineIdentifier));
+		assertEquals(2, testPlan.countTestsInSubtree(containerIdentifier));
+		assertEquals(2, testPlan.countContainersInSubtree(containerIdentifier));
+	}
+
+	private static TestDescriptor addChild(TestDescriptor parent, TestDescriptor child) {
+		parent.addChild(child);
+		return child;
+	}
+
+	private static TestIdentifier identifier(UniqueId uniqueId, UniqueId parentId) {
+		return new TestIdentifier(uniqueId.toString(), "name", Optional.empty(), new LinkedHashSet<>(), true, false,
+			Optional.of(parentId.toString()), "name");
+	}
+
+	private static class TaggedTestDescriptor extends TestDescriptorStub {
+
+		TaggedTestDescriptor(UniqueId uniqueId) {
+			super(uniqueId, new String("test"));
+		}
+
+		@Override
+		public Set<TestTag> getTags() {
+			return new LinkedHashSet<>(singleton(TestTag.create("tag")));
+		}
+
+		@Override
+		public Optional<TestSource> getSource() {
+			return Optional.of(new ClassSource(TaggedTestDescriptor.class));
+		}
+
+	}
+
+}
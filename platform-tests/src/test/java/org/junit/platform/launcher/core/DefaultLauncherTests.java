@@ -14,6 +14,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
@@ -21,16 +23,26 @@ import static org.junit.platform.launcher.EngineFilter.includeEngines;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalContainerDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.engine.test.TestEngineSpy;
@@ -340,4 +352,152 @@ class DefaultLauncherTests {
 		}
 	}
 
+	@Test
+	void discoveredTestPlanCanBeExecutedOnce() {
+		List<String> executed = new ArrayList<>();
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("myEngine");
+		engine.addTest("test1", () -> executed.add("test1"));
+		engine.addTest("test2", () -> executed.add("test2"));
+		DefaultLauncher launcher = createLauncher(engine);
+		ExecutedTestPlanRecorder recorder = new ExecutedTestPlanRecorder();
+		launcher.registerTestExecutionListeners(recorder);
+
+		TestPlan testPlan = launcher.discover(request().selectors(selectPackage("any")).build());
+		launcher.execute(testPlan);
+
+		assertThat(executed).containsExactly("test1", "test2");
+		assertThat(recorder.testPlans).containsExactly(testPlan);
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> launcher.execute(testPlan));
+		assertThat(exception).hasMessageContaining("must not have been executed yet");
+		assertThrows(PreconditionViolationException.class,
+			() -> launcher.execute(testPlan, Collections.singleton("[engine:myEngine]")));
+		assertThat(executed).hasSize(2);
+	}
+
+	@Test
+	void dynamicTestsAreAddedToExecutedTestPlan() {
+		DefaultLauncher launcher = createLauncher(new JupiterTestEngine());
+		List<TestIdentifier> dynamicTests = new ArrayList<>();
+		launcher.registerTestExecutionListeners(new TestExecutionListener() {
+
+			@Override
+			public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+				dynamicTests.add(testIdentifier);
+			}
+		});
+
+		TestPlan testPlan = launcher.discover(
+			request().selectors(selectMethod(TestCaseWithTestFactory.class, "dynamicTests")).build());
+		long staticTestCount = testPlan.countTestIdentifiers(TestIdentifier::isTest);
+
+		launcher.execute(testPlan);
+
+		assertEquals(2, dynamicTests.size());
+		assertEquals(staticTestCount + 2, testPlan.countTestIdentifiers(TestIdentifier::isTest));
+		TestIdentifier factory = testPlan.getTestIdentifier(dynamicTests.get(0).getParentId().get());
+		assertThat(testPlan.getChildren(factory)).containsExactlyElementsOf(dynamicTests);
+		assertEquals(2, testPlan.countTestsInSubtree(factory));
+	}
+
+	@Test
+	void subsetOfDiscoveredTestPlanCanBeExecuted() {
+		List<String> executed = new ArrayList<>();
+		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
+		DemoHierarchicalContainerDescriptor container = firstEngine.addContainer("container", noOp);
+		DemoHierarchicalTestDescriptor test1 = new DemoHierarchicalTestDescriptor(
+			container.getUniqueId().append("test", "test1"), "test1", null, () -> executed.add("test1"));
+		container.addChild(test1);
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test2"),
+			"test2", null, () -> executed.add("test2")));
+		firstEngine.addTest("test3", () -> executed.add("test3"));
+		DemoHierarchicalTestEngine secondEngine = new DemoHierarchicalTestEngine("second");
+		secondEngine.addTest("test4", () -> executed.add("test4"));
+		DefaultLauncher launcher = createLauncher(firstEngine, secondEngine);
+		ExecutedTestPlanRecorder recorder = new ExecutedTestPlanRecorder();
+		launcher.registerTestExecutionListeners(recorder);
+
+		TestPlan testPlan = launcher.discover(request().selectors(selectPackage("any")).build());
+		launcher.execute(testPlan, Collections.singleton(test1.getUniqueId().toString()));
+
+		assertThat(executed).containsExactly("test1");
+		TestPlan executedTestPlan = recorder.testPlans.get(0);
+		assertThat(executedTestPlan.getRoots()).extracting(TestIdentifier::getUniqueId).containsExactly(
+			"[engine:first]");
+		assertEquals(3, executedTestPlan.countTestIdentifiers(identifier -> true));
+	}
+
+	@Test
+	void subsetSpanningSeveralEnginesCanBeExecuted() {
+		List<String> executed = new ArrayList<>();
+		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
+		DemoHierarchicalContainerDescriptor container = firstEngine.addContainer("container", noOp);
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test1"),
+			"test1", null, () -> executed.add("test1")));
+		firstEngine.addTest("test2", () -> executed.add("test2"));
+		DemoHierarchicalTestEngine secondEngine = new DemoHierarchicalTestEngine("second");
+		secondEngine.addTest("test3", () -> executed.add("test3"));
+		DefaultLauncher launcher = createLauncher(firstEngine, secondEngine);
+
+		TestPlan testPlan = launcher.discover(request().selectors(selectPackage("any")).build());
+		launcher.execute(testPlan, Arrays.asList(container.getUniqueId().toString(), "[engine:second]"));
+
+		assertThat(executed).containsExactly("test1", "test3");
+	}
+
+	@Test
+	void executingSubsetWithUnknownUniqueIdFails() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("myEngine");
+		engine.addTest("test1", noOp);
+		DefaultLauncher launcher = createLauncher(engine);
+		TestPlan testPlan = launcher.discover(request().selectors(selectPackage("any")).build());
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> launcher.execute(testPlan, Collections.singleton("[engine:myEngine]/[test:unknown]")));
+
+		assertThat(exception).hasMessageContaining("[engine:myEngine]/[test:unknown]");
+		assertEquals(1, engine.getEngineDescriptor().getChildren().size());
+	}
+
+	@Test
+	void executingTestPlanDiscoveredByAnotherLauncherFails() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("myEngine");
+		engine.addTest("test1", noOp);
+		TestPlan testPlan = createLauncher(engine).discover(request().selectors(selectPackage("any")).build());
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> createLauncher(engine).execute(testPlan));
+
+		assertThat(exception).hasMessageContaining("must have been discovered by this Launcher");
+	}
+
+	private static class TestCaseWithTestFactory {
+
+		@TestFactory
+		Stream<DynamicTest> dynamicTests() {
+			return Stream.of(dynamicTest("first", () -> {
+			}), dynamicTest("second", () -> {
+			}));
+		}
+
+	}
+
+	private static class ExecutedTestPlanRecorder implements TestExecutionListener {
+
+		final List<TestPlan> testPlans = new ArrayList<>();
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			this.testPlans.add(testPlan);
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			assertEquals(TestExecutionResult.Status.SUCCESSFUL, testExecutionResult.getStatus(),
+				testIdentifier::getUniqueId);
+		}
+
+	}
+
 }
@@ -18,6 +18,7 @@ import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
@@ -51,6 +52,41 @@ class ExecutionListenerAdapterTests {
 		assertThat(testExecutionListener.testIdentifier).isEqualTo(testIdentifier);
 	}
 
+	@Test
+	void testIdentifiersAreFoundAfterTestDescriptorsHaveBeenReleased() {
+		TestDescriptor testDescriptor = getSampleMethodTestDescriptor();
+		TestPlan testPlan = TestPlan.from(Collections.singleton(testDescriptor));
+		TestIdentifier testIdentifier = testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString());
+		MockTestExecutionListener testExecutionListener = new MockTestExecutionListener();
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			testExecutionListener);
+
+		executionListenerAdapter.executionFinished(testDescriptor, TestExecutionResult.successful());
+		assertThat(testExecutionListener.testIdentifier).isSameAs(testIdentifier);
+
+		testExecutionListener.testIdentifier = null;
+		testPlan.releaseTestDescriptors();
+		executionListenerAdapter.executionFinished(testDescriptor, TestExecutionResult.successful());
+		assertThat(testExecutionListener.testIdentifier).isSameAs(testIdentifier);
+	}
+
+	@Test
+	void testDynamicTestRegistered() {
+		TestDescriptor testDescriptor = getSampleMethodTestDescriptor();
+		TestPlan testPlan = TestPlan.from(Collections.emptySet());
+		MockTestExecutionListener testExecutionListener = new MockTestExecutionListener();
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			testExecutionListener);
+
+		executionListenerAdapter.dynamicTestRegistered(testDescriptor);
+		TestIdentifier testIdentifier = testExecutionListener.testIdentifier;
+		executionListenerAdapter.reportingEntryPublished(testDescriptor, ReportEntry.from("one", "two"));
+
+		assertThat(testIdentifier.getUniqueId()).isEqualTo(testDescriptor.getUniqueId().toString());
+		assertThat(testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString())).isSameAs(testIdentifier);
+		assertThat(testExecutionListener.testIdentifier).isSameAs(testIdentifier);
+	}
+
 	private TestDescriptor getSampleMethodTestDescriptor() {
 		Method localMethodNamedNothing = ReflectionUtils.findMethod(this.getClass(), "nothing", new Class<?>[0]).get();
 		return new DemoMethodTestDescriptor(UniqueId.root("method", "unique_id"), this.getClass(),
@@ -66,6 +102,16 @@ class ExecutionListenerAdapterTests {
 		public TestIdentifier testIdentifier;
 		public ReportEntry entry;
 
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			this.testIdentifier = testIdentifier;
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			this.testIdentifier = testIdentifier;
+		}
+
 		@Override
 		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
 			this.testIdentifier = testIdentifier;
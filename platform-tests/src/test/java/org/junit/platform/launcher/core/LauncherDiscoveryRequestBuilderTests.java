@@ -216,6 +216,13 @@ class LauncherDiscoveryRequestBuilderTests {
 			assertThat(filterStrings).contains("postFilter1", "postFilter2");
 		}
 
+		@Test
+		public void shardFilterIsStoredInDiscoveryRequest() throws Exception {
+			LauncherDiscoveryRequest discoveryRequest = request().shard(1, 4).build();
+
+			assertThat(discoveryRequest.getPostDiscoveryFilters()).hasSize(1);
+		}
+
 		@Test
 		public void exceptionForIllegalFilterClass() throws Exception {
 			Exception exception = assertThrows(PreconditionViolationException.class,
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.AsyncTestExecutionListener;
+import org.junit.platform.launcher.listeners.AsyncTestExecutionListener.BackPressure;
+
+/**
+ * @since 1.0
+ */
+class AsyncTestExecutionListenerTests {
+
+	TestPlan testPlan = TestPlan.from(Collections.emptyList());
+
+	@Test
+	void deliversAllEventsInOrderOnDedicatedThread() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+		for (int i = 0; i < 50; i++) {
+			engine.addTest("test" + i, () -> {
+			});
+		}
+		RecordingListener expected = new RecordingListener();
+		RecordingListener delegate = new RecordingListener();
+
+		Launcher launcher = createLauncher(engine);
+		launcher.registerTestExecutionListeners(expected,
+			new AsyncTestExecutionListener(delegate, 8, 3, BackPressure.BLOCK));
+		launcher.execute(request().selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))).build());
+
+		assertThat(delegate.events).hasSize(104).isEqualTo(expected.events);
+		assertThat(delegate.threads).containsExactly("junit-platform-async-listener");
+	}
+
+	@Test
+	void drainsQueuedEventsBeforeTestPlanExecutionFinishedReturns() {
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				sleep(1);
+				super.executionStarted(testIdentifier);
+			}
+		};
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(delegate, 2, 1, BackPressure.BLOCK);
+
+		listener.testPlanExecutionStarted(testPlan);
+		for (int i = 0; i < 20; i++) {
+			listener.executionStarted(createTestIdentifier("test" + i));
+		}
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(delegate.events).hasSize(22).endsWith("planFinished");
+		assertEquals(0, listener.getDiscardedEventCount());
+	}
+
+	@Test
+	void discardsEventsWhileBufferIsFull() throws Exception {
+		CountDownLatch delegateBlocked = new CountDownLatch(1);
+		CountDownLatch releaseDelegate = new CountDownLatch(1);
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void testPlanExecutionStarted(TestPlan testPlan) {
+				delegateBlocked.countDown();
+				await(releaseDelegate);
+				super.testPlanExecutionStarted(testPlan);
+			}
+		};
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(delegate, 2, 1, BackPressure.DISCARD);
+
+		listener.testPlanExecutionStarted(testPlan);
+		await(delegateBlocked);
+		for (int i = 0; i < 5; i++) {
+			listener.executionStarted(createTestIdentifier("test" + i));
+		}
+		releaseDelegate.countDown();
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertEquals(3, listener.getDiscardedEventCount());
+		assertThat(delegate.events).containsExactly("planStarted", "started: [test:test0]", "started: [test:test1]",
+			"planFinished");
+	}
+
+	@Test
+	void rethrowsFirstDelegateFailureAfterAllEventsHaveBeenDelivered() {
+		IllegalStateException failure = new IllegalStateException("first");
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				super.executionStarted(testIdentifier);
+				throw events.size() == 2 ? failure : new IllegalStateException("second");
+			}
+		};
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(delegate);
+		TestIdentifier test = createTestIdentifier("test");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		listener.executionStarted(test);
+		listener.executionFinished(test, TestExecutionResult.successful());
+
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> listener.testPlanExecutionFinished(testPlan));
+		assertSame(failure, exception);
+		assertThat(exception.getSuppressed()).extracting(Throwable::getMessage).containsExactly("second");
+		assertThat(delegate.events).hasSize(5).endsWith("planFinished");
+	}
+
+	private static TestIdentifier createTestIdentifier(String uniqueId) {
+		return TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", uniqueId), uniqueId));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = Collections.synchronizedList(new ArrayList<>());
+		final Set<String> threads = new CopyOnWriteArraySet<>();
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			record("planStarted");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			record("planFinished");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			record("started: " + testIdentifier.getUniqueId());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			record("finished: " + testIdentifier.getUniqueId() + " " + testExecutionResult.getStatus());
+		}
+
+		private void record(String event) {
+			this.events.add(event);
+			this.threads.add(Thread.currentThread().getName());
+		}
+
+	}
+
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalContainerDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.EventLogReader;
+import org.junit.platform.launcher.listeners.EventLogWritingListener;
+
+/**
+ * @since 1.0
+ */
+@ExtendWith(TempDirectory.class)
+class EventLogTests {
+
+	@Test
+	void replaysRecordedExecution(@Root Path tempDirectory) throws Exception {
+		Path logFile = tempDirectory.resolve("events.log");
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+		DemoHierarchicalContainerDescriptor container = engine.addContainer("container", "Container",
+			new ClassSource(EventLogTests.class));
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "succeeding"),
+			"succeeding", null, () -> {
+			}));
+		engine.addTest("failing", () -> {
+			throw new AssertionError("expected to fail");
+		});
+		engine.addTest("aborted", () -> assumeFalse(true, "deliberately aborted"));
+		engine.addTest("skipped", () -> {
+		}).markSkipped("should be skipped");
+
+		RecordingListener recorded = new RecordingListener();
+		Launcher launcher = createLauncher(engine);
+		launcher.registerTestExecutionListeners(new EventLogWritingListener(logFile), recorded);
+		Instant before = Instant.now();
+		launcher.execute(request().selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))).build());
+		Instant after = Instant.now();
+
+		EventLogReader reader = new EventLogReader(logFile);
+		RecordingListener replayed = new RecordingListener(reader.getClock());
+		reader.replay(replayed);
+
+		assertThat(replayed.events).isNotEmpty().isEqualTo(recorded.events);
+		assertThat(replayed.times.get(0)).isBetween(before.minusMillis(1), after);
+		assertThat(replayed.times).isSorted();
+
+		TestIdentifier replayedContainer = replayed.testPlan.getTestIdentifier(container.getUniqueId().toString());
+		assertEquals("Container", replayedContainer.getDisplayName());
+		assertEquals(ClassSource.class, replayedContainer.getSource().get().getClass());
+		assertEquals(EventLogTests.class.getName(),
+			((ClassSource) replayedContainer.getSource().get()).getClassName());
+		assertThat(replayed.testPlan.getChildren(replayedContainer)).hasSize(1);
+	}
+
+	@Test
+	void replaysDynamicTestsAndReportingEntries(@Root Path tempDirectory) throws Exception {
+		Path logFile = tempDirectory.resolve("events.log");
+		TestDescriptorStub rootDescriptor = new TestDescriptorStub(UniqueId.root("root", "1"), "root") {
+
+			@Override
+			public boolean isContainer() {
+				return true;
+			}
+
+			@Override
+			public boolean isTest() {
+				return false;
+			}
+		};
+		TestDescriptorStub dynamicDescriptor = new TestDescriptorStub(
+			rootDescriptor.getUniqueId().append("dynamic", "1"), "dynamic");
+		rootDescriptor.addChild(dynamicDescriptor);
+		TestIdentifier root = TestIdentifier.from(rootDescriptor);
+		TestIdentifier dynamicTest = TestIdentifier.from(dynamicDescriptor);
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
+		testPlan.add(root);
+
+		EventLogWritingListener writer = new EventLogWritingListener(logFile);
+		writer.testPlanExecutionStarted(testPlan);
+		writer.executionStarted(root);
+		writer.dynamicTestRegistered(dynamicTest);
+		writer.executionStarted(dynamicTest);
+		writer.reportingEntryPublished(dynamicTest, ReportEntry.from("key", "value"));
+		writer.executionFinished(dynamicTest, TestExecutionResult.failed(new IllegalStateException("boom")));
+		writer.executionFinished(root, TestExecutionResult.successful());
+		writer.testPlanExecutionFinished(testPlan);
+
+		RecordingListener replayed = new RecordingListener();
+		new EventLogReader(logFile).replay(replayed);
+
+		assertThat(replayed.events).containsExactly( //
+			"planStarted: 1", //
+			"started: [root:1]", //
+			"dynamic: [root:1]/[dynamic:1]", //
+			"started: [root:1]/[dynamic:1]", //
+			"entry: [root:1]/[dynamic:1] {key=value}", //
+			"finished: [root:1]/[dynamic:1] FAILED java.lang.IllegalStateException: boom", //
+			"finished: [root:1] SUCCESSFUL", //
+			"planFinished");
+		TestIdentifier replayedDynamicTest = replayed.testPlan.getTestIdentifier(dynamicTest.getUniqueId());
+		assertEquals(root.getUniqueId(), replayed.testPlan.getParent(replayedDynamicTest).get().getUniqueId());
+	}
+
+	@Test
+	void stopsAtTruncatedRecord(@Root Path tempDirectory) throws Exception {
+		Path logFile = tempDirectory.resolve("events.log");
+		TestIdentifier test = TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", "1"), "test"));
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
+		testPlan.add(test);
+
+		EventLogWritingListener writer = new EventLogWritingListener(logFile);
+		writer.testPlanExecutionStarted(testPlan);
+		writer.executionStarted(test);
+		writer.executionFinished(test, TestExecutionResult.successful());
+		writer.testPlanExecutionFinished(testPlan);
+
+		byte[] bytes = Files.readAllBytes(logFile);
+		Files.write(logFile, Arrays.copyOf(bytes, bytes.length - 3));
+
+		RecordingListener replayed = new RecordingListener();
+		new EventLogReader(logFile).replay(replayed);
+
+		assertThat(replayed.events).containsExactly("planStarted: 1", "started: [test:1]",
+			"finished: [test:1] SUCCESSFUL");
+	}
+
+	@Test
+	void flushesRecordsWhenContainerHasFinished(@Root Path tempDirectory) throws Exception {
+		Path logFile = tempDirectory.resolve("events.log");
+		TestDescriptorStub containerDescriptor = new TestDescriptorStub(UniqueId.root("container", "1"), "container") {
+
+			@Override
+			public boolean isContainer() {
+				return true;
+			}
+
+			@Override
+			public boolean isTest() {
+				return false;
+			}
+		};
+		TestIdentifier container = TestIdentifier.from(containerDescriptor);
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
+		testPlan.add(container);
+
+		EventLogWritingListener writer = new EventLogWritingListener(logFile);
+		writer.testPlanExecutionStarted(testPlan);
+		writer.executionStarted(container);
+		writer.executionFinished(container, TestExecutionResult.successful());
+
+		RecordingListener replayed = new RecordingListener();
+		new EventLogReader(logFile).replay(replayed);
+
+		assertThat(replayed.events).containsExactly("planStarted: 1", "started: [container:1]",
+			"finished: [container:1] SUCCESSFUL");
+
+		writer.testPlanExecutionFinished(testPlan);
+	}
+
+	@Test
+	void ignoresEventsIfLogFileCannotBeWritten(@Root Path tempDirectory) throws Exception {
+		TestIdentifier test = TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", "1"), "test"));
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
+		testPlan.add(test);
+
+		EventLogWritingListener writer = new EventLogWritingListener(tempDirectory);
+		writer.testPlanExecutionStarted(testPlan);
+		writer.executionStarted(test);
+		writer.executionFinished(test, TestExecutionResult.successful());
+		writer.testPlanExecutionFinished(testPlan);
+
+		assertThat(Files.isDirectory(tempDirectory)).isTrue();
+	}
+
+	@Test
+	void skipsEventsForUnknownTestIdentifiers(@Root Path tempDirectory) throws Exception {
+		Path logFile = tempDirectory.resolve("events.log");
+		TestIdentifier test = TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", "1"), "test"));
+		TestIdentifier unknown = TestIdentifier.from(new TestDescriptorStub(UniqueId.root("test", "2"), "unknown"));
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
+		testPlan.add(test);
+
+		EventLogWritingListener writer = new EventLogWritingListener(logFile);
+		writer.testPlanExecutionStarted(testPlan);
+		writer.executionStarted(unknown);
+		writer.executionStarted(test);
+		writer.reportingEntryPublished(unknown, ReportEntry.from("key", "value"));
+		writer.executionFinished(test, TestExecutionResult.successful());
+		writer.executionSkipped(unknown, "unknown");
+		writer.executionFinished(unknown, TestExecutionResult.successful());
+		writer.testPlanExecutionFinished(testPlan);
+
+		RecordingListener replayed = new RecordingListener();
+		new EventLogReader(logFile).replay(replayed);
+
+		assertThat(replayed.events).containsExactly("planStarted: 1", "started: [test:1]",
+			"finished: [test:1] SUCCESSFUL", "planFinished");
+	}
+
+	@Test
+	void rejectsFilesThatAreNotEventLogs(@Root Path tempDirectory) throws Exception {
+		Path logFile = tempDirectory.resolve("events.log");
+		Files.write(logFile, "not an event log".getBytes("UTF-8"));
+
+		JUnitException exception = assertThrows(JUnitException.class,
+			() -> new EventLogReader(logFile).replay(new RecordingListener()));
+		assertThat(exception).hasMessageStartingWith("Not an event log");
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		private final Clock clock;
+		final List<String> events = new ArrayList<>();
+		final List<Instant> times = new ArrayList<>();
+		TestPlan testPlan;
+
+		RecordingListener() {
+			this(Clock.systemDefaultZone());
+		}
+
+		RecordingListener(Clock clock) {
+			this.clock = clock;
+		}
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			this.testPlan = testPlan;
+			record("planStarted: " + testPlan.countTestIdentifiers(identifier -> true));
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			record("planFinished");
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			record("dynamic: " + testIdentifier.getUniqueId());
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			record("skipped: " + testIdentifier.getUniqueId() + " " + reason);
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			record("started: " + testIdentifier.getUniqueId());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			record("finished: " + testIdentifier.getUniqueId() + " " + testExecutionResult.getStatus()
+					+ testExecutionResult.getThrowable().map(throwable -> " " + throwable).orElse(""));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			record("entry: " + testIdentifier.getUniqueId() + " " + entry.getKeyValuePairs());
+		}
+
+		private void record(String event) {
+			this.events.add(event);
+			this.times.add(this.clock.instant());
+		}
+
+	}
+
+}